@@ -0,0 +1,92 @@
+// Throughput and p99 of hr-management-service and payroll-service with and without
+// virtual threads, under an open workload that keeps arriving whether or not the
+// services keep up.
+//
+//   k6 run -e RATE=800 --summary-export=platform.json benchmarks/load/virtual_threads.js
+//   (restart both services with SPRING_THREADS_VIRTUAL_ENABLED=true on Java 21)
+//   k6 run -e RATE=800 --summary-export=virtual.json benchmarks/load/virtual_threads.js
+//
+// Compare http_reqs (rate), http_req_duration p(99) per endpoint and http_req_failed;
+// with the connection limiter on, shed requests show up as status 503.
+// Employee IDs are drawn from 1..EMPLOYEES, so load an organisation of about that size
+// first, for instance by importing benchmarks/sql/employee_import_file.sql into an empty
+// database. Run both modes against the same data.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const HR = __ENV.HR_URL || 'http://localhost:8081';
+const PAYROLL = __ENV.PAYROLL_URL || 'http://localhost:8082';
+const RATE = Number(__ENV.RATE || 500);
+const DURATION = __ENV.DURATION || '3m';
+const EMPLOYEES = Number(__ENV.EMPLOYEES || 10000);
+
+function scenario(exec, share) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec,
+        rate: Math.max(1, Math.round(RATE * share)),
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: 200,
+        maxVUs: 5000,
+    };
+}
+
+export const options = {
+    discardResponseBodies: true,
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        // Database reads, served from the cache after the first request
+        employee: scenario('employee', 0.4),
+        // Closure-table queries that always reach the database
+        subordinates: scenario('subordinates', 0.3),
+        // Payroll reads, and payroll creation looking up the employee in the replica or HR
+        payrolls: scenario('payrolls', 0.2),
+        createPayroll: scenario('createPayroll', 0.1),
+    },
+    // No real limits: thresholds on tagged metrics make the summary report each endpoint
+    thresholds: {
+        'http_req_duration{endpoint:employee}': ['p(99)>=0'],
+        'http_req_duration{endpoint:subordinates}': ['p(99)>=0'],
+        'http_req_duration{endpoint:payrolls}': ['p(99)>=0'],
+        'http_req_duration{endpoint:createPayroll}': ['p(99)>=0'],
+    },
+};
+
+function employeeId() {
+    return 1 + Math.floor(Math.random() * EMPLOYEES);
+}
+
+function ok(response) {
+    check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function employee() {
+    ok(http.get(`${HR}/api/v1/employees/${employeeId()}`, { tags: { endpoint: 'employee' } }));
+}
+
+export function subordinates() {
+    // Managers of the sample data: every manager has eight direct reports
+    const manager = 1 + Math.floor(Math.random() * (EMPLOYEES / 8));
+    ok(http.get(`${HR}/api/v1/employees/${manager}/subordinates?page=0&size=20`,
+        { tags: { endpoint: 'subordinates' } }));
+}
+
+export function payrolls() {
+    ok(http.get(`${PAYROLL}/api/v1/payroll/employee/${employeeId()}`, { tags: { endpoint: 'payrolls' } }));
+}
+
+export function createPayroll() {
+    const body = JSON.stringify({
+        employeeId: employeeId(),
+        payPeriodStart: '2024-01-01',
+        payPeriodEnd: '2024-01-31',
+        allowances: 500,
+        tax: 1200,
+    });
+    ok(http.post(`${PAYROLL}/api/v1/payroll`, body, {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { endpoint: 'createPayroll' },
+    }));
+}
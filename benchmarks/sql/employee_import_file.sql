@@ -0,0 +1,32 @@
+-- A 100k-row employee import file, for timing POST /api/v1/employees/import end to end.
+--
+--   psql -d hr_db -q -f benchmarks/sql/employee_import_file.sql > employees-100k.csv
+--   curl -s --data-binary @employees-100k.csv -H 'Content-Type: text/csv' \
+--        'http://localhost:8081/api/v1/employees/import?format=CSV'
+--   curl -s http://localhost:8081/api/v1/employees/import/<jobId>
+--
+-- Reads no tables. Employee IDs start with IMP so they do not collide with existing
+-- employees; importing the file a second time measures the duplicate path, every
+-- row failing. Every manager has eight direct reports and comes before them.
+
+COPY (
+    SELECT 'IMP' || lpad(n::text, 6, '0') AS "employeeId",
+           'First' || n AS "firstName",
+           'Last' || n AS "lastName",
+           'imported' || n || '@company.com' AS email,
+           '+1-555-' || lpad(n::text, 7, '0') AS "phoneNumber",
+           DATE '1980-01-01' + n % 10000 AS "dateOfBirth",
+           DATE '2015-01-01' + n % 3000 AS "hireDate",
+           'ACTIVE' AS status,
+           'FULL_TIME' AS "employmentType",
+           'Software Engineer' AS "jobTitle",
+           (50000 + (n * 37) % 100000)::numeric(12, 2) AS salary,
+           CASE WHEN n > 1 THEN 'IMP' || lpad(((n - 2) / 8 + 1)::text, 6, '0') END AS "managerEmployeeId",
+           n || ' Main Street' AS street,
+           'Springfield' AS city,
+           'IL' AS state,
+           'USA' AS country,
+           '62701' AS "postalCode"
+    FROM generate_series(1, 100000) AS n
+    ORDER BY n
+) TO STDOUT WITH (FORMAT csv, HEADER);
@@ -0,0 +1,59 @@
+-- Employee search latency at 500k employees, before and after the V3 search indexes.
+--
+--   createdb hr_search_bench
+--   psql -d hr_search_bench -f benchmarks/sql/employee_search.sql
+--
+-- Works in its own schema and drops it at the end; do not point it at a live database.
+-- Each query runs three times per phase; compare the "Execution Time" of the last run.
+
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS search_bench CASCADE;
+CREATE SCHEMA search_bench;
+SET search_path = search_bench, public;
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+-- Only the columns search reads or returns in bulk
+CREATE TABLE employees (
+    id BIGSERIAL PRIMARY KEY,
+    employee_id VARCHAR(20) NOT NULL UNIQUE,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(150) NOT NULL UNIQUE,
+    job_title VARCHAR(100)
+);
+
+-- 500k employees from 200 first names x 500 last name stems, deterministic
+INSERT INTO employees (employee_id, first_name, last_name, email, job_title)
+SELECT 'EMP' || lpad(n::text, 6, '0'),
+       initcap(f.name),
+       initcap(l.stem || (n % 7)::text),
+       lower(f.name || '.' || l.stem || n) || '@company.com',
+       'Engineer'
+FROM generate_series(1, 500000) AS n
+CROSS JOIN LATERAL (SELECT (ARRAY['james','mary','robert','patricia','john','jennifer','michael','linda',
+        'david','elizabeth','william','barbara','richard','susan','joseph','jessica','thomas','sarah',
+        'charles','karen'])[1 + n % 20] || CASE WHEN n % 10 = 0 THEN '' ELSE chr(97 + n % 10) END AS name) f
+CROSS JOIN LATERAL (SELECT md5((n % 500)::text)::varchar(8) AS stem) l;
+
+ANALYZE employees;
+
+\echo '=== Without search indexes ==='
+\i benchmarks/sql/employee_search_queries.sql
+
+CREATE INDEX idx_employee_first_name_trgm ON employees USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_employee_last_name_trgm ON employees USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX idx_employee_email_trgm ON employees USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX idx_employee_employee_id_trgm ON employees USING gin (lower(employee_id) gin_trgm_ops);
+CREATE INDEX idx_employee_first_name_prefix ON employees (lower(first_name) text_pattern_ops);
+CREATE INDEX idx_employee_last_name_prefix ON employees (lower(last_name) text_pattern_ops);
+CREATE INDEX idx_employee_email_prefix ON employees (lower(email) text_pattern_ops);
+CREATE INDEX idx_employee_employee_id_prefix ON employees (lower(employee_id) text_pattern_ops);
+ANALYZE employees;
+
+\echo '=== With V3 search indexes ==='
+\i benchmarks/sql/employee_search_queries.sql
+
+RESET search_path;
+DROP SCHEMA search_bench CASCADE;
@@ -0,0 +1,52 @@
+-- Queries timed by employee_search.sql; the same SQL the service issues.
+
+PREPARE contains_search(text) AS
+SELECT e.* FROM employees e
+WHERE (lower(e.first_name) LIKE '%' || lower($1) || '%'
+    OR lower(e.last_name) LIKE '%' || lower($1) || '%'
+    OR lower(e.email) LIKE '%' || lower($1) || '%'
+    OR lower(e.employee_id) LIKE '%' || lower($1) || '%')
+ORDER BY CASE
+    WHEN lower(e.employee_id) = lower($1) OR lower(e.email) = lower($1) THEN 0
+    WHEN lower(e.first_name) LIKE lower($1) || '%' OR lower(e.last_name) LIKE lower($1) || '%' THEN 1
+    WHEN lower(e.email) LIKE lower($1) || '%' OR lower(e.employee_id) LIKE lower($1) || '%' THEN 2
+    ELSE 3 END,
+    greatest(similarity(lower(e.first_name), lower($1)), similarity(lower(e.last_name), lower($1))) DESC,
+    e.id
+LIMIT 20;
+
+PREPARE prefix_search(text) AS
+SELECT e.* FROM employees e
+WHERE (lower(e.first_name) LIKE lower($1) || '%'
+    OR lower(e.last_name) LIKE lower($1) || '%'
+    OR lower(e.email) LIKE lower($1) || '%'
+    OR lower(e.employee_id) LIKE lower($1) || '%')
+ORDER BY CASE
+    WHEN lower(e.employee_id) = lower($1) OR lower(e.email) = lower($1) THEN 0
+    WHEN lower(e.first_name) LIKE lower($1) || '%' OR lower(e.last_name) LIKE lower($1) || '%' THEN 1
+    ELSE 2 END,
+    lower(e.last_name), lower(e.first_name), e.id
+LIMIT 20;
+
+\echo '--- contains: rare keyword (EMP123456)'
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE contains_search('EMP123456');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE contains_search('EMP123456');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE contains_search('EMP123456');
+
+\echo '--- contains: selective keyword (c4ca42)'
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE contains_search('c4ca42');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE contains_search('c4ca42');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE contains_search('c4ca42');
+
+\echo '--- prefix: typeahead (jenn)'
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE prefix_search('jenn');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE prefix_search('jenn');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE prefix_search('jenn');
+
+\echo '--- prefix: one character (m)'
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE prefix_search('m');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE prefix_search('m');
+EXPLAIN (ANALYZE, BUFFERS, SUMMARY) EXECUTE prefix_search('m');
+
+DEALLOCATE contains_search;
+DEALLOCATE prefix_search;
@@ -0,0 +1,51 @@
+package com.company.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Runs JMH with the given arguments
+ * and, unless a result format is passed with {@code -rf}, writes the results
+ * as JSON to {@code jmh-results/<version>-<timestamp>.json}.
+ *
+ * The directory can be changed with {@code -Dbenchmarks.results-dir=...}.
+ */
+public final class BenchmarkRunner {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!isInformational(arguments) && !arguments.contains("-rf") && !arguments.contains("-rff")) {
+            Path resultsDir = Path.of(System.getProperty("benchmarks.results-dir", "jmh-results"));
+            Files.createDirectories(resultsDir);
+            Path resultFile = resultsDir.resolve(version() + "-" + LocalDateTime.now().format(TIMESTAMP) + ".json");
+            arguments.addAll(0, List.of("-rf", "json", "-rff", resultFile.toString()));
+            System.out.println("Writing results to " + resultFile.toAbsolutePath());
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+
+    private static boolean isInformational(List<String> arguments) {
+        return arguments.contains("-h") || arguments.contains("-l") || arguments.contains("-lp")
+                || arguments.contains("-lprof") || arguments.contains("-lrf");
+    }
+
+    /**
+     * Project version from the jar manifest, so results can be told apart across releases.
+     */
+    private static String version() {
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+}
@@ -0,0 +1,196 @@
+package com.company.benchmarks;
+
+import com.company.hr.dto.AddressDTO;
+import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.entity.Address;
+import com.company.hr.entity.Department;
+import com.company.hr.entity.Employee;
+import com.company.payroll.dto.PayrollDTO;
+import com.company.payroll.entity.Payroll;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ */
+public final class SampleData {
+
+    /**
+     * Organisation sizes used as benchmark parameters. Each manager has
+     * {@link #SPAN_OF_CONTROL} direct reports.
+     */
+    public enum OrgSize {
+        SMALL(50, 3),
+        MEDIUM(1_000, 12),
+        LARGE(20_000, 60);
+
+        private final int employees;
+        private final int departments;
+
+        OrgSize(int employees, int departments) {
+            this.employees = employees;
+            this.departments = departments;
+        }
+
+        public int employees() {
+            return employees;
+        }
+
+        public int departments() {
+            return departments;
+        }
+    }
+
+    public static final int SPAN_OF_CONTROL = 8;
+
+    private SampleData() {
+    }
+
+    /**
+     * Managed-entity view of an organisation: every employee has a department
+     * and, apart from the root, a manager. IDs run from 1 to the org size.
+     */
+    public static List<Employee> organization(OrgSize size) {
+        List<Department> departments = new ArrayList<>(size.departments());
+        for (int d = 1; d <= size.departments(); d++) {
+            departments.add(Department.builder()
+                    .id((long) d)
+                    .name("Department " + d)
+                    .code(String.format("D%03d", d))
+                    .description("Department number " + d)
+                    .createdAt(LocalDateTime.of(2020, 1, 1, 9, 0))
+                    .version(0L)
+                    .build());
+        }
+
+        List<Employee> employees = new ArrayList<>(size.employees());
+        for (int i = 1; i <= size.employees(); i++) {
+            long id = i;
+            // Subordinates stay empty: Lombok's hashCode would recurse through the manager
+            Employee manager = i > 1 ? employees.get((i - 2) / SPAN_OF_CONTROL) : null;
+            employees.add(Employee.builder()
+                    .id(id)
+                    .employeeId(String.format("EMP%06d", id))
+                    .firstName("First" + id)
+                    .lastName("Last" + id)
+                    .email("employee" + id + "@company.com")
+                    .phoneNumber("+1-555-" + String.format("%07d", id % 10_000_000))
+                    .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(id % 10_000))
+                    .hireDate(LocalDate.of(2015, 1, 1).plusDays(id % 3_000))
+                    .status(Employee.EmploymentStatus.ACTIVE)
+                    .employmentType(Employee.EmploymentType.FULL_TIME)
+                    .jobTitle("Software Engineer")
+                    .salary(BigDecimal.valueOf(50_000 + (id * 37) % 100_000, 0).setScale(2))
+                    .department(departments.get((int) (id % departments.size())))
+                    .manager(manager)
+                    .address(Address.builder()
+                            .street(id + " Main Street")
+                            .city("Springfield")
+                            .state("IL")
+                            .country("USA")
+                            .postalCode("62701")
+                            .build())
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+                    .updatedAt(LocalDateTime.of(2024, 6, 1, 17, 30, 15))
+                    .createdBy("import")
+                    .lastModifiedBy("admin")
+                    .version(1L)
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * One month's payroll entity per employee of an organisation.
+     */
+    public static List<Payroll> payrolls(OrgSize size) {
+        List<Payroll> payrolls = new ArrayList<>(size.employees());
+        for (int i = 1; i <= size.employees(); i++) {
+            PayrollDTO dto = payroll(i);
+            payrolls.add(Payroll.builder()
+                    .id(dto.getId())
+                    .employeeId(dto.getEmployeeId())
+                    .employeeName(dto.getEmployeeName())
+                    .payPeriodStart(dto.getPayPeriodStart())
+                    .payPeriodEnd(dto.getPayPeriodEnd())
+                    .basicSalary(dto.getBasicSalary())
+                    .allowances(dto.getAllowances())
+                    .bonuses(dto.getBonuses())
+                    .overtimePay(dto.getOvertimePay())
+                    .deductions(dto.getDeductions())
+                    .tax(dto.getTax())
+                    .grossSalary(dto.getGrossSalary())
+                    .netSalary(dto.getNetSalary())
+                    .status(dto.getStatus())
+                    .notes(dto.getNotes())
+                    .createdAt(dto.getCreatedAt())
+                    .updatedAt(dto.getUpdatedAt())
+                    .version(1L)
+                    .build());
+        }
+        return payrolls;
+    }
+
+    public static EmployeeDTO employee(long id) {
+        return EmployeeDTO.builder()
+                .id(id)
+                .employeeId(String.format("EMP%06d", id))
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .email("employee" + id + "@company.com")
+                .phoneNumber("+1-555-" + String.format("%07d", id % 10_000_000))
+                .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(id % 10_000))
+                .hireDate(LocalDate.of(2015, 1, 1).plusDays(id % 3_000))
+                .status(Employee.EmploymentStatus.ACTIVE)
+                .employmentType(Employee.EmploymentType.FULL_TIME)
+                .jobTitle("Software Engineer")
+                .salary(BigDecimal.valueOf(50_000 + (id * 37) % 100_000, 0).setScale(2))
+                .departmentId(1 + id % 5)
+                .departmentName("Engineering")
+                .managerId(id > 1 ? id / 10 + 1 : null)
+                .managerName(id > 1 ? "Manager " + (id / 10 + 1) : null)
+                .address(AddressDTO.builder()
+                        .street(id + " Main Street")
+                        .city("Springfield")
+                        .state("IL")
+                        .country("USA")
+                        .postalCode("62701")
+                        .build())
+                .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 17, 30, 15))
+                .build();
+    }
+
+    public static PayrollDTO payroll(long id) {
+        BigDecimal basic = BigDecimal.valueOf(50_000 + (id * 37) % 100_000, 0).setScale(2);
+        BigDecimal allowances = new BigDecimal("5000.00");
+        BigDecimal bonuses = new BigDecimal("2000.00");
+        BigDecimal overtime = new BigDecimal("1000.00");
+        BigDecimal deductions = new BigDecimal("1500.00");
+        BigDecimal tax = basic.multiply(new BigDecimal("0.20")).setScale(2);
+        BigDecimal gross = basic.add(allowances).add(bonuses).add(overtime);
+        return PayrollDTO.builder()
+                .id(id)
+                .employeeId(id)
+                .employeeName("First" + id + " Last" + id)
+                .payPeriodStart(LocalDate.of(2024, 1, 1))
+                .payPeriodEnd(LocalDate.of(2024, 1, 31))
+                .basicSalary(basic)
+                .allowances(allowances)
+                .bonuses(bonuses)
+                .overtimePay(overtime)
+                .deductions(deductions)
+                .tax(tax)
+                .grossSalary(gross)
+                .netSalary(gross.subtract(deductions).subtract(tax))
+                .status(Payroll.PayrollStatus.APPROVED)
+                .notes("January payroll")
+                .createdAt(LocalDateTime.of(2024, 2, 1, 9, 0))
+                .updatedAt(LocalDateTime.of(2024, 2, 2, 10, 0))
+                .build();
+    }
+}
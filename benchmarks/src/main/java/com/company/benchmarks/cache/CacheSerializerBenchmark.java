@@ -0,0 +1,107 @@
+package com.company.benchmarks.cache;
+
+import com.company.benchmarks.SampleData;
+import com.company.common.cache.codec.CompactBinaryRedisSerializer;
+import com.company.hr.cache.codec.EmployeeDTOCodec;
+import com.company.hr.config.CacheConfig;
+import com.company.payroll.cache.codec.PayrollDTOCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON value serializer configured in {@code CacheConfig} with the
+ * compact binary serializer, on the envelopes actually stored in Redis.
+ *
+ * The encoded size of each entry is printed once per fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+    @Param({"JSON", "BINARY", "BINARY_DEFLATE"})
+    public String format;
+
+    private RedisSerializer<Object> employeeSerializer;
+    private RedisSerializer<Object> payrollSerializer;
+
+    private Object employeeEntry;
+    private Object payrollEntry;
+    private byte[] employeeBytes;
+    private byte[] payrollBytes;
+
+    @Setup
+    public void setUp() {
+        employeeSerializer = employeeSerializer(format);
+        payrollSerializer = payrollSerializer(format);
+
+        long refreshAt = System.currentTimeMillis() + 480_000;
+        employeeEntry = new com.company.common.cache.CachedValue(SampleData.employee(4242), refreshAt);
+        payrollEntry = new com.company.common.cache.CachedValue(SampleData.payroll(4242), refreshAt);
+
+        employeeBytes = employeeSerializer.serialize(employeeEntry);
+        payrollBytes = payrollSerializer.serialize(payrollEntry);
+        System.out.printf("%n[%s] employee entry: %d bytes, payroll entry: %d bytes%n",
+                format, employeeBytes.length, payrollBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() {
+        return employeeSerializer.serialize(employeeEntry);
+    }
+
+    @Benchmark
+    public Object deserializeEmployee() {
+        return employeeSerializer.deserialize(employeeBytes);
+    }
+
+    @Benchmark
+    public byte[] serializePayroll() {
+        return payrollSerializer.serialize(payrollEntry);
+    }
+
+    @Benchmark
+    public Object deserializePayroll() {
+        return payrollSerializer.deserialize(payrollBytes);
+    }
+
+    private static RedisSerializer<Object> employeeSerializer(String format) {
+        return switch (format) {
+            case "JSON" -> jsonSerializer();
+            case "BINARY" -> new CompactBinaryRedisSerializer(List.of(new EmployeeDTOCodec()), jsonSerializer(), 0);
+            case "BINARY_DEFLATE" -> new CompactBinaryRedisSerializer(List.of(new EmployeeDTOCodec()), jsonSerializer(), 1);
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+    }
+
+    private static RedisSerializer<Object> payrollSerializer(String format) {
+        return switch (format) {
+            case "JSON" -> jsonSerializer();
+            case "BINARY" -> new com.company.common.cache.codec.CompactBinaryRedisSerializer(
+                    List.of(new PayrollDTOCodec()), jsonSerializer(), 0);
+            case "BINARY_DEFLATE" -> new com.company.common.cache.codec.CompactBinaryRedisSerializer(
+                    List.of(new PayrollDTOCodec()), jsonSerializer(), 1);
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+    }
+
+    private static RedisSerializer<Object> jsonSerializer() {
+        return new CacheConfig().redisJsonSerializer();
+    }
+}
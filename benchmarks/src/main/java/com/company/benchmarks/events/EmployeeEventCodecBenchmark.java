@@ -0,0 +1,92 @@
+package com.company.benchmarks.events;
+
+import com.company.benchmarks.SampleData;
+import com.company.benchmarks.SampleData.OrgSize;
+import com.company.events.employee.EmployeeEvent;
+import com.company.events.employee.EmployeeEventCodec;
+import com.company.events.employee.EmployeeField;
+import com.company.hr.entity.Employee;
+import com.company.hr.event.EmployeeEventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode throughput of {@link EmployeeEventCodec}, against Jackson
+ * serializing the same {@link EmployeeEvent} as JSON. {@code CREATED} events
+ * carry every attribute, {@code UPDATED} events a salary and job title change.
+ *
+ * The encoded size of each event is printed once per fork.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeEventCodecBenchmark {
+
+    @Param({"BINARY", "JSON"})
+    public String format;
+
+    @Param({"CREATED", "UPDATED"})
+    public EmployeeEvent.Type type;
+
+    private ObjectMapper objectMapper;
+    private EmployeeEvent event;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        Employee employee = SampleData.organization(OrgSize.SMALL).get(42);
+        EmployeeEventPublisher publisher = new EmployeeEventPublisher(null);
+        Map<EmployeeField, Object> after = publisher.snapshot(employee);
+        Map<EmployeeField, Object> before = type == EmployeeEvent.Type.CREATED ? Map.of() : updatedFrom(after);
+        event = EmployeeEvent.diff(type, employee.getId(), employee.getEmployeeId(), 3,
+                Instant.now(), before, after);
+
+        encoded = encode();
+        System.out.printf("%n[%s %s] %d changes, %d bytes%n", format, type, event.changes().size(), encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return "JSON".equals(format) ? objectMapper.writeValueAsBytes(event) : EmployeeEventCodec.encode(event);
+    }
+
+    /**
+     * JSON decoding yields untyped attribute values (strings and numbers), so it
+     * does less work than a consumer would need; the binary decoder returns typed values.
+     */
+    @Benchmark
+    public Object decode() throws IOException {
+        return "JSON".equals(format) ? objectMapper.readTree(encoded) : EmployeeEventCodec.decode(encoded);
+    }
+
+    private static Map<EmployeeField, Object> updatedFrom(Map<EmployeeField, Object> after) {
+        Map<EmployeeField, Object> before = new EnumMap<>(after);
+        before.put(EmployeeField.SALARY, ((BigDecimal) after.get(EmployeeField.SALARY)).subtract(BigDecimal.valueOf(1_000)));
+        before.put(EmployeeField.JOB_TITLE, "Previous title");
+        return before;
+    }
+}
@@ -0,0 +1,103 @@
+package com.company.benchmarks.hr;
+
+import com.company.benchmarks.SampleData;
+import com.company.benchmarks.SampleData.OrgSize;
+import com.company.events.employee.EmployeeField;
+import com.company.hr.entity.Employee;
+import com.company.hr.entity.OutboxEvent;
+import com.company.hr.event.EmployeeEventPublisher;
+import com.company.hr.repository.OutboxEventRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmployeeEventPublisher} diffing an update, encoding the event and
+ * recording it in the outbox. Each update changes salary and job title. The
+ * repository is stubbed out, so the score covers everything up to the insert.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeEventBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public OrgSize org;
+
+    private final OutboxEvent[] last = new OutboxEvent[1];
+    private EmployeeEventPublisher publisher;
+    private List<Employee> employees;
+    private List<Map<EmployeeField, Object>> before;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        publisher = new EmployeeEventPublisher(capturingRepository(last));
+        employees = SampleData.organization(org);
+        before = employees.stream().map(employee -> {
+            Map<EmployeeField, Object> state = publisher.snapshot(employee);
+            state.put(EmployeeField.SALARY, employee.getSalary().subtract(BigDecimal.valueOf(1_000)));
+            state.put(EmployeeField.JOB_TITLE, "Previous title");
+            return state;
+        }).toList();
+    }
+
+    /**
+     * One event, cycling through the organisation.
+     */
+    @Benchmark
+    public byte[] publishOne() {
+        int index = next;
+        next = next + 1 == employees.size() ? 0 : next + 1;
+        publisher.publishEmployeeUpdatedEvent(before.get(index), employees.get(index));
+        return last[0].getPayload();
+    }
+
+    /**
+     * An event for every employee, as after an organisation-wide change.
+     */
+    @Benchmark
+    public int publishOrganization() {
+        int length = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            publisher.publishEmployeeUpdatedEvent(before.get(i), employees.get(i));
+            length += last[0].getPayload().length;
+        }
+        return length;
+    }
+
+    /**
+     * Keeps the last saved event instead of inserting it.
+     */
+    private static OutboxEventRepository capturingRepository(OutboxEvent[] last) {
+        return (OutboxEventRepository) Proxy.newProxyInstance(OutboxEventRepository.class.getClassLoader(),
+                new Class<?>[]{OutboxEventRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("save") && args != null && args.length == 1) {
+                        last[0] = (OutboxEvent) args[0];
+                        return args[0];
+                    }
+                    if (method.getName().equals("toString")) {
+                        return "OutboxEventRepository stub";
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
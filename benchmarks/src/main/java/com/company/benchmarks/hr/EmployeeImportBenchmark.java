@@ -0,0 +1,191 @@
+package com.company.benchmarks.hr;
+
+import com.company.common.export.ExportFormat;
+import com.company.hr.dto.EmployeeImportDTO;
+import com.company.hr.entity.Employee;
+import com.company.hr.entity.OutboxEvent;
+import com.company.hr.event.EmployeeEventPublisher;
+import com.company.hr.importer.CsvField;
+import com.company.hr.importer.EmployeeImporter;
+import com.company.hr.importer.RowReader;
+import com.company.hr.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The in-process part of a 100k-row {@link EmployeeImporter} job: reading and
+ * validating every row of a CSV or NDJSON file, and encoding the creation
+ * events of every employee in import-sized batches. The repository is stubbed
+ * out, so the score excludes the database; see {@code sql/employee_import_file.sql}
+ * for an end-to-end run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeImportBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final int[] recorded = new int[1];
+    private EmployeeEventPublisher publisher;
+    private byte[] csv;
+    private byte[] ndjson;
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() throws IOException {
+        publisher = new EmployeeEventPublisher(countingRepository(recorded));
+
+        StringBuilder csvText = new StringBuilder(ROWS * 200);
+        csvText.append(EmployeeImporter.CSV_FIELDS.stream().map(CsvField::header).collect(Collectors.joining(",")))
+                .append("\r\n");
+        StringBuilder ndjsonText = new StringBuilder(ROWS * 400);
+        employees = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            EmployeeImportDTO row = row(i);
+            csvText.append(String.join(",", row.getEmployeeId(), row.getFirstName(), row.getLastName(), row.getEmail(),
+                    row.getPhoneNumber(), row.getDateOfBirth().toString(), row.getHireDate().toString(),
+                    row.getStatus().name(), row.getEmploymentType().name(), "\"Engineer, Platform\"",
+                    row.getSalary().toPlainString(), "", row.getDepartmentCode(), "",
+                    row.getManagerEmployeeId() != null ? row.getManagerEmployeeId() : "",
+                    i + " Main Street", "Springfield", "IL", "USA", "62701")).append("\r\n");
+            ndjsonText.append(objectMapper.writeValueAsString(row)).append('\n');
+            employees.add(employee(i, row));
+        }
+        csv = csvText.toString().getBytes(StandardCharsets.UTF_8);
+        ndjson = ndjsonText.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int readCsv() throws IOException {
+        return read(ExportFormat.CSV, csv);
+    }
+
+    @Benchmark
+    public int readNdjson() throws IOException {
+        return read(ExportFormat.NDJSON, ndjson);
+    }
+
+    /**
+     * Creation events for every employee, recorded one batch at a time.
+     */
+    @Benchmark
+    public int encodeEvents() {
+        recorded[0] = 0;
+        for (int from = 0; from < employees.size(); from += BATCH_SIZE) {
+            publisher.publishEmployeesCreatedEvents(employees.subList(from, Math.min(from + BATCH_SIZE, employees.size())));
+        }
+        return recorded[0];
+    }
+
+    private int read(ExportFormat format, byte[] file) throws IOException {
+        int valid = 0;
+        try (RowReader<EmployeeImportDTO> reader = RowReader.open(format, new ByteArrayInputStream(file), objectMapper,
+                EmployeeImportDTO.class, EmployeeImportDTO::new, EmployeeImporter.CSV_FIELDS)) {
+            RowReader.Row<EmployeeImportDTO> row;
+            while ((row = reader.read()) != null) {
+                if (row.isValid() && validator.validate(row.value()).isEmpty()) {
+                    valid++;
+                }
+            }
+        }
+        if (valid != ROWS) {
+            throw new IllegalStateException("Expected " + ROWS + " valid rows, read " + valid);
+        }
+        return valid;
+    }
+
+    /**
+     * Every manager has eight direct reports and comes before them in the file,
+     * referenced by employee ID as in an acquired organisation.
+     */
+    private static EmployeeImportDTO row(long id) {
+        return EmployeeImportDTO.builder()
+                .employeeId(String.format("IMP%06d", id))
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .email("imported" + id + "@company.com")
+                .phoneNumber("+1-555-" + String.format("%07d", id % 10_000_000))
+                .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(id % 10_000))
+                .hireDate(LocalDate.of(2015, 1, 1).plusDays(id % 3_000))
+                .status(Employee.EmploymentStatus.ACTIVE)
+                .employmentType(Employee.EmploymentType.FULL_TIME)
+                .jobTitle("Engineer, Platform")
+                .salary(BigDecimal.valueOf(50_000 + (id * 37) % 100_000, 0).setScale(2))
+                .departmentCode(String.format("D%03d", 1 + id % 60))
+                .managerEmployeeId(id > 1 ? String.format("IMP%06d", (id - 2) / 8 + 1) : null)
+                .build();
+    }
+
+    private static Employee employee(long id, EmployeeImportDTO row) {
+        return Employee.builder()
+                .id(id)
+                .employeeId(row.getEmployeeId())
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .email(row.getEmail())
+                .phoneNumber(row.getPhoneNumber())
+                .dateOfBirth(row.getDateOfBirth())
+                .hireDate(row.getHireDate())
+                .status(row.getStatus())
+                .employmentType(row.getEmploymentType())
+                .jobTitle(row.getJobTitle())
+                .salary(row.getSalary())
+                .manager(id > 1 ? Employee.builder().id((id - 2) / 8 + 1).build() : null)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+                .version(0L)
+                .build();
+    }
+
+    /**
+     * Counts inserted events instead of inserting them.
+     */
+    private static OutboxEventRepository countingRepository(int[] recorded) {
+        return (OutboxEventRepository) Proxy.newProxyInstance(OutboxEventRepository.class.getClassLoader(),
+                new Class<?>[]{OutboxEventRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("insertAll") && args != null && args.length == 1) {
+                        @SuppressWarnings("unchecked")
+                        List<OutboxEvent> events = (List<OutboxEvent>) args[0];
+                        recorded[0] += events.size();
+                        return null;
+                    }
+                    if (method.getName().equals("toString")) {
+                        return "OutboxEventRepository stub";
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
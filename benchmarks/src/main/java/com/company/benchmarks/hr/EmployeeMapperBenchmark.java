@@ -0,0 +1,97 @@
+package com.company.benchmarks.hr;
+
+import com.company.benchmarks.SampleData;
+import com.company.benchmarks.SampleData.OrgSize;
+import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.entity.Employee;
+import com.company.hr.mapper.EmployeeMapper;
+import com.company.hr.repository.projection.EmployeeRow;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct-generated {@link EmployeeMapper} on fully populated entities, as
+ * loaded with their department and manager, and on the {@link EmployeeRow}
+ * projections list endpoints read instead. Run with {@code -prof gc} to compare
+ * allocation per employee.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeMapperBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public OrgSize org;
+
+    private final EmployeeMapper mapper = Mappers.getMapper(EmployeeMapper.class);
+
+    private List<Employee> employees;
+    private List<EmployeeRow> rows;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        employees = SampleData.organization(org);
+        rows = employees.stream().map(EmployeeMapperBenchmark::row).toList();
+    }
+
+    /**
+     * One employee, cycling through the organisation.
+     */
+    @Benchmark
+    public EmployeeDTO toDTO() {
+        Employee employee = employees.get(next);
+        next = next + 1 == employees.size() ? 0 : next + 1;
+        return mapper.toDTO(employee);
+    }
+
+    /**
+     * The whole organisation in one call.
+     */
+    @Benchmark
+    public List<EmployeeDTO> toDTOList() {
+        return mapper.toDTOList(employees);
+    }
+
+    /**
+     * The whole organisation from projected rows, as list endpoints map it.
+     */
+    @Benchmark
+    public List<EmployeeDTO> rowsToDTOList() {
+        return mapper.rowsToDTOList(rows);
+    }
+
+    private static EmployeeRow row(Employee e) {
+        Employee manager = e.getManager();
+        return new EmployeeRow(e.getId(), e.getEmployeeId(), e.getFirstName(), e.getLastName(), e.getEmail(),
+                e.getPhoneNumber(), e.getDateOfBirth(), e.getHireDate(), e.getStatus(), e.getEmploymentType(),
+                e.getJobTitle(), e.getSalary(),
+                e.getDepartment() != null ? e.getDepartment().getId() : null,
+                e.getDepartment() != null ? e.getDepartment().getName() : null,
+                manager != null ? manager.getId() : null,
+                manager != null ? manager.getFirstName() : null,
+                manager != null ? manager.getLastName() : null,
+                e.getAddress() != null ? e.getAddress().getStreet() : null,
+                e.getAddress() != null ? e.getAddress().getCity() : null,
+                e.getAddress() != null ? e.getAddress().getState() : null,
+                e.getAddress() != null ? e.getAddress().getCountry() : null,
+                e.getAddress() != null ? e.getAddress().getPostalCode() : null,
+                e.getCreatedAt(), e.getUpdatedAt());
+    }
+}
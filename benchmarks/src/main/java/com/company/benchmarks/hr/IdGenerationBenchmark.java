@@ -0,0 +1,179 @@
+package com.company.benchmarks.hr;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting 10,000 leave requests in one transaction, with the statements
+ * Hibernate sends for each ID strategy: {@code IDENTITY} inserts one row per
+ * round trip and reads the generated key back, while {@code POOLED} takes one
+ * sequence value per 50 IDs and inserts in JDBC batches of 50
+ * ({@code hibernate.jdbc.batch_size}).
+ * <p>
+ * Needs PostgreSQL; it works in its own schema and drops it at the end. Point it
+ * at a scratch database with {@code -Dbenchmarks.jdbc-url}, and
+ * {@code -Dbenchmarks.jdbc-user}/{@code -Dbenchmarks.jdbc-password} if the
+ * defaults do not apply. The URL should keep {@code reWriteBatchedInserts=true},
+ * as the services' data sources do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    public enum Strategy { IDENTITY, POOLED }
+
+    private static final int ROWS = 10_000;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String COLUMNS =
+            "employee_id, leave_type, start_date, end_date, number_of_days, reason, status, created_at";
+
+    @Param({"IDENTITY", "POOLED"})
+    public Strategy strategy;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmarks.jdbc-url",
+                        "jdbc:postgresql://localhost:5432/hr_bench?reWriteBatchedInserts=true"),
+                System.getProperty("benchmarks.jdbc-user", "postgres"),
+                System.getProperty("benchmarks.jdbc-password", "postgres"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS id_bench CASCADE");
+            statement.execute("CREATE SCHEMA id_bench");
+            statement.execute("SET search_path = id_bench");
+            // As V1__Initial_Schema.sql, without the foreign keys
+            statement.execute("CREATE TABLE leaves (" +
+                    "id BIGSERIAL PRIMARY KEY, " +
+                    "employee_id BIGINT NOT NULL, " +
+                    "leave_type VARCHAR(20) NOT NULL, " +
+                    "start_date DATE NOT NULL, " +
+                    "end_date DATE NOT NULL, " +
+                    "number_of_days INTEGER NOT NULL, " +
+                    "reason VARCHAR(1000), " +
+                    "status VARCHAR(20) NOT NULL, " +
+                    "approver_comments VARCHAR(500), " +
+                    "approved_by BIGINT, " +
+                    "approved_at TIMESTAMP, " +
+                    "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP)");
+            if (strategy == Strategy.POOLED) {
+                // As R__Id_Sequences.sql
+                statement.execute("ALTER SEQUENCE leaves_id_seq INCREMENT BY " + ALLOCATION_SIZE);
+                statement.execute("SELECT setval('leaves_id_seq', 1)");
+            }
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE leaves");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA id_bench CASCADE");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * @return the last ID inserted
+     */
+    @Benchmark
+    public long insert() throws SQLException {
+        long last = strategy == Strategy.IDENTITY ? insertWithIdentity() : insertWithPooledSequence();
+        connection.commit();
+        return last;
+    }
+
+    private long insertWithIdentity() throws SQLException {
+        long last = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO leaves (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    last = keys.getLong(1);
+                }
+            }
+        }
+        return last;
+    }
+
+    private long insertWithPooledSequence() throws SQLException {
+        long id = 1;
+        long blockEnd = 0;
+        try (PreparedStatement nextval = connection.prepareStatement("SELECT nextval('leaves_id_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO leaves (id, " + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (id > blockEnd) {
+                    try (ResultSet value = nextval.executeQuery()) {
+                        value.next();
+                        blockEnd = value.getLong(1);
+                    }
+                    id = blockEnd - ALLOCATION_SIZE + 1;
+                }
+                insert.setLong(1, id++);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        return id - 1;
+    }
+
+    private static void bind(PreparedStatement insert, int first, int row) throws SQLException {
+        LocalDate start = LocalDate.of(2024, 1, 1).plusDays(row % 365);
+        insert.setLong(first, 1 + row % 1_000);
+        insert.setString(first + 1, "ANNUAL");
+        insert.setDate(first + 2, Date.valueOf(start));
+        insert.setDate(first + 3, Date.valueOf(start.plusDays(4)));
+        insert.setInt(first + 4, 5);
+        insert.setString(first + 5, "Holiday");
+        insert.setString(first + 6, "PENDING");
+        insert.setTimestamp(first + 7, Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 9, 0)));
+    }
+}
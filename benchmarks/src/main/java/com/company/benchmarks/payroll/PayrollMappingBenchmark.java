@@ -0,0 +1,75 @@
+package com.company.benchmarks.payroll;
+
+import com.company.benchmarks.SampleData;
+import com.company.benchmarks.SampleData.OrgSize;
+import com.company.payroll.dto.PayrollDTO;
+import com.company.payroll.entity.Payroll;
+import com.company.payroll.repository.PayrollRepository;
+import com.company.payroll.service.PayrollCalculator;
+import com.company.payroll.service.PayrollService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PayrollService.mapToDTO}, measured through {@code getAllPayrolls}
+ * with a repository stub that returns one page holding a payroll for every
+ * employee of the organisation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayrollMappingBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public OrgSize org;
+
+    private PayrollService payrollService;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        List<Payroll> payrolls = SampleData.payrolls(org);
+        pageable = PageRequest.of(0, payrolls.size());
+        payrollService = new PayrollService(pageRepository(payrolls), null, new PayrollCalculator());
+    }
+
+    @Benchmark
+    public Page<PayrollDTO> mapPage() {
+        return payrollService.getAllPayrolls(pageable);
+    }
+
+    private static PayrollRepository pageRepository(List<Payroll> payrolls) {
+        return (PayrollRepository) Proxy.newProxyInstance(PayrollRepository.class.getClassLoader(),
+                new Class<?>[]{PayrollRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && args != null && args.length == 1
+                            && args[0] instanceof Pageable page) {
+                        return new PageImpl<>(payrolls, page, payrolls.size());
+                    }
+                    if (method.getName().equals("toString")) {
+                        return "PayrollRepository stub";
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,156 @@
+package com.company.benchmarks.payroll;
+
+import com.company.benchmarks.SampleData;
+import com.company.payroll.dto.PayrollDTO;
+import com.company.payroll.entity.Payroll;
+import com.company.payroll.service.PayrollCalculator;
+import com.company.payroll.service.SalaryBatch;
+import com.company.payroll.service.SalaryKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@code BigDecimal} salary calculation with the cents-based
+ * {@link SalaryKernel}, per batch of {@code records} payrolls.
+ *
+ * Setup fails the fork if any kernel result differs from the {@code BigDecimal}
+ * result, so a reported score always belongs to a kernel that matched exactly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SalaryCalculationBenchmark {
+
+    @Param({"250", "10000"})
+    public int records;
+
+    private final PayrollCalculator calculator = new PayrollCalculator();
+
+    private List<Payroll> payrolls;
+    private SalaryBatch batch;
+
+    @Setup
+    public void setUp() {
+        payrolls = new ArrayList<>(records);
+        batch = new SalaryBatch(records);
+        for (int i = 0; i < records; i++) {
+            Payroll payroll = payroll(SampleData.payroll(i + 1), i);
+            payrolls.add(payroll);
+            batch.add(SalaryKernel.toCents(payroll.getBasicSalary()),
+                    SalaryKernel.toCents(payroll.getAllowances()),
+                    SalaryKernel.toCents(payroll.getBonuses()),
+                    SalaryKernel.toCents(payroll.getOvertimePay()),
+                    SalaryKernel.toCents(payroll.getDeductions()),
+                    SalaryKernel.toCents(payroll.getTax()));
+        }
+        verify();
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (Payroll payroll : payrolls) {
+            calculator.calculateSalary(payroll);
+            blackhole.consume(payroll.getNetSalary());
+        }
+    }
+
+    /**
+     * The path bulk payroll runs take, including conversion to and from cents.
+     */
+    @Benchmark
+    public void kernelPayrolls(Blackhole blackhole) {
+        calculator.calculateSalaries(payrolls);
+        for (Payroll payroll : payrolls) {
+            blackhole.consume(payroll.getNetSalary());
+        }
+    }
+
+    /**
+     * The arithmetic alone, on components already held in cents.
+     */
+    @Benchmark
+    public long kernelArrays() {
+        SalaryKernel.calculate(batch);
+        long total = 0;
+        for (int i = 0; i < records; i++) {
+            total += batch.netCents(i);
+        }
+        return total;
+    }
+
+    private void verify() {
+        List<Payroll> expected = new ArrayList<>(records);
+        List<Payroll> actual = new ArrayList<>(records);
+        for (Payroll payroll : payrolls) {
+            expected.add(copy(payroll));
+            actual.add(copy(payroll));
+        }
+        expected.forEach(calculator::calculateSalary);
+        calculator.calculateSalaries(actual);
+        SalaryKernel.calculate(batch);
+
+        for (int i = 0; i < records; i++) {
+            Payroll e = expected.get(i);
+            Payroll a = actual.get(i);
+            BigDecimal withholding = e.getDeductions().add(e.getTax());
+            if (!e.getGrossSalary().equals(a.getGrossSalary())
+                    || !e.getNetSalary().equals(a.getNetSalary())
+                    || !e.getGrossSalary().equals(SalaryKernel.fromCents(batch.grossCents(i)))
+                    || !e.getNetSalary().equals(SalaryKernel.fromCents(batch.netCents(i)))
+                    || !withholding.equals(SalaryKernel.fromCents(batch.withholdingCents(i)))) {
+                throw new IllegalStateException("Salary kernel differs from BigDecimal for record " + i
+                        + ": expected gross " + e.getGrossSalary() + ", net " + e.getNetSalary()
+                        + " but got gross " + a.getGrossSalary() + ", net " + a.getNetSalary());
+            }
+        }
+        System.out.printf("%n[records=%d] salary kernel matches BigDecimal on every record%n", records);
+    }
+
+    /**
+     * Varies every component per record, including some with a negative net.
+     */
+    private static Payroll payroll(PayrollDTO dto, int i) {
+        return Payroll.builder()
+                .employeeId(dto.getEmployeeId())
+                .employeeName(dto.getEmployeeName())
+                .payPeriodStart(dto.getPayPeriodStart())
+                .payPeriodEnd(dto.getPayPeriodEnd())
+                .basicSalary(dto.getBasicSalary())
+                .allowances(BigDecimal.valueOf(i * 7_919L % 500_000, 2))
+                .bonuses(i % 3 == 0 ? BigDecimal.ZERO : dto.getBonuses())
+                .overtimePay(BigDecimal.valueOf(i * 104_729L % 250_000, 2))
+                .deductions(i % 97 == 0 ? new BigDecimal("99999.99") : dto.getDeductions())
+                .tax(dto.getTax())
+                .status(dto.getStatus())
+                .build();
+    }
+
+    private static Payroll copy(Payroll payroll) {
+        return Payroll.builder()
+                .basicSalary(payroll.getBasicSalary())
+                .allowances(payroll.getAllowances())
+                .bonuses(payroll.getBonuses())
+                .overtimePay(payroll.getOvertimePay())
+                .deductions(payroll.getDeductions())
+                .tax(payroll.getTax())
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.company.events.employee;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A change to one employee, as published on {@code employee-events}.
+ *
+ * Creation events list every non-empty attribute; updates list only the
+ * attributes that changed, with their old and new values; deletions list the
+ * attributes the employee had. {@code version} is the employee's optimistic
+ * lock version after the change, so consumers can drop events older than the
+ * state they hold.
+ *
+ * @param employeeId     database id of the employee, also the Kafka message key
+ * @param employeeNumber the employee's business id, such as {@code EMP001}
+ */
+public record EmployeeEvent(Type type,
+                            long employeeId,
+                            String employeeNumber,
+                            long version,
+                            Instant occurredAt,
+                            List<FieldChange> changes) {
+
+    public enum Type {
+        CREATED(1), UPDATED(2), DELETED(3);
+
+        private final int code;
+
+        Type(int code) {
+            this.code = code;
+        }
+
+        int code() {
+            return code;
+        }
+
+        static Type ofCode(int code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown employee event type " + code);
+        }
+    }
+
+    public EmployeeEvent {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(occurredAt, "occurredAt");
+        changes = changes != null ? Collections.unmodifiableList(changes) : List.of();
+    }
+
+    /**
+     * Builds an event from the employee's attributes before and after the change,
+     * keeping only the attributes whose value differs. Either map may be empty,
+     * as for creations and deletions; missing keys count as null.
+     */
+    public static EmployeeEvent diff(Type type, long employeeId, String employeeNumber, long version,
+                                     Instant occurredAt, Map<EmployeeField, ?> before, Map<EmployeeField, ?> after) {
+        List<FieldChange> changes = new ArrayList<>();
+        for (EmployeeField field : EmployeeField.values()) {
+            Object oldValue = before.get(field);
+            Object newValue = after.get(field);
+            if (!sameValue(oldValue, newValue)) {
+                changes.add(new FieldChange(field, oldValue, newValue));
+            }
+        }
+        return new EmployeeEvent(type, employeeId, employeeNumber, version, occurredAt, changes);
+    }
+
+    /**
+     * @return the change of the given attribute, or null if it did not change
+     */
+    public FieldChange change(EmployeeField field) {
+        for (FieldChange change : changes) {
+            if (change.field() == field) {
+                return change;
+            }
+        }
+        return null;
+    }
+
+    public boolean changed(EmployeeField field) {
+        return change(field) != null;
+    }
+
+    /**
+     * True if any of the given attributes changed.
+     */
+    public boolean changedAny(EmployeeField... fields) {
+        for (EmployeeField field : fields) {
+            if (changed(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sameValue(Object a, Object b) {
+        if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+            return x.compareTo(y) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+}
@@ -0,0 +1,121 @@
+package com.company.events.employee;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of {@link EmployeeEvent}s for Kafka.
+ *
+ * Layout: a magic byte, the schema id, then the event type, employee id,
+ * employee number, version and time as varints and strings, followed by the
+ * changes. Each change is the field's wire id and its old and new values, each
+ * behind a presence byte and encoded according to the field's kind. A typical
+ * update is a few dozen bytes, against a few hundred for the same event as JSON.
+ */
+public final class EmployeeEventCodec {
+
+    /**
+     * Schema written by {@link #encode}. Bump it, and keep decoding the previous
+     * ones, whenever the layout or the set of fields changes.
+     */
+    public static final int SCHEMA_ID = 1;
+
+    private static final int MAGIC = 0xE5;
+
+    private EmployeeEventCodec() {
+    }
+
+    public static byte[] encode(EmployeeEvent event) {
+        EventWriter out = new EventWriter(48 + event.changes().size() * 24);
+        out.writeByte(MAGIC);
+        out.writeVarLong(SCHEMA_ID);
+        out.writeByte(event.type().code());
+        out.writeVarLong(event.employeeId());
+        writeValue(out, EmployeeField.Kind.STRING, event.employeeNumber());
+        out.writeVarLong(event.version());
+        out.writeVarLong(event.occurredAt().toEpochMilli());
+        out.writeVarLong(event.changes().size());
+        for (FieldChange change : event.changes()) {
+            out.writeVarLong(change.field().wireId());
+            writeValue(out, change.field().kind(), change.before());
+            writeValue(out, change.field().kind(), change.after());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not an employee event of a
+     *                                  known schema
+     */
+    public static EmployeeEvent decode(byte[] bytes) {
+        if (!isEncoded(bytes)) {
+            throw new IllegalArgumentException("Not a binary employee event");
+        }
+        EventReader in = new EventReader(bytes);
+        in.readByte();
+        long schemaId = in.readVarLong();
+        if (schemaId != SCHEMA_ID) {
+            throw new IllegalArgumentException("Unsupported employee event schema " + schemaId);
+        }
+
+        EmployeeEvent.Type type = EmployeeEvent.Type.ofCode(in.readByte());
+        long employeeId = in.readVarLong();
+        String employeeNumber = (String) readValue(in, EmployeeField.Kind.STRING);
+        long version = in.readVarLong();
+        Instant occurredAt = Instant.ofEpochMilli(in.readVarLong());
+        int count = (int) in.readVarLong();
+        if (count < 0 || count > EmployeeField.values().length) {
+            throw new IllegalArgumentException("Malformed employee event: " + count + " changes");
+        }
+        List<FieldChange> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int wireId = (int) in.readVarLong();
+            EmployeeField field = EmployeeField.ofWireId(wireId);
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown employee field " + wireId + " in schema " + schemaId);
+            }
+            changes.add(new FieldChange(field, readValue(in, field.kind()), readValue(in, field.kind())));
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing bytes after employee event");
+        }
+        return new EmployeeEvent(type, employeeId, employeeNumber, version, occurredAt, changes);
+    }
+
+    /**
+     * Whether the bytes start like an encoded event, as opposed to, say, a JSON
+     * message written before this codec existed.
+     */
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes != null && bytes.length > 0 && (bytes[0] & 0xFF) == MAGIC;
+    }
+
+    private static void writeValue(EventWriter out, EmployeeField.Kind kind, Object value) {
+        if (value == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(1);
+        switch (kind) {
+            case STRING -> out.writeString(value instanceof Enum<?> e ? e.name() : (String) value);
+            case DATE -> out.writeVarLong(((LocalDate) value).toEpochDay());
+            case DECIMAL -> out.writeDecimal((BigDecimal) value);
+            case LONG -> out.writeVarLong(((Number) value).longValue());
+        }
+    }
+
+    private static Object readValue(EventReader in, EmployeeField.Kind kind) {
+        if (in.readByte() == 0) {
+            return null;
+        }
+        return switch (kind) {
+            case STRING -> in.readString();
+            case DATE -> LocalDate.ofEpochDay(in.readVarLong());
+            case DECIMAL -> in.readDecimal();
+            case LONG -> in.readVarLong();
+        };
+    }
+}
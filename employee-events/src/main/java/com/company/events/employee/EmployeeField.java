@@ -0,0 +1,69 @@
+package com.company.events.employee;
+
+/**
+ * Employee attributes an event can report a change of.
+ *
+ * Wire ids are part of the encoded format: never change or reuse one. Adding a
+ * field requires a new {@link EmployeeEventCodec#SCHEMA_ID}, because readers of
+ * the older schema cannot skip a value they do not know the kind of.
+ */
+public enum EmployeeField {
+
+    EMPLOYEE_NUMBER(1, Kind.STRING),
+    FIRST_NAME(2, Kind.STRING),
+    LAST_NAME(3, Kind.STRING),
+    EMAIL(4, Kind.STRING),
+    PHONE_NUMBER(5, Kind.STRING),
+    DATE_OF_BIRTH(6, Kind.DATE),
+    HIRE_DATE(7, Kind.DATE),
+    STATUS(8, Kind.STRING),
+    EMPLOYMENT_TYPE(9, Kind.STRING),
+    JOB_TITLE(10, Kind.STRING),
+    SALARY(11, Kind.DECIMAL),
+    DEPARTMENT_ID(12, Kind.LONG),
+    MANAGER_ID(13, Kind.LONG),
+    STREET(14, Kind.STRING),
+    CITY(15, Kind.STRING),
+    STATE(16, Kind.STRING),
+    COUNTRY(17, Kind.STRING),
+    POSTAL_CODE(18, Kind.STRING);
+
+    /**
+     * Java type of a field's values: {@code String}, {@code LocalDate},
+     * {@code BigDecimal} or {@code Long}. Enums are carried by name.
+     */
+    public enum Kind {
+        STRING, DATE, DECIMAL, LONG
+    }
+
+    private static final EmployeeField[] BY_WIRE_ID = new EmployeeField[19];
+
+    static {
+        for (EmployeeField field : values()) {
+            BY_WIRE_ID[field.wireId] = field;
+        }
+    }
+
+    private final int wireId;
+    private final Kind kind;
+
+    EmployeeField(int wireId, Kind kind) {
+        this.wireId = wireId;
+        this.kind = kind;
+    }
+
+    public int wireId() {
+        return wireId;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * @return the field, or null if the id is unknown to this schema
+     */
+    static EmployeeField ofWireId(int wireId) {
+        return wireId > 0 && wireId < BY_WIRE_ID.length ? BY_WIRE_ID[wireId] : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.company.events.employee;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads what {@link EventWriter} wrote. Malformed or truncated input throws
+ * {@link IllegalArgumentException}.
+ */
+final class EventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    EventReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    long readVarLong() {
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in employee event");
+    }
+
+    String readString() {
+        int length = (int) readVarLong();
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    BigDecimal readDecimal() {
+        int scale = (int) readVarLong();
+        if (readByte() != 0) {
+            return BigDecimal.valueOf(readVarLong(), scale);
+        }
+        int length = (int) readVarLong();
+        require(length);
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalArgumentException("Truncated employee event");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.company.events.employee;
+
+/**
+ * One attribute's value before and after the change; either side is null when
+ * the attribute was or became empty, and {@code before} is always null in
+ * creation events.
+ */
+public record FieldChange(EmployeeField field, Object before, Object after) {
+}
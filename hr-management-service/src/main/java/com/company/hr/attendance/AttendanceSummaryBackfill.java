@@ -0,0 +1,123 @@
+package com.company.hr.attendance;
+
+import com.company.hr.config.AttendanceSummaryProperties;
+import com.company.hr.dto.SummaryBackfillStatusDTO;
+import com.company.hr.dto.SummaryBackfillStatusDTO.State;
+import com.company.hr.repository.AttendanceSummaryJdbcRepository;
+import com.company.hr.repository.AttendanceSummaryJdbcRepository.MonthKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Rebuilds {@code attendance_monthly_summary} from attendance and leave history,
+ * for instance after correcting data directly in the database.
+ *
+ * Months are rebuilt oldest first, in chunks of employees with one transaction
+ * each, so the backfill never holds many rows locked; attendance and leave
+ * writes can continue meanwhile. One backfill runs at a time per instance.
+ */
+@Component
+@Slf4j
+public class AttendanceSummaryBackfill implements DisposableBean {
+
+    private final AttendanceSummaryJdbcRepository summaryRepository;
+    private final AttendanceSummaryProperties properties;
+    private final TransactionTemplate transaction;
+    private final ExecutorService executor;
+
+    private SummaryBackfillStatusDTO status = SummaryBackfillStatusDTO.builder().state(State.IDLE).build();
+
+    public AttendanceSummaryBackfill(AttendanceSummaryJdbcRepository summaryRepository,
+                                     AttendanceSummaryProperties properties,
+                                     PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("attendance-summary-backfill-"));
+    }
+
+    /**
+     * Starts rebuilding the months from {@code from} to {@code to}, inclusive,
+     * unless a backfill is already running.
+     *
+     * @param from the first month, or null for the month of the earliest attendance or leave
+     * @param to   the last month, or null for the current month
+     * @return the status of the started backfill, or of the one already running
+     */
+    public synchronized SummaryBackfillStatusDTO start(YearMonth from, YearMonth to) {
+        if (status.getState() == State.RUNNING) {
+            return getStatus();
+        }
+        YearMonth first = from != null ? from : summaryRepository.findFirstActivityMonth().orElse(YearMonth.now());
+        YearMonth last = to != null ? to : YearMonth.now();
+        status = SummaryBackfillStatusDTO.builder()
+                .state(State.RUNNING)
+                .from(first)
+                .to(last)
+                .startedAt(LocalDateTime.now())
+                .build();
+        executor.execute(() -> run(first, last));
+        return getStatus();
+    }
+
+    public synchronized SummaryBackfillStatusDTO getStatus() {
+        return status.toBuilder().build();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void run(YearMonth from, YearMonth to) {
+        log.info("Rebuilding attendance summaries from {} to {}", from, to);
+        try {
+            for (YearMonth month = from; !month.isAfter(to) && !Thread.currentThread().isInterrupted();
+                 month = month.plusMonths(1)) {
+                rebuild(month);
+            }
+            finish(State.COMPLETED, null);
+            log.info("Rebuilt attendance summaries from {} to {}", from, to);
+        } catch (RuntimeException e) {
+            log.error("Attendance summary backfill failed", e);
+            finish(State.FAILED, e.getMessage());
+        }
+    }
+
+    private void rebuild(YearMonth month) {
+        synchronized (this) {
+            status.setCurrentMonth(month);
+        }
+        LocalDate firstDay = month.atDay(1);
+        long afterId = 0;
+        while (true) {
+            List<Long> employeeIds = summaryRepository.findActiveEmployeeIds(month, afterId, properties.getBackfillChunkSize());
+            if (employeeIds.isEmpty()) {
+                return;
+            }
+            List<MonthKey> keys = employeeIds.stream().map(id -> new MonthKey(id, firstDay)).toList();
+            Integer refreshed = transaction.execute(tx -> summaryRepository.refresh(keys));
+            synchronized (this) {
+                status.setRowsRefreshed(status.getRowsRefreshed() + (refreshed != null ? refreshed : 0));
+            }
+            afterId = employeeIds.get(employeeIds.size() - 1);
+        }
+    }
+
+    private synchronized void finish(State state, String error) {
+        status.setState(state);
+        status.setError(error);
+        status.setFinishedAt(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,375 @@
+package com.company.hr.attendance;
+
+import com.company.hr.config.AttendanceIngestProperties;
+import com.company.hr.dto.ClockEventAckDTO;
+import com.company.hr.dto.ClockEventDTO;
+import com.company.hr.event.AttendanceEvent;
+import com.company.hr.event.BatchingEventPublisher;
+import com.company.hr.exception.EventBackpressureException;
+import com.company.hr.repository.AttendanceJdbcRepository;
+import com.company.hr.repository.AttendanceJdbcRepository.AttendanceDay;
+import com.company.hr.repository.AttendanceJdbcRepository.ClockDay;
+import com.company.hr.repository.AttendanceSummaryJdbcRepository.MonthKey;
+import com.company.hr.service.AttendanceSummaryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers clock events in a bounded queue and writes them to {@code attendances}
+ * from one background thread, so a morning check-in peak costs one transaction
+ * per batch instead of one per check-in.
+ *
+ * Each flush merges its events into one row per employee and day, keeping the
+ * first check-in and the last check-out, and upserts the rows in JDBC batches.
+ * Events for unknown employees are dropped and reported. A flush that fails on a
+ * lock conflict, an unavailable connection or a full event queue is retried; any
+ * other failure fails only the submissions whose events cause it. Submissions are
+ * acknowledged either once queued or once written; events still queued when the
+ * instance dies are lost, so callers that cannot resend should wait for the write.
+ */
+@Component
+@Slf4j
+public class ClockEventIngestor implements DisposableBean {
+
+    private static final long POLL_MILLIS = 100;
+    private static final Comparator<ClockDay> LOCK_ORDER =
+            Comparator.comparingLong(ClockDay::employeeId).thenComparing(ClockDay::date);
+
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final BatchingEventPublisher eventPublisher;
+    private final AttendanceSummaryService summaryService;
+    private final AttendanceIngestProperties properties;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final Semaphore capacity;
+    private final ExecutorService flusher;
+
+    private final Counter accepted;
+    private final Counter rows;
+    private final Counter rejected;
+    private final Counter failures;
+    private final Timer flushTimer;
+    private final Timer latency;
+
+    private volatile boolean running = true;
+
+    public ClockEventIngestor(AttendanceJdbcRepository attendanceJdbcRepository,
+                              BatchingEventPublisher eventPublisher,
+                              AttendanceSummaryService summaryService,
+                              AttendanceIngestProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.attendanceJdbcRepository = attendanceJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.summaryService = summaryService;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.capacity = new Semaphore(properties.getQueueCapacity());
+
+        this.accepted = Counter.builder("attendance.ingest.events")
+                .description("Clock events accepted for ingestion")
+                .register(meterRegistry);
+        this.rows = Counter.builder("attendance.ingest.rows")
+                .description("Attendance rows written by ingestion flushes")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("attendance.ingest.rejected")
+                .description("Clock events dropped because their employee does not exist")
+                .register(meterRegistry);
+        this.failures = Counter.builder("attendance.ingest.failures")
+                .description("Clock events lost to failed flushes")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("attendance.ingest.flush")
+                .description("Time to write one batch of clock events")
+                .register(meterRegistry);
+        this.latency = Timer.builder("attendance.ingest.latency")
+                .description("Time from accepting a clock event to writing it")
+                .register(meterRegistry);
+        Gauge.builder("attendance.ingest.queue", queue, BlockingQueue::size)
+                .description("Clock events waiting to be written")
+                .register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("attendance-ingest-"));
+        this.flusher.execute(this::drain);
+    }
+
+    /**
+     * Queues the events, all or none.
+     *
+     * @return completes once every event has been written, with the number applied
+     *         and rejected, or exceptionally if their flush failed
+     * @throws EventBackpressureException if the queue had no room for the events
+     *                                    within the enqueue timeout
+     */
+    public CompletableFuture<ClockEventAckDTO> submit(List<ClockEventDTO> events) {
+        reserve(events.size());
+        Submission submission = new Submission(events.size());
+        long now = System.nanoTime();
+        for (ClockEventDTO event : events) {
+            // Never full: room was reserved for every event
+            queue.add(new QueuedEvent(event, submission, now));
+        }
+        accepted.increment(events.size());
+        return submission.done;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        flusher.shutdown();
+        if (!flusher.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Dropping {} clock events still queued at shutdown", queue.size());
+            flusher.shutdownNow();
+        }
+    }
+
+    private void reserve(int events) {
+        if (!running) {
+            throw new EventBackpressureException("Clock event ingestion is shutting down");
+        }
+        try {
+            if (capacity.tryAcquire(events, properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new EventBackpressureException("Too many clock events waiting to be written, try again shortly");
+    }
+
+    /**
+     * Runs on the flusher thread until shutdown, then empties the queue. A batch
+     * is flushed once full or once its first event waited the flush interval.
+     */
+    private void drain() {
+        int batchSize = properties.getBatchSize();
+        List<QueuedEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedEvent first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + properties.getFlushInterval().toNanos();
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    QueuedEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                capacity.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes the batch, retrying transient failures with a growing pause. If it
+     * still fails for another reason, each submission in it is written on its own,
+     * so only the submissions whose events cause the failure are failed.
+     */
+    private void flush(List<QueuedEvent> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            writeWithRetries(batch);
+        } catch (RuntimeException e) {
+            Map<Submission, List<QueuedEvent>> bySubmission = new IdentityHashMap<>();
+            batch.forEach(queued -> bySubmission.computeIfAbsent(queued.submission(), key -> new ArrayList<>()).add(queued));
+            if (isTransient(e) || bySubmission.size() == 1 || Thread.currentThread().isInterrupted()) {
+                fail(batch, e);
+                return;
+            }
+            log.warn("Failed to write {} clock events, writing each of their {} submissions on its own",
+                    batch.size(), bySubmission.size(), e);
+            bySubmission.values().forEach(events -> {
+                try {
+                    write(events);
+                } catch (RuntimeException submissionFailure) {
+                    fail(events, submissionFailure);
+                }
+            });
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void writeWithRetries(List<QueuedEvent> events) {
+        long backoffNanos = properties.getFlushRetryBackoff().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                write(events);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt > properties.getFlushRetries() || !isTransient(e)) {
+                    throw e;
+                }
+                log.warn("Failed to write {} clock events, retrying in {} ms ({} of {})", events.size(),
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos), attempt, properties.getFlushRetries(), e);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoffNanos);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoffNanos *= 2;
+            }
+        }
+    }
+
+    private void write(List<QueuedEvent> events) {
+        Set<Long> employeeIds = new HashSet<>();
+        events.forEach(queued -> employeeIds.add(queued.event().getEmployeeId()));
+
+        Set<Long> existing = attendanceJdbcRepository.findExistingEmployeeIds(employeeIds);
+        List<ClockDay> days = merge(events, existing);
+        transaction.executeWithoutResult(status -> {
+            attendanceJdbcRepository.upsertClockDays(days);
+            List<AttendanceDay> written = attendanceJdbcRepository.finishDays(days, properties.getLateAfter());
+            summaryService.attendanceChanged(days.stream()
+                    .map(day -> MonthKey.of(day.employeeId(), day.date()))
+                    .distinct()
+                    .toList());
+            for (AttendanceDay day : written) {
+                eventPublisher.publish(AttendanceEvent.TOPIC, Long.toString(day.employeeId()),
+                        new AttendanceEvent(AttendanceEvent.Type.RECORDED, day.id(), day.employeeId(), day.date(),
+                                day.status(), day.checkIn(), day.checkOut(), day.workHours(), Instant.now()),
+                        properties.getPublishTimeout());
+            }
+        });
+        rows.increment(days.size());
+        complete(events, existing);
+        log.debug("Wrote {} clock events as {} attendance rows", events.size(), days.size());
+    }
+
+    /**
+     * Failures a later attempt may not hit: lock conflicts, lost or unavailable
+     * connections, and a full event publisher queue.
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException
+                || e instanceof EventBackpressureException;
+    }
+
+    private void fail(List<QueuedEvent> events, RuntimeException e) {
+        failures.increment(events.size());
+        log.error("Failed to write {} clock events", events.size(), e);
+        Set<Submission> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        events.forEach(queued -> failed.add(queued.submission()));
+        failed.forEach(submission -> submission.done.completeExceptionally(e));
+    }
+
+    /**
+     * One day per employee and date, sorted so that concurrent flushes and
+     * single writes lock rows in the same order.
+     */
+    private static List<ClockDay> merge(List<QueuedEvent> events, Set<Long> existing) {
+        Map<DayKey, LocalTime[]> times = new HashMap<>();
+        for (QueuedEvent queued : events) {
+            ClockEventDTO event = queued.event();
+            if (!existing.contains(event.getEmployeeId())) {
+                continue;
+            }
+            LocalTime[] inOut = times.computeIfAbsent(
+                    new DayKey(event.getEmployeeId(), event.getTimestamp().toLocalDate()), key -> new LocalTime[2]);
+            LocalTime time = event.getTimestamp().toLocalTime();
+            if (event.getType() == ClockEventDTO.Type.IN) {
+                inOut[0] = inOut[0] == null || time.isBefore(inOut[0]) ? time : inOut[0];
+            } else {
+                inOut[1] = inOut[1] == null || time.isAfter(inOut[1]) ? time : inOut[1];
+            }
+        }
+        List<ClockDay> days = new ArrayList<>(times.size());
+        times.forEach((key, inOut) -> days.add(new ClockDay(key.employeeId(), key.date(), inOut[0], inOut[1])));
+        days.sort(LOCK_ORDER);
+        return days;
+    }
+
+    private void complete(List<QueuedEvent> events, Set<Long> existing) {
+        long now = System.nanoTime();
+        int dropped = 0;
+        for (QueuedEvent queued : events) {
+            latency.record(now - queued.queuedAtNanos(), TimeUnit.NANOSECONDS);
+            boolean applied = existing.contains(queued.event().getEmployeeId());
+            if (!applied) {
+                dropped++;
+            }
+            queued.submission().eventDone(applied);
+        }
+        rejected.increment(dropped);
+    }
+
+    private record DayKey(long employeeId, LocalDate date) {
+    }
+
+    private record QueuedEvent(ClockEventDTO event, Submission submission, long queuedAtNanos) {
+    }
+
+    private static final class Submission {
+        private final CompletableFuture<ClockEventAckDTO> done = new CompletableFuture<>();
+        private final int size;
+        private final AtomicInteger remaining;
+        private final AtomicInteger applied = new AtomicInteger();
+
+        private Submission(int size) {
+            this.size = size;
+            this.remaining = new AtomicInteger(size);
+        }
+
+        private void eventDone(boolean wasApplied) {
+            if (wasApplied) {
+                applied.incrementAndGet();
+            }
+            if (remaining.decrementAndGet() == 0) {
+                int appliedCount = applied.get();
+                done.complete(new ClockEventAckDTO(size, appliedCount, size - appliedCount));
+            }
+        }
+    }
+}
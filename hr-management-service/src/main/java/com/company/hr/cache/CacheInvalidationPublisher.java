@@ -0,0 +1,62 @@
+package com.company.hr.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Broadcasts near-cache evictions to every replica over Redis pub/sub.
+ *
+ * Messages are plain strings of the form {@code origin|cache|keys}, where keys
+ * are newline separated; an empty key list means the whole cache was cleared.
+ * The origin lets an instance ignore its own broadcasts.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    static final char SEPARATOR = '|';
+    static final char KEY_SEPARATOR = '\n';
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    public void publishEvictAll(String cacheName, Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            publish(cacheName, String.join(String.valueOf(KEY_SEPARATOR), keys));
+        }
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, "");
+    }
+
+    private void publish(String cacheName, String key) {
+        String message = instanceId + SEPARATOR + cacheName + SEPARATOR + key;
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            // Other replicas fall back to the near-cache TTL; the write itself must not fail.
+            log.warn("Failed to broadcast invalidation for cache {} key {}", cacheName, key, e);
+        }
+    }
+}
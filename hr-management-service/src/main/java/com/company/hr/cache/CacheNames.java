@@ -0,0 +1,20 @@
+package com.company.hr.cache;
+
+/**
+ * Names of the caches used by the service layer.
+ */
+public final class CacheNames {
+
+    /**
+     * {@code EmployeeDTO} keyed by database id.
+     */
+    public static final String EMPLOYEES = "employees";
+
+    /**
+     * {@code EmployeeDTO} keyed by business employee id (e.g. {@code EMP001}).
+     */
+    public static final String EMPLOYEES_BY_EMPLOYEE_ID = "employeesByEmployeeId";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,119 @@
+package com.company.hr.cache;
+
+import com.company.common.cache.CachedValue;
+import com.company.hr.config.AppCacheProperties;
+import com.company.hr.dto.EmployeeDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-key access to the {@link CacheNames#EMPLOYEES} cache for batch lookups.
+ *
+ * Reads use a single MGET and writes a single pipeline, in the same entry format
+ * as the per-key cache path. Batch reads skip the near cache; it only pays off
+ * for the hot single-key path.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeBatchCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCacheConfiguration redisCacheConfiguration;
+    private final AppCacheProperties properties;
+
+    /**
+     * @return the cached employees by id; ids that are not cached are absent
+     */
+    public Map<Long, EmployeeDTO> getAll(List<Long> ids) {
+        Map<Long, EmployeeDTO> found = new HashMap<>();
+        if (ids.isEmpty()) {
+            return found;
+        }
+
+        byte[][] keys = ids.stream().map(this::redisKey).toArray(byte[][]::new);
+        List<byte[]> values;
+        try {
+            values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(keys));
+        } catch (RuntimeException e) {
+            log.warn("Batch read of {} employees from Redis failed, loading from database", ids.size(), e);
+            return found;
+        }
+        if (values == null) {
+            return found;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = deserialize(values.get(i));
+            if (value instanceof EmployeeDTO employee) {
+                found.put(ids.get(i), employee);
+            }
+        }
+        return found;
+    }
+
+    public void putAll(Collection<EmployeeDTO> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+
+        Duration refreshAfter = properties.refreshAfter();
+        List<byte[]> keys = new ArrayList<>(employees.size());
+        List<byte[]> values = new ArrayList<>(employees.size());
+        List<Duration> ttls = new ArrayList<>(employees.size());
+        for (EmployeeDTO employee : employees) {
+            Object value = refreshAfter != null
+                    ? new CachedValue(employee, System.currentTimeMillis() + refreshAfter.toMillis())
+                    : employee;
+            keys.add(redisKey(employee.getId()));
+            values.add(ByteUtils.getBytes(redisCacheConfiguration.getValueSerializationPair().write(value)));
+            ttls.add(redisCacheConfiguration.getTtlFunction().getTimeToLive(employee.getId(), value));
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < keys.size(); i++) {
+                    connection.stringCommands().set(keys.get(i), values.get(i),
+                            Expiration.from(ttls.get(i)), RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Batch write of {} employees to Redis failed", employees.size(), e);
+        }
+    }
+
+    private Object deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            Object value = redisCacheConfiguration.getValueSerializationPair().read(ByteBuffer.wrap(bytes));
+            return value instanceof CachedValue cachedValue ? cachedValue.getValue() : value;
+        } catch (RuntimeException e) {
+            log.debug("Ignoring unreadable employee cache entry", e);
+            return null;
+        }
+    }
+
+    private byte[] redisKey(Long id) {
+        return (redisCacheConfiguration.getKeyPrefixFor(CacheNames.EMPLOYEES) + id).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package com.company.hr.cache;
+
+import com.company.common.cache.RefreshAheadCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Evicts individual employees from both employee caches.
+ *
+ * All keys of a call are deleted from Redis in one pipelined round trip and
+ * dropped from the near cache with one broadcast per cache. When called inside
+ * a transaction the eviction runs after commit, so a concurrent reader cannot
+ * re-cache the pre-commit row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCacheConfiguration redisCacheConfiguration;
+
+    public void evict(Long id, String... employeeIds) {
+        evictAll(id != null ? List.of(id) : List.of(), Arrays.asList(employeeIds));
+    }
+
+    public void evictAll(Collection<Long> ids, Collection<String> employeeIds) {
+        Set<Long> idKeys = distinctNonNull(ids);
+        Set<String> employeeIdKeys = distinctNonNull(employeeIds);
+        if (idKeys.isEmpty() && employeeIdKeys.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(idKeys, employeeIdKeys);
+                }
+            });
+        } else {
+            doEvict(idKeys, employeeIdKeys);
+        }
+    }
+
+    private void doEvict(Set<Long> ids, Set<String> employeeIds) {
+        List<byte[]> redisKeys = new ArrayList<>(ids.size() + employeeIds.size());
+        ids.forEach(id -> redisKeys.add(redisKey(CacheNames.EMPLOYEES, id)));
+        employeeIds.forEach(employeeId -> redisKeys.add(redisKey(CacheNames.EMPLOYEES_BY_EMPLOYEE_ID, employeeId)));
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deleteAll(connection, redisKeys);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // Entries age out with the cache TTL; the committed write must not be reported as failed.
+            log.warn("Failed to evict {} employee cache entries from Redis", redisKeys.size(), e);
+        }
+
+        evictFromNearCache(CacheNames.EMPLOYEES, ids);
+        evictFromNearCache(CacheNames.EMPLOYEES_BY_EMPLOYEE_ID, employeeIds);
+        log.debug("Evicted employee cache entries for ids {} and employee IDs {}", ids, employeeIds);
+    }
+
+    private void deleteAll(RedisConnection connection, List<byte[]> redisKeys) {
+        for (byte[] key : redisKeys) {
+            connection.keyCommands().del(key);
+        }
+    }
+
+    private void evictFromNearCache(String cacheName, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof RefreshAheadCache refreshAheadCache) {
+            cache = refreshAheadCache.getTargetCache();
+        }
+        if (cache instanceof TwoTierCache twoTierCache) {
+            twoTierCache.evictAllFromNearCache(keys);
+        }
+    }
+
+    private byte[] redisKey(String cacheName, Object key) {
+        return (redisCacheConfiguration.getKeyPrefixFor(cacheName) + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static <T> Set<T> distinctNonNull(Collection<T> values) {
+        Set<T> result = new LinkedHashSet<>();
+        for (T value : values) {
+            if (Objects.nonNull(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+}
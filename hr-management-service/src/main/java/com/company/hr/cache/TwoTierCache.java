@@ -0,0 +1,165 @@
+package com.company.hr.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A {@link Cache} that serves reads from a bounded in-process L1 and falls back
+ * to the shared Redis L2. Every write goes to Redis first, then drops the local
+ * copy and tells the other replicas to do the same.
+ *
+ * L1 is keyed by the string form of the cache key, which is also what
+ * {@code RedisCache} uses, so a key received over pub/sub maps to the same entry.
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public TwoTierCache(String name,
+                        Cache remote,
+                        com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+                        CacheInvalidationPublisher invalidationPublisher) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    public Cache getRemote() {
+        return remote;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        wrapper = remote.get(key);
+        if (wrapper != null) {
+            local.put(localKey, wrapper);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = remote.get(key, valueLoader);
+        local.put(toLocalKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = toLocalKey(key);
+        local.put(localKey, new SimpleValueWrapper(value));
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            invalidateEverywhere(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        invalidateEverywhere(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        invalidateEverywhere(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        invalidationPublisher.publishClear(name);
+        return invalidated;
+    }
+
+    /**
+     * Drops the given keys from the near cache on every replica with a single
+     * broadcast. The caller is responsible for removing them from Redis.
+     */
+    public void evictAllFromNearCache(Collection<?> keys) {
+        List<String> localKeys = keys.stream().map(TwoTierCache::toLocalKey).toList();
+        local.invalidateAll(localKeys);
+        invalidationPublisher.publishEvictAll(name, localKeys);
+    }
+
+    /**
+     * Drops a local entry in response to a broadcast from another replica.
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    /**
+     * Drops every local entry in response to a broadcast from another replica.
+     */
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private void invalidateEverywhere(Object key) {
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,114 @@
+package com.company.hr.cache;
+
+import com.company.hr.config.AppCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link CacheManager} that puts a Caffeine near cache in front of every cache of
+ * the wrapped Redis cache manager.
+ *
+ * Also listens on the invalidation channel so that a write on any replica drops
+ * the affected entry from this instance's near cache.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final AppCacheProperties.Near properties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Counter remoteInvalidations;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               AppCacheProperties.Near properties,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        this.remoteInvalidations = Counter.builder("cache.near.remote.invalidations")
+                .description("Near-cache invalidations received from other replicas")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(CacheInvalidationPublisher.SEPARATOR);
+        int second = first < 0 ? -1 : body.indexOf(CacheInvalidationPublisher.SEPARATOR, first + 1);
+        if (second < 0) {
+            log.warn("Ignoring malformed cache invalidation message: {}", body);
+            return;
+        }
+
+        String origin = body.substring(0, first);
+        if (invalidationPublisher.getInstanceId().equals(origin)) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(body.substring(first + 1, second));
+        if (cache == null) {
+            return;
+        }
+
+        String keys = body.substring(second + 1);
+        if (keys.isEmpty()) {
+            cache.clearLocal();
+        } else {
+            for (String key : keys.split(String.valueOf(CacheInvalidationPublisher.KEY_SEPARATOR))) {
+                cache.evictLocal(key);
+            }
+        }
+        remoteInvalidations.increment();
+    }
+
+    private TwoTierCache createCache(String name, Cache remote) {
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "near"));
+        log.info("Created two-tier cache '{}' (near size {}, near TTL {})",
+                name, properties.getMaximumSize(), properties.getTtl());
+        return new TwoTierCache(name, remote, local, invalidationPublisher);
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.hr.cache.codec;
+
+import com.company.common.cache.codec.BinaryCodec;
+import com.company.common.cache.codec.BinaryReader;
+import com.company.common.cache.codec.BinaryWriter;
+import com.company.hr.dto.AddressDTO;
+import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.entity.Employee;
+
+public class EmployeeDTOCodec implements BinaryCodec<EmployeeDTO> {
+
+    public static final int TYPE_ID = 10;
+
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<EmployeeDTO> getType() {
+        return EmployeeDTO.class;
+    }
+
+    @Override
+    public int getTypeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void write(BinaryWriter out, EmployeeDTO employee) {
+        out.writeLong(employee.getId());
+        out.writeString(employee.getEmployeeId());
+        out.writeString(employee.getFirstName());
+        out.writeString(employee.getLastName());
+        out.writeString(employee.getEmail());
+        out.writeString(employee.getPhoneNumber());
+        out.writeDate(employee.getDateOfBirth());
+        out.writeDate(employee.getHireDate());
+        out.writeEnum(employee.getStatus());
+        out.writeEnum(employee.getEmploymentType());
+        out.writeString(employee.getJobTitle());
+        out.writeDecimal(employee.getSalary());
+        out.writeLong(employee.getDepartmentId());
+        out.writeString(employee.getDepartmentName());
+        out.writeLong(employee.getManagerId());
+        out.writeString(employee.getManagerName());
+
+        AddressDTO address = employee.getAddress();
+        out.writeBoolean(address != null);
+        if (address != null) {
+            out.writeString(address.getStreet());
+            out.writeString(address.getCity());
+            out.writeString(address.getState());
+            out.writeString(address.getCountry());
+            out.writeString(address.getPostalCode());
+        }
+
+        out.writeDateTime(employee.getCreatedAt());
+        out.writeDateTime(employee.getUpdatedAt());
+    }
+
+    @Override
+    public EmployeeDTO read(BinaryReader in, int schemaVersion) {
+        if (schemaVersion != SCHEMA_VERSION) {
+            return null;
+        }
+
+        EmployeeDTO employee = new EmployeeDTO();
+        employee.setId(in.readLong());
+        employee.setEmployeeId(in.readString());
+        employee.setFirstName(in.readString());
+        employee.setLastName(in.readString());
+        employee.setEmail(in.readString());
+        employee.setPhoneNumber(in.readString());
+        employee.setDateOfBirth(in.readDate());
+        employee.setHireDate(in.readDate());
+        employee.setStatus(in.readEnum(Employee.EmploymentStatus.class));
+        employee.setEmploymentType(in.readEnum(Employee.EmploymentType.class));
+        employee.setJobTitle(in.readString());
+        employee.setSalary(in.readDecimal());
+        employee.setDepartmentId(in.readLong());
+        employee.setDepartmentName(in.readString());
+        employee.setManagerId(in.readLong());
+        employee.setManagerName(in.readString());
+
+        if (in.readBoolean()) {
+            employee.setAddress(AddressDTO.builder()
+                    .street(in.readString())
+                    .city(in.readString())
+                    .state(in.readString())
+                    .country(in.readString())
+                    .postalCode(in.readString())
+                    .build());
+        }
+
+        employee.setCreatedAt(in.readDateTime());
+        employee.setUpdatedAt(in.readDateTime());
+        return employee;
+    }
+}
@@ -0,0 +1,101 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class AppCacheProperties {
+
+    /**
+     * TTL of entries in the shared Redis tier.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Random TTL extension, as a fraction of {@code ttl}, so that entries loaded
+     * together do not expire together.
+     */
+    private double ttlJitter = 0.1;
+
+    private Near near = new Near();
+
+    private Refresh refresh = new Refresh();
+
+    private Serialization serialization = new Serialization();
+
+    /**
+     * Age after which entries are refreshed on read, or {@code null} if refresh-ahead is off.
+     */
+    public Duration refreshAfter() {
+        return refresh.isEnabled() ? Duration.ofMillis((long) (ttl.toMillis() * refresh.getAheadRatio())) : null;
+    }
+
+    @Data
+    public static class Near {
+
+        /**
+         * Whether an in-process cache is placed in front of Redis.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of entries kept per cache on each instance.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Upper bound on how long an instance may serve a local copy, even if an
+         * invalidation message is lost.
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        /**
+         * Redis pub/sub channel used to broadcast evictions to every replica.
+         */
+        private String invalidationChannel = "hr-cache-invalidation";
+    }
+
+    @Data
+    public static class Refresh {
+
+        /**
+         * Whether entries past {@code ahead-ratio} of their TTL are reloaded in the
+         * background while the current value keeps being served.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Fraction of {@code app.cache.ttl} after which an entry is refreshed on read.
+         */
+        private double aheadRatio = 0.8;
+
+        private int threads = 2;
+
+        /**
+         * Pending refreshes beyond this are dropped; the stale value is then served
+         * until it expires.
+         */
+        private int queueCapacity = 256;
+    }
+
+    @Data
+    public static class Serialization {
+
+        /**
+         * Encoding of cached values. Either format reads entries written in the other.
+         */
+        private Format format = Format.JSON;
+
+        /**
+         * Binary values at least this many bytes long are deflated; 0 disables compression.
+         */
+        private int compressionThreshold = 1024;
+
+        public enum Format {
+            JSON, BINARY
+        }
+    }
+}
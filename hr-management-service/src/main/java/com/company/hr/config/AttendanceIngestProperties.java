@@ -0,0 +1,60 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+@Data
+@ConfigurationProperties(prefix = "app.attendance-ingest")
+public class AttendanceIngestProperties {
+
+    /**
+     * Clock events held in memory while waiting to be written. A request that
+     * does not fit within {@link #enqueueTimeout} is rejected with 503.
+     */
+    private int queueCapacity = 100000;
+
+    /**
+     * Clock events written per flush; each flush is one transaction.
+     */
+    private int batchSize = 2000;
+
+    /**
+     * How long a flush waits for a batch to fill once the first event arrived.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * How long a request waits for room in a full queue.
+     */
+    private Duration enqueueTimeout = Duration.ofMillis(100);
+
+    /**
+     * How long a flush waits for room in the event publisher's queue before it
+     * fails and rolls back.
+     */
+    private Duration publishTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Retries of a flush that failed on a lock conflict, an unavailable
+     * connection or a full event publisher queue.
+     */
+    private int flushRetries = 3;
+
+    /**
+     * Pause before the first flush retry; doubled for each further one.
+     */
+    private Duration flushRetryBackoff = Duration.ofMillis(200);
+
+    /**
+     * Check-ins after this time mark a present employee as late.
+     */
+    private LocalTime lateAfter = LocalTime.of(9, 30);
+
+    /**
+     * How long shutdown waits for queued clock events to be written.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,14 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.attendance-summary")
+public class AttendanceSummaryProperties {
+
+    /**
+     * Employees whose month is rebuilt per backfill transaction.
+     */
+    private int backfillChunkSize = 1000;
+}
@@ -1,56 +1,119 @@
 package com.company.hr.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.company.common.cache.CachedValue;
+import com.company.common.cache.JitteredTtlFunction;
+import com.company.common.cache.RefreshAheadCacheManager;
+import com.company.common.cache.codec.CompactBinaryRedisSerializer;
+import com.company.hr.cache.CacheInvalidationPublisher;
+import com.company.hr.cache.TwoTierCacheManager;
+import com.company.hr.cache.codec.EmployeeDTOCodec;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.util.List;
 
+/**
+ * The caching advisor is ordered ahead of the transaction interceptor so that
+ * cache hits never borrow a database connection and background refreshes open
+ * their own read-only transaction.
+ */
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(AppCacheProperties.class)
 public class CacheConfig {
 
+    /**
+     * Polymorphic JSON: each value carries its class, so a {@link CachedValue}
+     * envelope and the DTO inside it read back as the types that were written.
+     */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisSerializer<Object> redisJsonSerializer() {
+        return new GenericJackson2JsonRedisSerializer()
+                .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       RedisSerializer<Object> redisJsonSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-        
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(serializer);
+        template.setValueSerializer(redisJsonSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(serializer);
+        template.setHashValueSerializer(redisJsonSerializer);
         
         return template;
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(AppCacheProperties properties,
+                                                           RedisSerializer<Object> redisJsonSerializer) {
+        AppCacheProperties.Serialization serialization = properties.getSerialization();
+        RedisSerializer<Object> serializer = redisJsonSerializer;
+        if (serialization.getFormat() == AppCacheProperties.Serialization.Format.BINARY) {
+            serializer = new CompactBinaryRedisSerializer(
+                    List.of(new EmployeeDTOCodec()), serializer, serialization.getCompressionThreshold());
+        }
         
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(new JitteredTtlFunction(properties.getTtl(), properties.getTtlJitter()))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration redisCacheConfiguration,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                     MeterRegistry meterRegistry,
+                                     AppCacheProperties properties) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        CacheManager cacheManager = redisCacheManager;
+
+        AppCacheProperties.Near near = properties.getNear();
+        if (near.isEnabled()) {
+            // Near cache in front of Redis; replicas drop their local copies via pub/sub
+            CacheInvalidationPublisher invalidationPublisher =
+                    new CacheInvalidationPublisher(stringRedisTemplate, near.getInvalidationChannel());
+            TwoTierCacheManager twoTierCacheManager =
+                    new TwoTierCacheManager(redisCacheManager, near, invalidationPublisher, meterRegistry);
+            cacheInvalidationListenerContainer.addMessageListener(
+                    twoTierCacheManager, new ChannelTopic(near.getInvalidationChannel()));
+            cacheManager = twoTierCacheManager;
+        }
+
+        AppCacheProperties.Refresh refresh = properties.getRefresh();
+        return new RefreshAheadCacheManager(cacheManager, properties.refreshAfter(),
+                refresh.getThreads(), refresh.getQueueCapacity(), meterRegistry);
     }
 }
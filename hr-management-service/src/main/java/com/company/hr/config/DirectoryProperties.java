@@ -0,0 +1,26 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.directory")
+public class DirectoryProperties {
+
+    /**
+     * Employees held by the in-memory directory; beyond this, new employees are
+     * left out of suggestions. The index takes roughly 36 MB per 100,000 employees.
+     */
+    private int maxEmployees = 500_000;
+
+    /**
+     * Largest number of suggestions returned per request.
+     */
+    private int maxSuggestions = 25;
+
+    /**
+     * Index entries examined per request, which bounds the cost of short prefixes
+     * shared by many employees.
+     */
+    private int maxScan = 5_000;
+}
@@ -0,0 +1,35 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "app.employee-import")
+public class EmployeeImportProperties {
+
+    /**
+     * Rows checked and inserted per transaction.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Uploads larger than this are rejected before any row is read.
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(100);
+
+    /**
+     * Rows read from one file; the job stops with an error past this.
+     */
+    private int maxRows = 200000;
+
+    /**
+     * Failed rows kept in a job's error report; further failures are only counted.
+     */
+    private int maxErrors = 10000;
+
+    /**
+     * Finished jobs whose status and error report are kept in memory.
+     */
+    private int retainedJobs = 20;
+}
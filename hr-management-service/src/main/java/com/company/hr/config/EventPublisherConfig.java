@@ -0,0 +1,9 @@
+package com.company.hr.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EventPublisherProperties.class)
+public class EventPublisherConfig {
+}
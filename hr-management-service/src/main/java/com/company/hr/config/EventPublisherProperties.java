@@ -0,0 +1,33 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.events")
+public class EventPublisherProperties {
+
+    /**
+     * Leave and attendance events held in memory while waiting for the sender,
+     * counting those reserved by transactions that have not committed yet.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Events taken off the queue and handed to the producer at a time.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long a write waits for room in a full queue before it is rejected with
+     * 503 Service Unavailable and rolled back.
+     */
+    private Duration enqueueTimeout = Duration.ofMillis(200);
+
+    /**
+     * How long shutdown waits for queued events to be handed to the producer.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
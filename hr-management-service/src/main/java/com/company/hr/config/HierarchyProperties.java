@@ -0,0 +1,28 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.hierarchy")
+public class HierarchyProperties {
+
+    /**
+     * Upper bound on how long an instance serves its in-memory org chart after
+     * another replica changed the hierarchy. Changes made through this instance
+     * drop the chart on commit.
+     */
+    private Duration chartTtl = Duration.ofMinutes(5);
+
+    /**
+     * Largest number of employees returned in one org chart response.
+     */
+    private int maxChartNodes = 2_000;
+
+    /**
+     * Deepest org chart a request can expand.
+     */
+    private int maxChartDepth = 10;
+}
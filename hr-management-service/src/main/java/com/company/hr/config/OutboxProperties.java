@@ -0,0 +1,39 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether this instance relays outbox events to Kafka. Only one replica relays
+     * at a time either way; the others find the outbox locked and skip the poll.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Pause between polls once the outbox has been drained. Bound to the relay's
+     * schedule as {@code ${app.outbox.poll-interval}}, so use an ISO-8601 value.
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * Events read, sent and deleted per relay transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Batches relayed back to back in one poll while the outbox stays full.
+     */
+    private int maxBatchesPerPoll = 20;
+
+    /**
+     * How long a batch may wait for broker acknowledgements before it is rolled
+     * back and retried on the next poll.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,21 @@
+package com.company.hr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetProperties {
+
+    /**
+     * Whether statements are counted against the {@code @QueryBudget} of each endpoint.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether the statement that exceeds a budget fails the request, instead of the
+     * request being logged and counted. Meant for tests, so regressions such as N+1
+     * fetching fail the build.
+     */
+    private boolean failOnExceed = false;
+}
@@ -0,0 +1,122 @@
+package com.company.hr.controller;
+
+import com.company.hr.attendance.AttendanceSummaryBackfill;
+import com.company.hr.attendance.ClockEventIngestor;
+import com.company.hr.dto.ApiResponse;
+import com.company.hr.dto.AttendanceDTO;
+import com.company.hr.dto.ClockEventAckDTO;
+import com.company.hr.dto.ClockEventBatchRequest;
+import com.company.hr.dto.MonthlyAttendanceDTO;
+import com.company.hr.dto.SummaryBackfillStatusDTO;
+import com.company.hr.service.AttendanceService;
+import com.company.hr.service.AttendanceSummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1/attendances")
+@RequiredArgsConstructor
+@Tag(name = "Attendance Tracking", description = "APIs for recording attendance")
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+    private final ClockEventIngestor clockEventIngestor;
+    private final AttendanceSummaryService summaryService;
+    private final AttendanceSummaryBackfill summaryBackfill;
+
+    @PostMapping
+    @Operation(summary = "Record an employee's attendance for a day")
+    public ResponseEntity<ApiResponse<AttendanceDTO>> recordAttendance(@Valid @RequestBody AttendanceDTO attendanceDTO) {
+        AttendanceDTO attendance = attendanceService.recordAttendance(attendanceDTO);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Attendance recorded successfully", attendance));
+    }
+
+    @PostMapping("/clock-events")
+    @Operation(summary = "Ingest a batch of clock-in and clock-out events",
+            description = "Events are written in the background, merged into one attendance per employee and day. "
+                    + "ack=ACCEPTED answers 202 once queued; ack=FLUSHED answers once written, with the events applied "
+                    + "and those dropped for unknown employees. 503 when the ingestion queue is full.")
+    public CompletableFuture<ResponseEntity<ApiResponse<ClockEventAckDTO>>> ingestClockEvents(
+            @Valid @RequestBody ClockEventBatchRequest request,
+            @RequestParam(defaultValue = "ACCEPTED") ClockEventAckDTO.Mode ack) {
+        CompletableFuture<ClockEventAckDTO> written = clockEventIngestor.submit(request.getEvents());
+        if (ack == ClockEventAckDTO.Mode.ACCEPTED) {
+            ClockEventAckDTO receipt = ClockEventAckDTO.builder().accepted(request.getEvents().size()).build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Clock events accepted", receipt)));
+        }
+        return written.thenApply(result -> ResponseEntity.ok(ApiResponse.success("Clock events written", result)));
+    }
+
+    @PutMapping("/{id}/check-out")
+    @Operation(summary = "Record the check-out time of an attendance")
+    public ResponseEntity<ApiResponse<AttendanceDTO>> checkOut(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime time) {
+        AttendanceDTO attendance = attendanceService.checkOut(id, time);
+        return ResponseEntity.ok(ApiResponse.success("Check-out recorded successfully", attendance));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get attendance by ID")
+    public ResponseEntity<ApiResponse<AttendanceDTO>> getAttendanceById(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(attendanceService.getAttendanceById(id)));
+    }
+
+    @GetMapping("/employee/{employeeId}")
+    @Operation(summary = "Get an employee's attendance between two dates", description = "At most 366 days")
+    public ResponseEntity<ApiResponse<List<AttendanceDTO>>> getAttendanceByEmployee(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<AttendanceDTO> attendance = attendanceService.getAttendanceByEmployee(employeeId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(attendance));
+    }
+
+    @GetMapping("/summary/department/{departmentId}")
+    @Operation(summary = "Get the month's attendance and approved leave of every employee in a department")
+    public ResponseEntity<ApiResponse<List<MonthlyAttendanceDTO>>> getDepartmentSummary(
+            @PathVariable Long departmentId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        List<MonthlyAttendanceDTO> summaries = summaryService.getDepartmentMonth(departmentId, month);
+        return ResponseEntity.ok(ApiResponse.success(summaries));
+    }
+
+    @GetMapping("/summary/employee/{employeeId}")
+    @Operation(summary = "Get an employee's attendance and approved leave for a month")
+    public ResponseEntity<ApiResponse<MonthlyAttendanceDTO>> getEmployeeSummary(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(ApiResponse.success(summaryService.getEmployeeMonth(employeeId, month)));
+    }
+
+    @PostMapping("/summary/backfill")
+    @Operation(summary = "Rebuild monthly summaries from attendance and leave history",
+            description = "Runs in the background; from defaults to the earliest recorded month, to to the current one. "
+                    + "Returns the running backfill if there is one.")
+    public ResponseEntity<ApiResponse<SummaryBackfillStatusDTO>> startSummaryBackfill(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        SummaryBackfillStatusDTO status = summaryBackfill.start(from, to);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(status));
+    }
+
+    @GetMapping("/summary/backfill")
+    @Operation(summary = "Get the progress of the latest summary backfill")
+    public ResponseEntity<ApiResponse<SummaryBackfillStatusDTO>> getSummaryBackfill() {
+        return ResponseEntity.ok(ApiResponse.success(summaryBackfill.getStatus()));
+    }
+}
@@ -1,8 +1,20 @@
 package com.company.hr.controller;
 
+import com.company.common.dto.CursorPage;
+import com.company.common.export.ExportFormat;
+import com.company.hr.directory.EmployeeDirectory;
 import com.company.hr.dto.ApiResponse;
+import com.company.hr.dto.DirectoryStatsDTO;
+import com.company.hr.dto.EmployeeBatchRequest;
 import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.dto.EmployeeSearchMode;
+import com.company.hr.dto.EmployeeSuggestionDTO;
+import com.company.hr.dto.OrgChartNodeDTO;
 import com.company.hr.entity.Employee;
+import com.company.hr.monitoring.QueryBudget;
+import com.company.hr.repository.EmployeeSortKey;
+import com.company.hr.service.EmployeeExportService;
+import com.company.hr.service.EmployeeHierarchyService;
 import com.company.hr.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,11 +22,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/employees")
@@ -22,7 +39,13 @@ import java.util.List;
 @Tag(name = "Employee Management", description = "APIs for managing employees")
 public class EmployeeController {
 
+    private static final int MAX_SCAN_LIMIT = 2000;
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+
     private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeDirectory employeeDirectory;
+    private final EmployeeHierarchyService hierarchyService;
 
     @PostMapping
     @Operation(summary = "Create a new employee")
@@ -42,6 +65,7 @@ public class EmployeeController {
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(1)
     @Operation(summary = "Get employee by ID")
     public ResponseEntity<ApiResponse<EmployeeDTO>> getEmployeeById(@PathVariable Long id) {
         EmployeeDTO employee = employeeService.getEmployeeById(id);
@@ -49,20 +73,95 @@ public class EmployeeController {
     }
 
     @GetMapping("/employee-id/{employeeId}")
+    @QueryBudget(1)
     @Operation(summary = "Get employee by employee ID")
     public ResponseEntity<ApiResponse<EmployeeDTO>> getEmployeeByEmployeeId(@PathVariable String employeeId) {
         EmployeeDTO employee = employeeService.getEmployeeByEmployeeId(employeeId);
         return ResponseEntity.ok(ApiResponse.success(employee));
     }
 
+    @PostMapping("/batch")
+    @QueryBudget(1)
+    @Operation(summary = "Get up to " + EmployeeBatchRequest.MAX_IDS + " employees by ID in one call",
+            description = "IDs that do not exist are left out of the response")
+    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getEmployeesByIds(
+            @Valid @RequestBody EmployeeBatchRequest request) {
+        List<EmployeeDTO> employees = employeeService.getEmployeesByIds(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success(employees));
+    }
+
     @GetMapping
+    @QueryBudget(2)
     @Operation(summary = "Get all employees with pagination")
     public ResponseEntity<ApiResponse<Page<EmployeeDTO>>> getAllEmployees(Pageable pageable) {
         Page<EmployeeDTO> employees = employeeService.getAllEmployees(pageable);
         return ResponseEntity.ok(ApiResponse.success(employees));
     }
 
+    @GetMapping("/cursor")
+    @QueryBudget(2)
+    @Operation(summary = "Get employees with keyset pagination",
+            description = "Pass nextCursor from the previous page as cursor, with the same sort and direction. " +
+                    "Pages cost the same at any depth; the total is only computed when requested")
+    public ResponseEntity<ApiResponse<CursorPage<EmployeeDTO>>> getEmployeesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ID") EmployeeSortKey sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total) {
+        CursorPage<EmployeeDTO> employees = employeeService.getEmployeesPage(
+                cursor, sort, direction, cursorPageSize(size), total);
+        return ResponseEntity.ok(ApiResponse.success(employees));
+    }
+
+    @GetMapping("/scan")
+    @QueryBudget(1)
+    @Operation(summary = "Page through employees in ID order",
+            description = "Returns up to limit employees with an ID greater than afterId; pass the last ID received to get the next page")
+    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> scanEmployees(
+            @RequestParam(defaultValue = "0") Long afterId,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) Employee.EmploymentStatus status,
+            @RequestParam(defaultValue = "500") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_SCAN_LIMIT));
+        List<EmployeeDTO> employees = employeeService.scanEmployees(afterId, departmentId, status, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(employees));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export employees as NDJSON or CSV",
+            description = "Streams every employee in ID order, optionally limited to one department. " +
+                    "The response is gzip-compressed when the client accepts gzip")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) Long departmentId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                employeeExportService.exportEmployees(departmentId, format, compressed);
+                compressed.finish();
+            } else {
+                employeeExportService.exportEmployees(departmentId, format, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employees." + format.extension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/department/{departmentId}")
+    @QueryBudget(1)
     @Operation(summary = "Get employees by department")
     public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getEmployeesByDepartment(@PathVariable Long departmentId) {
         List<EmployeeDTO> employees = employeeService.getEmployeesByDepartment(departmentId);
@@ -70,13 +169,48 @@ public class EmployeeController {
     }
 
     @GetMapping("/manager/{managerId}")
+    @QueryBudget(1)
     @Operation(summary = "Get employees by manager")
     public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getEmployeesByManager(@PathVariable Long managerId) {
         List<EmployeeDTO> employees = employeeService.getEmployeesByManager(managerId);
         return ResponseEntity.ok(ApiResponse.success(employees));
     }
 
+    @GetMapping("/{id}/subordinates")
+    @QueryBudget(5)
+    @Operation(summary = "Get everyone reporting to an employee, directly or indirectly",
+            description = "Nearest levels first; maxDepth=1 returns direct reports only, no maxDepth the whole subtree")
+    public ResponseEntity<ApiResponse<Page<EmployeeDTO>>> getSubordinates(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer maxDepth,
+            Pageable pageable) {
+        Page<EmployeeDTO> employees = hierarchyService.getSubordinates(id, maxDepth, pageable);
+        return ResponseEntity.ok(ApiResponse.success(employees));
+    }
+
+    @GetMapping("/{id}/reporting-chain")
+    @QueryBudget(4)
+    @Operation(summary = "Get an employee's chain of command",
+            description = "From the direct manager up to the top of the organization")
+    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getReportingChain(@PathVariable Long id) {
+        List<EmployeeDTO> employees = hierarchyService.getReportingChain(id);
+        return ResponseEntity.ok(ApiResponse.success(employees));
+    }
+
+    @GetMapping("/{id}/org-chart")
+    @QueryBudget(1)
+    @Operation(summary = "Get the org chart below an employee",
+            description = "Served from an in-memory copy of the hierarchy that may lag other replicas' changes " +
+                    "by up to app.hierarchy.chart-ttl. Every node carries its direct and total report counts")
+    public ResponseEntity<ApiResponse<OrgChartNodeDTO>> getOrgChart(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "2") int depth) {
+        OrgChartNodeDTO chart = hierarchyService.getOrgChart(id, depth);
+        return ResponseEntity.ok(ApiResponse.success(chart));
+    }
+
     @GetMapping("/status/{status}")
+    @QueryBudget(1)
     @Operation(summary = "Get employees by status")
     public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getEmployeesByStatus(
             @PathVariable Employee.EmploymentStatus status) {
@@ -85,11 +219,51 @@ public class EmployeeController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search employees")
+    @QueryBudget(3)
+    @Operation(summary = "Search employees",
+            description = "Matches first name, last name, email or employee ID, case-insensitively. " +
+                    "mode=PREFIX matches the start of a field, for typeahead. " +
+                    "Without a sort, the best matches come first")
     public ResponseEntity<ApiResponse<Page<EmployeeDTO>>> searchEmployees(
             @RequestParam String keyword,
+            @RequestParam(defaultValue = "CONTAINS") EmployeeSearchMode mode,
             Pageable pageable) {
-        Page<EmployeeDTO> employees = employeeService.searchEmployees(keyword, pageable);
+        Page<EmployeeDTO> employees = employeeService.searchEmployees(keyword, mode, pageable);
+        return ResponseEntity.ok(ApiResponse.success(employees));
+    }
+
+    @GetMapping("/suggestions")
+    @QueryBudget(0)
+    @Operation(summary = "Suggest employees as the user types",
+            description = "Matches the start of first name, last name, email or employee ID from an in-memory " +
+                    "index, without a database query. Every word of q must match")
+    public ResponseEntity<ApiResponse<List<EmployeeSuggestionDTO>>> suggestEmployees(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<EmployeeSuggestionDTO> suggestions = employeeDirectory.suggest(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+
+    @GetMapping("/suggestions/stats")
+    @QueryBudget(0)
+    @Operation(summary = "Size and estimated heap usage of the suggestion index")
+    public ResponseEntity<ApiResponse<DirectoryStatsDTO>> getSuggestionStats() {
+        return ResponseEntity.ok(ApiResponse.success(employeeDirectory.stats()));
+    }
+
+    @GetMapping("/search/cursor")
+    @QueryBudget(2)
+    @Operation(summary = "Search employees with keyset pagination",
+            description = "Same matching as /search; ESTIMATE falls back to an exact count")
+    public ResponseEntity<ApiResponse<CursorPage<EmployeeDTO>>> searchEmployeesPage(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ID") EmployeeSortKey sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total) {
+        CursorPage<EmployeeDTO> employees = employeeService.searchEmployeesPage(
+                keyword, cursor, sort, direction, cursorPageSize(size), total);
         return ResponseEntity.ok(ApiResponse.success(employees));
     }
 
@@ -99,4 +273,8 @@ public class EmployeeController {
         employeeService.deleteEmployee(id);
         return ResponseEntity.ok(ApiResponse.success("Employee deleted successfully", null));
     }
+
+    private static int cursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
 }
@@ -0,0 +1,65 @@
+package com.company.hr.controller;
+
+import com.company.common.export.ExportFormat;
+import com.company.hr.dto.ApiResponse;
+import com.company.hr.dto.EmployeeImportStatusDTO;
+import com.company.hr.importer.EmployeeImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/employees/import")
+@RequiredArgsConstructor
+@Tag(name = "Employee Import", description = "APIs for importing employees in bulk")
+public class EmployeeImportController {
+
+    private final EmployeeImporter employeeImporter;
+
+    @PostMapping
+    @Operation(summary = "Import employees from a CSV or NDJSON file",
+            description = "Send the file as the request body. It is imported in the background, in batches; "
+                    + "poll the returned job for progress and fetch its error report for rows that failed. "
+                    + "CSV columns are named as in the export, plus departmentCode and managerEmployeeId")
+    public ResponseEntity<ApiResponse<EmployeeImportStatusDTO>> importEmployees(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            InputStream body) throws IOException {
+        EmployeeImportStatusDTO job = employeeImporter.submit(format, body);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/api/v1/employees/import/" + job.getJobId())
+                .body(ApiResponse.success("Employee import queued", job));
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get the progress of an employee import")
+    public ResponseEntity<ApiResponse<EmployeeImportStatusDTO>> getImport(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success(employeeImporter.getStatus(jobId)));
+    }
+
+    @GetMapping("/{jobId}/errors")
+    @Operation(summary = "Get the rows an employee import could not import",
+            description = "One row per failed line, in file order, with the reason")
+    public ResponseEntity<StreamingResponseBody> getImportErrors(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        // Fails with 404 before the response starts
+        employeeImporter.getStatus(jobId);
+        StreamingResponseBody body = out -> employeeImporter.writeErrors(jobId, format, out);
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employee-import-" + jobId + "-errors." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
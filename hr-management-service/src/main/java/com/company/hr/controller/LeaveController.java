@@ -0,0 +1,92 @@
+package com.company.hr.controller;
+
+import com.company.hr.dto.ApiResponse;
+import com.company.hr.dto.LeaveCalendarEntryDTO;
+import com.company.hr.dto.LeaveDTO;
+import com.company.hr.dto.LeaveDecisionDTO;
+import com.company.hr.service.LeaveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/leaves")
+@RequiredArgsConstructor
+@Tag(name = "Leave Management", description = "APIs for requesting and approving leave")
+public class LeaveController {
+
+    private final LeaveService leaveService;
+
+    @PostMapping
+    @Operation(summary = "Request leave",
+            description = "Rejected if it overlaps a pending or approved leave of the same employee")
+    public ResponseEntity<ApiResponse<LeaveDTO>> applyForLeave(@Valid @RequestBody LeaveDTO leaveDTO) {
+        LeaveDTO leave = leaveService.applyForLeave(leaveDTO);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Leave requested successfully", leave));
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "Get who is on leave in a date window",
+            description = "Approved leave overlapping from..to (at most 93 days), of a department, of everyone "
+                    + "reporting to a manager, or of the whole organization; pending leave too with includePending")
+    public ResponseEntity<ApiResponse<List<LeaveCalendarEntryDTO>>> getLeaveCalendar(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) Long managerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean includePending) {
+        List<LeaveCalendarEntryDTO> calendar = leaveService.getLeaveCalendar(departmentId, managerId, from, to, includePending);
+        return ResponseEntity.ok(ApiResponse.success(calendar));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get leave by ID")
+    public ResponseEntity<ApiResponse<LeaveDTO>> getLeaveById(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(leaveService.getLeaveById(id)));
+    }
+
+    @GetMapping("/employee/{employeeId}")
+    @Operation(summary = "Get an employee's leaves")
+    public ResponseEntity<ApiResponse<Page<LeaveDTO>>> getLeavesByEmployee(
+            @PathVariable Long employeeId,
+            Pageable pageable) {
+        Page<LeaveDTO> leaves = leaveService.getLeavesByEmployee(employeeId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(leaves));
+    }
+
+    @PutMapping("/{id}/approve")
+    @Operation(summary = "Approve a pending leave")
+    public ResponseEntity<ApiResponse<LeaveDTO>> approveLeave(
+            @PathVariable Long id,
+            @Valid @RequestBody LeaveDecisionDTO decision) {
+        LeaveDTO leave = leaveService.approveLeave(id, decision.getApproverId(), decision.getComments());
+        return ResponseEntity.ok(ApiResponse.success("Leave approved successfully", leave));
+    }
+
+    @PutMapping("/{id}/reject")
+    @Operation(summary = "Reject a pending leave")
+    public ResponseEntity<ApiResponse<LeaveDTO>> rejectLeave(
+            @PathVariable Long id,
+            @Valid @RequestBody LeaveDecisionDTO decision) {
+        LeaveDTO leave = leaveService.rejectLeave(id, decision.getApproverId(), decision.getComments());
+        return ResponseEntity.ok(ApiResponse.success("Leave rejected successfully", leave));
+    }
+
+    @PutMapping("/{id}/cancel")
+    @Operation(summary = "Cancel a pending or approved leave")
+    public ResponseEntity<ApiResponse<LeaveDTO>> cancelLeave(@PathVariable Long id) {
+        LeaveDTO leave = leaveService.cancelLeave(id);
+        return ResponseEntity.ok(ApiResponse.success("Leave cancelled successfully", leave));
+    }
+}
@@ -0,0 +1,439 @@
+package com.company.hr.directory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix index over employees' first name, last name, email and
+ * employee ID.
+ *
+ * Every employee contributes up to four lower-cased tokens. All tokens are kept
+ * in one array sorted by token, then employee, with a parallel array of the
+ * entries they belong to, so a lookup is a binary search for the query followed
+ * by a scan of the tokens sharing its prefix. Names are interned through a pool,
+ * so common first and last names are held once however many employees share
+ * them. Safe for concurrent use: lookups share a read lock, changes take the
+ * write lock.
+ */
+final class DirectoryIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final Comparator<Posting> POSTING_ORDER =
+            Comparator.comparing(Posting::token).thenComparingLong(posting -> posting.owner().id);
+
+    private final int maxEmployees;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, String> names = new HashMap<>();
+
+    private String[] tokens = new String[INITIAL_CAPACITY];
+    private Entry[] owners = new Entry[INITIAL_CAPACITY];
+    private int size;
+    private boolean sorted = true;
+
+    private long modifications;
+    private long estimatedAt = -1;
+    private long estimatedBytes;
+
+    DirectoryIndex(int maxEmployees) {
+        this.maxEmployees = maxEmployees;
+    }
+
+    /**
+     * Adds an employee while the index is being built, before it is published.
+     * Tokens are appended unsorted; {@link #finishLoad} sorts them once.
+     *
+     * @return {@code false} if the index is full
+     */
+    boolean load(long id, Long version, String employeeId, String firstName, String lastName, String email) {
+        lock.writeLock().lock();
+        try {
+            if (entries.size() >= maxEmployees) {
+                return false;
+            }
+            Entry entry = entry(id, version, employeeId, firstName, lastName, email);
+            entries.put(id, entry);
+            for (String token : entry.tokens) {
+                ensureCapacity(size + 1);
+                tokens[size] = token;
+                owners[size] = entry;
+                size++;
+            }
+            sorted = false;
+            modifications++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void finishLoad() {
+        lock.writeLock().lock();
+        try {
+            Posting[] postings = new Posting[size];
+            for (int i = 0; i < size; i++) {
+                postings[i] = new Posting(tokens[i], owners[i]);
+            }
+            Arrays.sort(postings, POSTING_ORDER);
+            for (int i = 0; i < size; i++) {
+                tokens[i] = postings[i].token();
+                owners[i] = postings[i].owner();
+            }
+            sorted = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces an employee. A change older than the one already indexed,
+     * by entity version, is ignored, so updates applied out of order settle on the
+     * latest row.
+     *
+     * @return {@code false} if the change was stale or the index is full
+     */
+    boolean upsert(long id, Long version, String employeeId, String firstName, String lastName, String email) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.get(id);
+            if (current != null && current.version > versionOf(version)) {
+                return false;
+            }
+            if (current == null && entries.size() >= maxEmployees) {
+                return false;
+            }
+            Entry entry = entry(id, version, employeeId, firstName, lastName, email);
+            if (current != null) {
+                removePostings(current);
+            }
+            entries.put(id, entry);
+            addPostings(entry);
+            modifications++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.remove(id);
+            if (current != null) {
+                removePostings(current);
+                modifications++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Employees with a token starting with every whitespace-separated term of the
+     * query, case-insensitively. Exact token matches come first, then the rest
+     * by token. At most {@code maxScan} tokens are examined, which bounds the cost
+     * of short, common prefixes.
+     */
+    List<Entry> search(String query, int limit, int maxScan) {
+        String[] terms = terms(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        // The longest term matches the fewest tokens
+        String lead = terms[0];
+        for (String term : terms) {
+            if (term.length() > lead.length()) {
+                lead = term;
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Entry> result = new ArrayList<>(Math.min(limit, 16));
+            Set<Long> seen = new HashSet<>();
+            for (int i = lowerBound(lead), scanned = 0;
+                 i < size && scanned < maxScan && tokens[i].startsWith(lead);
+                 i++, scanned++) {
+                Entry entry = owners[i];
+                if (seen.add(entry.id) && entry.matchesAll(terms)) {
+                    result.add(entry);
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return entries.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int distinctNames() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int maxEmployees() {
+        return maxEmployees;
+    }
+
+    /**
+     * Approximate heap retained by the index, assuming compressed references.
+     * Recomputed only after the index has changed.
+     */
+    long estimatedBytes() {
+        lock.writeLock().lock();
+        try {
+            if (estimatedAt != modifications) {
+                estimatedBytes = estimate();
+                estimatedAt = modifications;
+            }
+            return estimatedBytes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long estimate() {
+        // Sorted token and owner arrays
+        long bytes = 2 * arrayBytes(tokens.length);
+        // HashMap node, boxed key and table slot per employee
+        bytes += entries.size() * 56L;
+        for (Entry entry : entries.values()) {
+            bytes += 56 + arrayBytes(entry.tokens.length);
+            bytes += stringBytes(entry.employeeId) + stringBytes(entry.email);
+            for (String token : entry.tokens) {
+                // Name tokens are pooled and a lower-case email is usually the email itself
+                if (token != entry.email && !names.containsKey(token)) {
+                    bytes += stringBytes(token);
+                }
+            }
+        }
+        for (String name : names.keySet()) {
+            bytes += 40 + stringBytes(name);
+        }
+        return bytes;
+    }
+
+    private Entry entry(long id, Long version, String employeeId, String firstName, String lastName, String email) {
+        String first = intern(firstName);
+        String last = intern(lastName);
+        Set<String> entryTokens = new LinkedHashSet<>(4);
+        addToken(entryTokens, intern(lowerCase(first)));
+        addToken(entryTokens, intern(lowerCase(last)));
+        addToken(entryTokens, lowerCase(email));
+        addToken(entryTokens, lowerCase(employeeId));
+        return new Entry(id, versionOf(version), employeeId, first, last, email, entryTokens.toArray(String[]::new));
+    }
+
+    private void addPostings(Entry entry) {
+        requireSorted();
+        for (String token : entry.tokens) {
+            int index = find(token, entry.id);
+            int insertAt = index >= 0 ? index : -(index + 1);
+            ensureCapacity(size + 1);
+            System.arraycopy(tokens, insertAt, tokens, insertAt + 1, size - insertAt);
+            System.arraycopy(owners, insertAt, owners, insertAt + 1, size - insertAt);
+            tokens[insertAt] = token;
+            owners[insertAt] = entry;
+            size++;
+        }
+    }
+
+    private void removePostings(Entry entry) {
+        requireSorted();
+        for (String token : entry.tokens) {
+            int index = find(token, entry.id);
+            if (index < 0) {
+                continue;
+            }
+            System.arraycopy(tokens, index + 1, tokens, index, size - index - 1);
+            System.arraycopy(owners, index + 1, owners, index, size - index - 1);
+            size--;
+            tokens[size] = null;
+            owners[size] = null;
+        }
+    }
+
+    /**
+     * Binary search by token, then employee ID.
+     *
+     * @return the index of the posting, or {@code -(insertion point) - 1}
+     */
+    private int find(String token, long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = tokens[mid].compareTo(token);
+            if (cmp == 0) {
+                cmp = Long.compare(owners[mid].id, id);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Index of the first token not less than {@code prefix}.
+     */
+    private int lowerBound(String prefix) {
+        int index = find(prefix, Long.MIN_VALUE);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    private void requireSorted() {
+        if (!sorted) {
+            throw new IllegalStateException("Directory index is still loading");
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > tokens.length) {
+            int newCapacity = Math.max(capacity, tokens.length + (tokens.length >> 1));
+            tokens = Arrays.copyOf(tokens, newCapacity);
+            owners = Arrays.copyOf(owners, newCapacity);
+        }
+    }
+
+    private String intern(String value) {
+        return value == null ? null : names.computeIfAbsent(value, key -> key);
+    }
+
+    private static void addToken(Set<String> entryTokens, String token) {
+        if (token != null && !token.isEmpty()) {
+            entryTokens.add(token);
+        }
+    }
+
+    private static String lowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long versionOf(Long version) {
+        return version != null ? version : -1L;
+    }
+
+    private static String[] terms(String query) {
+        if (query == null || query.isBlank()) {
+            return new String[0];
+        }
+        return query.trim().toLowerCase(Locale.ROOT).split("\\s+");
+    }
+
+    private static long arrayBytes(int length) {
+        return align(16 + 4L * length);
+    }
+
+    private static long stringBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + align(16 + (long) value.length() * bytesPerChar);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private record Posting(String token, Entry owner) {
+    }
+
+    /**
+     * One indexed employee. Immutable; a change replaces the entry.
+     */
+    static final class Entry {
+
+        final long id;
+        final long version;
+        final String employeeId;
+        final String firstName;
+        final String lastName;
+        final String email;
+        final String[] tokens;
+
+        private Entry(long id, long version, String employeeId, String firstName, String lastName,
+                      String email, String[] tokens) {
+            this.id = id;
+            this.version = version;
+            this.employeeId = employeeId;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+            this.tokens = tokens;
+        }
+
+        private boolean matchesAll(String[] terms) {
+            for (String term : terms) {
+                if (!matches(term)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matches(String term) {
+            for (String token : tokens) {
+                if (token.startsWith(term)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.company.hr.directory;
+
+import com.company.hr.config.DirectoryProperties;
+import com.company.hr.dto.DirectoryStatsDTO;
+import com.company.hr.dto.EmployeeSuggestionDTO;
+import com.company.hr.entity.Employee;
+import com.company.hr.repository.EmployeeRepository;
+import com.company.hr.repository.projection.EmployeeDirectoryView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead over every employee without touching the database.
+ *
+ * The index is built on startup from a streaming scan of the employees table
+ * and then kept current incrementally: writes made through this instance are
+ * applied after their transaction commits, and writes made by other replicas
+ * arrive through {@link EmployeeDirectoryEventListener}. Changes that happen
+ * while the index is being built are replayed onto it before it is published.
+ */
+@Component
+@Slf4j
+public class EmployeeDirectory {
+
+    private final EmployeeRepository employeeRepository;
+    private final DirectoryProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Serializes changes with publishing a rebuilt index
+    private final Object updateLock = new Object();
+    private List<Consumer<DirectoryIndex>> changesDuringBuild;
+
+    private volatile DirectoryIndex index;
+    private volatile boolean ready;
+    private volatile Instant builtAt;
+    private volatile long buildMillis;
+
+    public EmployeeDirectory(EmployeeRepository employeeRepository,
+                             DirectoryProperties properties,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.index = new DirectoryIndex(properties.getMaxEmployees());
+
+        Gauge.builder("employee.directory.size", this, directory -> directory.index.size())
+                .description("Employees held by the in-memory directory")
+                .register(meterRegistry);
+        Gauge.builder("employee.directory.memory", this, directory -> directory.index.estimatedBytes())
+                .description("Estimated heap retained by the in-memory directory")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Suggestions stay empty; the service itself is still usable
+            log.error("Failed to build the employee directory", e);
+        }
+    }
+
+    /**
+     * Replaces the index with one built from the database. Suggestions keep being
+     * served from the current index until the new one is complete.
+     */
+    public void rebuild() {
+        synchronized (updateLock) {
+            changesDuringBuild = new ArrayList<>();
+        }
+        long start = System.nanoTime();
+        DirectoryIndex built = new DirectoryIndex(properties.getMaxEmployees());
+        AtomicInteger skipped = new AtomicInteger();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<EmployeeDirectoryView> employees = employeeRepository.streamForDirectory()) {
+                    employees.forEach(employee -> {
+                        if (!built.load(employee.getId(), employee.getVersion(), employee.getEmployeeId(),
+                                employee.getFirstName(), employee.getLastName(), employee.getEmail())) {
+                            skipped.incrementAndGet();
+                        }
+                    });
+                }
+            });
+            built.finishLoad();
+        } catch (RuntimeException e) {
+            synchronized (updateLock) {
+                changesDuringBuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (updateLock) {
+            changesDuringBuild.forEach(change -> change.accept(built));
+            changesDuringBuild = null;
+            index = built;
+        }
+        buildMillis = (System.nanoTime() - start) / 1_000_000;
+        builtAt = Instant.now();
+        ready = true;
+
+        if (skipped.get() > 0) {
+            log.warn("Employee directory is full at {} employees; {} left out of suggestions",
+                    properties.getMaxEmployees(), skipped.get());
+        }
+        log.info("Built employee directory of {} employees in {} ms, about {} KB",
+                built.size(), buildMillis, built.estimatedBytes() / 1024);
+    }
+
+    /**
+     * Indexes the employee's current state. Inside a transaction this happens after
+     * commit, so a rolled-back write never shows up in suggestions.
+     */
+    public void upsert(Employee employee) {
+        afterCommit(() -> upsert(employee.getId(), employee.getVersion(), employee.getEmployeeId(),
+                employee.getFirstName(), employee.getLastName(), employee.getEmail()));
+    }
+
+    /**
+     * As {@link #upsert(Employee)}, for many employees at once.
+     */
+    public void upsertAll(Collection<Employee> employees) {
+        List<Employee> upserted = List.copyOf(employees);
+        afterCommit(() -> upserted.forEach(employee -> upsert(employee.getId(), employee.getVersion(),
+                employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(), employee.getEmail())));
+    }
+
+    public void upsert(EmployeeDirectoryView employee) {
+        upsert(employee.getId(), employee.getVersion(), employee.getEmployeeId(),
+                employee.getFirstName(), employee.getLastName(), employee.getEmail());
+    }
+
+    /**
+     * Removes employees, after commit when called inside a transaction.
+     */
+    public void removeAll(Collection<Long> ids) {
+        List<Long> removed = List.copyOf(ids);
+        afterCommit(() -> apply(index -> removed.forEach(index::remove)));
+    }
+
+    public List<EmployeeSuggestionDTO> suggest(String query, int limit) {
+        int bounded = Math.max(1, Math.min(limit, properties.getMaxSuggestions()));
+        return index.search(query, bounded, properties.getMaxScan()).stream()
+                .map(entry -> EmployeeSuggestionDTO.builder()
+                        .id(entry.id)
+                        .employeeId(entry.employeeId)
+                        .firstName(entry.firstName)
+                        .lastName(entry.lastName)
+                        .email(entry.email)
+                        .build())
+                .toList();
+    }
+
+    public DirectoryStatsDTO stats() {
+        DirectoryIndex current = index;
+        int employees = current.size();
+        long bytes = current.estimatedBytes();
+        return DirectoryStatsDTO.builder()
+                .ready(ready)
+                .employees(employees)
+                .maxEmployees(current.maxEmployees())
+                .tokens(current.tokenCount())
+                .distinctNames(current.distinctNames())
+                .estimatedBytes(bytes)
+                .estimatedBytesPer100kEmployees(employees == 0 ? 0 : bytes * 100_000 / employees)
+                .builtAt(builtAt)
+                .buildMillis(buildMillis)
+                .build();
+    }
+
+    private void upsert(Long id, Long version, String employeeId, String firstName, String lastName, String email) {
+        apply(index -> {
+            if (!index.upsert(id, version, employeeId, firstName, lastName, email) && !index.contains(id)) {
+                log.warn("Employee directory is full at {} employees; employee {} left out of suggestions",
+                        index.maxEmployees(), id);
+            }
+        });
+    }
+
+    private void apply(Consumer<DirectoryIndex> change) {
+        synchronized (updateLock) {
+            change.accept(index);
+            if (changesDuringBuild != null) {
+                changesDuringBuild.add(change);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.company.hr.directory;
+
+import com.company.events.employee.EmployeeEvent;
+import com.company.events.employee.EmployeeEventCodec;
+import com.company.events.employee.EmployeeField;
+import com.company.hr.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Applies employee changes made by other replicas to this instance's directory.
+ *
+ * Every instance consumes employee-events in its own consumer group, starting
+ * from the latest offset; anything older is covered by the startup build.
+ * Updates that touch none of the indexed attributes are ignored. Others are
+ * reloaded from the database, since an update only carries what changed, which
+ * also makes redelivered or reordered events harmless.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeDirectoryEventListener {
+
+    private static final EmployeeField[] INDEXED_FIELDS = {
+            EmployeeField.EMPLOYEE_NUMBER, EmployeeField.FIRST_NAME, EmployeeField.LAST_NAME, EmployeeField.EMAIL
+    };
+
+    private final EmployeeDirectory directory;
+    private final EmployeeRepository employeeRepository;
+
+    @KafkaListener(topics = "employee-events",
+            groupId = "hr-directory-${random.uuid}",
+            properties = "auto.offset.reset=latest")
+    public void onEmployeeEvent(byte[] message) {
+        EmployeeEvent event;
+        try {
+            event = EmployeeEventCodec.decode(message);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring unreadable employee event: {}", e.getMessage());
+            return;
+        }
+        long employeeId = event.employeeId();
+
+        switch (event.type()) {
+            case DELETED -> directory.removeAll(List.of(employeeId));
+            case UPDATED -> {
+                if (event.changedAny(INDEXED_FIELDS)) {
+                    reload(employeeId);
+                }
+            }
+            case CREATED -> reload(employeeId);
+        }
+    }
+
+    private void reload(long employeeId) {
+        employeeRepository.findDirectoryViewById(employeeId)
+                .ifPresentOrElse(directory::upsert, () -> directory.removeAll(List.of(employeeId)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.company.hr.dto;
 
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,9 +11,19 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 public class AddressDTO {
+
+    @Size(max = 255, message = "Street must be at most 255 characters")
     private String street;
+
+    @Size(max = 100, message = "City must be at most 100 characters")
     private String city;
+
+    @Size(max = 100, message = "State must be at most 100 characters")
     private String state;
+
+    @Size(max = 100, message = "Country must be at most 100 characters")
     private String country;
+
+    @Size(max = 20, message = "Postal code must be at most 20 characters")
     private String postalCode;
 }
@@ -0,0 +1,36 @@
+package com.company.hr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClockEventAckDTO {
+
+    private int accepted;
+
+    /**
+     * Events written to attendance; null until the batch has been flushed.
+     */
+    private Integer applied;
+
+    /**
+     * Events dropped because their employee does not exist; null until flushed.
+     */
+    private Integer rejected;
+
+    public enum Mode {
+        /**
+         * Acknowledge once the events are queued.
+         */
+        ACCEPTED,
+        /**
+         * Acknowledge once the events are written.
+         */
+        FLUSHED
+    }
+}
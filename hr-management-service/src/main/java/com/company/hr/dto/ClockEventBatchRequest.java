@@ -0,0 +1,24 @@
+package com.company.hr.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClockEventBatchRequest {
+
+    public static final int MAX_EVENTS = 5000;
+
+    @NotEmpty(message = "At least one clock event is required")
+    @Size(max = MAX_EVENTS, message = "At most " + MAX_EVENTS + " clock events can be sent at once")
+    private List<@Valid ClockEventDTO> events;
+}
@@ -0,0 +1,32 @@
+package com.company.hr.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClockEventDTO {
+
+    @NotNull(message = "Employee ID is required")
+    private Long employeeId;
+
+    @NotNull(message = "Clock event type is required")
+    private Type type;
+
+    /**
+     * Local time at the clock; its date is the attendance date.
+     */
+    @NotNull(message = "Timestamp is required")
+    private LocalDateTime timestamp;
+
+    public enum Type {
+        IN, OUT
+    }
+}
@@ -0,0 +1,31 @@
+package com.company.hr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Size and estimated heap usage of the in-memory employee directory.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DirectoryStatsDTO {
+
+    /**
+     * False until the startup build has completed; suggestions are empty until then.
+     */
+    private boolean ready;
+    private int employees;
+    private int maxEmployees;
+    private int tokens;
+    private int distinctNames;
+    private long estimatedBytes;
+    private long estimatedBytesPer100kEmployees;
+    private Instant builtAt;
+    private long buildMillis;
+}
@@ -0,0 +1,23 @@
+package com.company.hr.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeBatchRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one ID is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " IDs can be requested at once")
+    private List<Long> ids;
+}
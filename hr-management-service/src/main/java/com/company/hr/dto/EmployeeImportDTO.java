@@ -0,0 +1,76 @@
+package com.company.hr.dto;
+
+import com.company.hr.entity.Employee;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row of a bulk employee import. Departments and managers can be given by
+ * database ID or, for organizations not yet in the system, by department code
+ * and manager employee ID; a manager imported in the same file must come
+ * before their reports.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeImportDTO {
+
+    @NotBlank(message = "Employee ID is required")
+    @Size(max = 20, message = "Employee ID must be at most 20 characters")
+    private String employeeId;
+
+    @NotBlank(message = "First name is required")
+    @Size(max = 100, message = "First name must be at most 100 characters")
+    private String firstName;
+
+    @NotBlank(message = "Last name is required")
+    @Size(max = 100, message = "Last name must be at most 100 characters")
+    private String lastName;
+
+    @Email(message = "Email should be valid")
+    @NotBlank(message = "Email is required")
+    @Size(max = 150, message = "Email must be at most 150 characters")
+    private String email;
+
+    @Size(max = 20, message = "Phone number must be at most 20 characters")
+    private String phoneNumber;
+
+    @NotNull(message = "Date of birth is required")
+    private LocalDate dateOfBirth;
+
+    @NotNull(message = "Hire date is required")
+    private LocalDate hireDate;
+
+    @NotNull(message = "Status is required")
+    private Employee.EmploymentStatus status;
+
+    @NotNull(message = "Employment type is required")
+    private Employee.EmploymentType employmentType;
+
+    @Size(max = 100, message = "Job title must be at most 100 characters")
+    private String jobTitle;
+
+    @Digits(integer = 10, fraction = 2, message = "Salary must have at most 10 digits and 2 decimals")
+    private BigDecimal salary;
+
+    private Long departmentId;
+    private String departmentCode;
+
+    private Long managerId;
+    private String managerEmployeeId;
+
+    @Valid
+    private AddressDTO address;
+}
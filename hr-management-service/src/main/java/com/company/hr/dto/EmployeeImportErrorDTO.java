@@ -0,0 +1,22 @@
+package com.company.hr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeImportErrorDTO {
+
+    /**
+     * Line of the file the row starts on; the CSV header is line 1.
+     */
+    private long line;
+
+    private String employeeId;
+    private String email;
+    private String message;
+}
@@ -0,0 +1,43 @@
+package com.company.hr.dto;
+
+import com.company.common.export.ExportFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class EmployeeImportStatusDTO {
+
+    private String jobId;
+    private State state;
+    private ExportFormat format;
+
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsFailed;
+
+    /**
+     * Whether the error report stops short of {@link #rowsFailed}.
+     */
+    private boolean errorsTruncated;
+
+    /**
+     * Rows read per second since the job started.
+     */
+    private long rowsPerSecond;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,12 @@
+package com.company.hr.dto;
+
+/**
+ * How an employee search keyword is matched against first name, last name,
+ * email and employee ID, case-insensitively.
+ */
+public enum EmployeeSearchMode {
+    /** The keyword appears anywhere in one of the fields. */
+    CONTAINS,
+    /** One of the fields starts with the keyword; for typeahead. */
+    PREFIX
+}
@@ -0,0 +1,22 @@
+package com.company.hr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A typeahead match from the in-memory employee directory.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSuggestionDTO {
+
+    private Long id;
+    private String employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+}
@@ -0,0 +1,30 @@
+package com.company.hr.dto;
+
+import com.company.hr.entity.Leave;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaveCalendarEntryDTO {
+
+    private Long leaveId;
+    private Long employeeId;
+    private String employeeNumber;
+    private String employeeName;
+    private Long departmentId;
+    private Leave.LeaveType leaveType;
+    private Leave.LeaveStatus status;
+
+    /**
+     * The whole leave, which may start before or end after the requested window.
+     */
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
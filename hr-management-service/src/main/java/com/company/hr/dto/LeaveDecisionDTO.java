@@ -0,0 +1,21 @@
+package com.company.hr.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaveDecisionDTO {
+
+    @NotNull(message = "Approver ID is required")
+    private Long approverId;
+
+    @Size(max = 500, message = "Comments must be at most 500 characters")
+    private String comments;
+}
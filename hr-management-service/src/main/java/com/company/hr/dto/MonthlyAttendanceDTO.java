@@ -0,0 +1,41 @@
+package com.company.hr.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyAttendanceDTO {
+
+    private Long employeeId;
+    private String employeeNumber;
+    private String employeeName;
+
+    @JsonFormat(pattern = "yyyy-MM")
+    private YearMonth month;
+
+    private int presentDays;
+    private int absentDays;
+    private int lateDays;
+    private int halfDays;
+    private int workFromHomeDays;
+    private int onLeaveDays;
+    private int workHours;
+
+    /**
+     * Working days of approved leave in the month, of any type.
+     */
+    private int approvedLeaveDays;
+
+    /**
+     * The part of {@link #approvedLeaveDays} that is unpaid leave.
+     */
+    private int unpaidLeaveDays;
+}
@@ -0,0 +1,36 @@
+package com.company.hr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One employee in an org chart, with the reports below it down to the requested depth.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrgChartNodeDTO {
+
+    private Long id;
+    private String employeeId;
+    private String firstName;
+    private String lastName;
+    private String jobTitle;
+    private int directReports;
+
+    /**
+     * Everyone below this employee, at any depth.
+     */
+    private int totalReports;
+
+    /**
+     * Null when this node was not expanded, because of the requested depth or the
+     * size limit of the chart; {@code directReports} still tells whether it has any.
+     */
+    private List<OrgChartNodeDTO> reports;
+}
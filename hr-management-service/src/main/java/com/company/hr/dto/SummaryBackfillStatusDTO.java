@@ -0,0 +1,40 @@
+package com.company.hr.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class SummaryBackfillStatusDTO {
+
+    private State state;
+
+    @JsonFormat(pattern = "yyyy-MM")
+    private YearMonth from;
+
+    @JsonFormat(pattern = "yyyy-MM")
+    private YearMonth to;
+
+    /**
+     * The month being rebuilt, or the last one rebuilt once finished.
+     */
+    @JsonFormat(pattern = "yyyy-MM")
+    private YearMonth currentMonth;
+
+    private long rowsRefreshed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+}
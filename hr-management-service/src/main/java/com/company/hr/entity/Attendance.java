@@ -25,7 +25,8 @@ import java.time.LocalTime;
 public class Attendance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendances_id_seq")
+    @SequenceGenerator(name = "attendances_id_seq", sequenceName = "attendances_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
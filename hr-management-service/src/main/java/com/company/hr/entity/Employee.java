@@ -26,6 +26,10 @@ import java.util.Set;
     @Index(name = "idx_employee_id", columnList = "employeeId"),
     @Index(name = "idx_department", columnList = "department_id")
 })
+@NamedEntityGraph(name = Employee.WITH_DEPARTMENT_AND_MANAGER, attributeNodes = {
+    @NamedAttributeNode("department"),
+    @NamedAttributeNode("manager")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -33,8 +37,15 @@ import java.util.Set;
 @Builder
 public class Employee {
 
+    /**
+     * Fetch plan for reads mapped with {@code EmployeeMapper.toDTO}, which needs the
+     * department's name and the manager's name.
+     */
+    public static final String WITH_DEPARTMENT_AND_MANAGER = "Employee.withDepartmentAndManager";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_id_seq")
+    @SequenceGenerator(name = "employees_id_seq", sequenceName = "employees_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 20)
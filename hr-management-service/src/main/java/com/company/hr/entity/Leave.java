@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class Leave {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leaves_id_seq")
+    @SequenceGenerator(name = "leaves_id_seq", sequenceName = "leaves_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
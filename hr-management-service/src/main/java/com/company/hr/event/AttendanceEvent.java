@@ -0,0 +1,35 @@
+package com.company.hr.event;
+
+import com.company.hr.entity.Attendance;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Published to {@value #TOPIC} as JSON, keyed by employee ID, whenever an
+ * attendance record is written. Carries the record's full state, so consumers
+ * can apply events without calling back and a redelivered event changes nothing.
+ */
+public record AttendanceEvent(Type type,
+                              Long attendanceId,
+                              Long employeeId,
+                              LocalDate date,
+                              Attendance.AttendanceStatus status,
+                              LocalTime checkIn,
+                              LocalTime checkOut,
+                              Integer workHours,
+                              Instant occurredAt) {
+
+    public static final String TOPIC = "attendance-events";
+
+    public enum Type {
+        RECORDED, CHECKED_OUT
+    }
+
+    public static AttendanceEvent of(Type type, Attendance attendance) {
+        return new AttendanceEvent(type, attendance.getId(), attendance.getEmployee().getId(), attendance.getDate(),
+                attendance.getStatus(), attendance.getCheckIn(), attendance.getCheckOut(), attendance.getWorkHours(),
+                Instant.now());
+    }
+}
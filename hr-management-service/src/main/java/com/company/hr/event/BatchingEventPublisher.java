@@ -0,0 +1,230 @@
+package com.company.hr.event;
+
+import com.company.hr.config.EventPublisherProperties;
+import com.company.hr.exception.EventBackpressureException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes leave and attendance events to Kafka from a bounded in-memory queue,
+ * drained in batches by one sender thread, so writes never wait on the broker.
+ *
+ * A write reserves its queue slot from inside its transaction. When the queue
+ * stays full for {@code app.events.enqueue-timeout}, the write fails with
+ * {@link EventBackpressureException} and rolls back, rather than committing a
+ * change whose event has nowhere to go. The event joins the queue once the
+ * transaction commits; a rollback releases the slot.
+ *
+ * Unlike employee events these do not go through the outbox: events still queued
+ * when the instance dies are lost. Each event therefore carries the record's full
+ * state, so a consumer that reconciles against HR later converges.
+ */
+@Component
+@Slf4j
+public class BatchingEventPublisher implements DisposableBean {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final EventPublisherProperties properties;
+    private final BlockingQueue<PendingEvent> queue;
+    // Slots still free, including those reserved by transactions yet to commit
+    private final Semaphore capacity;
+    private final ExecutorService sender;
+
+    private final Counter published;
+    private final Counter failures;
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+    private final Timer latency;
+
+    private volatile boolean running = true;
+
+    public BatchingEventPublisher(KafkaTemplate<String, byte[]> kafkaTemplate,
+                                  ObjectMapper objectMapper,
+                                  EventPublisherProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.capacity = new Semaphore(properties.getQueueCapacity());
+
+        this.published = Counter.builder("events.publisher.published")
+                .description("Leave and attendance events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.failures = Counter.builder("events.publisher.failures")
+                .description("Leave and attendance events Kafka did not accept")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("events.publisher.rejected")
+                .description("Writes rejected because the event queue was full")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("events.publisher.batch.size")
+                .description("Events handed to the producer per batch")
+                .register(meterRegistry);
+        this.latency = Timer.builder("events.publisher.latency")
+                .description("Time from commit to broker acknowledgement")
+                .register(meterRegistry);
+        Gauge.builder("events.publisher.queue", this, publisher -> publisher.properties.getQueueCapacity()
+                        - publisher.capacity.availablePermits())
+                .description("Events queued or reserved by open transactions")
+                .register(meterRegistry);
+
+        this.sender = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("event-publisher-"));
+        this.sender.execute(this::drain);
+    }
+
+    /**
+     * Publishes the event as JSON once the current transaction commits, or right
+     * away outside a transaction.
+     *
+     * @throws EventBackpressureException if the queue stayed full for the enqueue timeout
+     */
+    public void publish(String topic, String key, Object event) {
+        publish(topic, key, event, properties.getEnqueueTimeout());
+    }
+
+    /**
+     * As {@link #publish(String, String, Object)}, waiting up to {@code timeout} for
+     * room in a full queue; for background writers that can afford to wait.
+     */
+    public void publish(String topic, String key, Object event, Duration timeout) {
+        PendingEvent pending = new PendingEvent(topic, key, serialize(event));
+        reserve(timeout);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(pending);
+                    } else {
+                        capacity.release();
+                    }
+                }
+            });
+        } else {
+            enqueue(pending);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        sender.shutdown();
+        if (!sender.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Dropping {} leave and attendance events still queued at shutdown", queue.size());
+            sender.shutdownNow();
+        }
+        kafkaTemplate.flush();
+    }
+
+    private void reserve(Duration timeout) {
+        if (!running) {
+            throw new EventBackpressureException("Event publisher is shutting down");
+        }
+        try {
+            if (capacity.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        throw new EventBackpressureException("Too many events waiting to be published, try again shortly");
+    }
+
+    private void enqueue(PendingEvent pending) {
+        pending.queuedAtNanos = System.nanoTime();
+        // Never full: a slot was reserved for the event
+        queue.add(pending);
+    }
+
+    /**
+     * Runs on the sender thread until shutdown, then empties the queue.
+     */
+    private void drain() {
+        List<PendingEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEvent first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                capacity.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<PendingEvent> batch) {
+        batchSizes.record(batch.size());
+        for (PendingEvent event : batch) {
+            try {
+                kafkaTemplate.send(event.topic, event.key, event.payload).whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        published.increment();
+                        latency.record(System.nanoTime() - event.queuedAtNanos, TimeUnit.NANOSECONDS);
+                    } else {
+                        failures.increment();
+                        log.warn("Failed to publish event to {} for key {}", event.topic, event.key, ex);
+                    }
+                });
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Failed to publish event to {} for key {}", event.topic, event.key, e);
+            }
+        }
+        log.debug("Handed {} events to the producer", batch.size());
+    }
+
+    private byte[] serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static final class PendingEvent {
+        private final String topic;
+        private final String key;
+        private final byte[] payload;
+        private long queuedAtNanos;
+
+        private PendingEvent(String topic, String key, byte[] payload) {
+            this.topic = topic;
+            this.key = key;
+            this.payload = payload;
+        }
+    }
+}
@@ -1,54 +1,115 @@
 package com.company.hr.event;
 
+import com.company.events.employee.EmployeeEvent;
+import com.company.events.employee.EmployeeEventCodec;
+import com.company.events.employee.EmployeeField;
+import com.company.hr.entity.Address;
 import com.company.hr.entity.Employee;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.company.hr.entity.OutboxEvent;
+import com.company.hr.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Records employee events in the outbox, as part of the caller's transaction.
+ * {@link OutboxRelay} publishes them to Kafka once committed, so a rolled-back
+ * write never produces an event and the write never waits for the broker.
+ *
+ * Events carry the attributes that changed, encoded with {@link EmployeeEventCodec},
+ * so consumers do not need to call back for the employee's new state.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EmployeeEventPublisher {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxEventRepository outboxRepository;
 
     private static final String EMPLOYEE_TOPIC = "employee-events";
 
+    /**
+     * The employee's attributes as reported in events; take it before applying an
+     * update and pass it to {@link #publishEmployeeUpdatedEvent}.
+     */
+    public Map<EmployeeField, Object> snapshot(Employee employee) {
+        Map<EmployeeField, Object> values = new EnumMap<>(EmployeeField.class);
+        values.put(EmployeeField.EMPLOYEE_NUMBER, employee.getEmployeeId());
+        values.put(EmployeeField.FIRST_NAME, employee.getFirstName());
+        values.put(EmployeeField.LAST_NAME, employee.getLastName());
+        values.put(EmployeeField.EMAIL, employee.getEmail());
+        values.put(EmployeeField.PHONE_NUMBER, employee.getPhoneNumber());
+        values.put(EmployeeField.DATE_OF_BIRTH, employee.getDateOfBirth());
+        values.put(EmployeeField.HIRE_DATE, employee.getHireDate());
+        values.put(EmployeeField.STATUS, employee.getStatus());
+        values.put(EmployeeField.EMPLOYMENT_TYPE, employee.getEmploymentType());
+        values.put(EmployeeField.JOB_TITLE, employee.getJobTitle());
+        values.put(EmployeeField.SALARY, employee.getSalary());
+        values.put(EmployeeField.DEPARTMENT_ID, employee.getDepartment() != null ? employee.getDepartment().getId() : null);
+        values.put(EmployeeField.MANAGER_ID, employee.getManager() != null ? employee.getManager().getId() : null);
+        Address address = employee.getAddress();
+        if (address != null) {
+            values.put(EmployeeField.STREET, address.getStreet());
+            values.put(EmployeeField.CITY, address.getCity());
+            values.put(EmployeeField.STATE, address.getState());
+            values.put(EmployeeField.COUNTRY, address.getCountry());
+            values.put(EmployeeField.POSTAL_CODE, address.getPostalCode());
+        }
+        return values;
+    }
+
     public void publishEmployeeCreatedEvent(Employee employee) {
-        publishEvent("EMPLOYEE_CREATED", employee);
+        publishEvent(EmployeeEvent.Type.CREATED, employee, Map.of(), snapshot(employee));
     }
 
-    public void publishEmployeeUpdatedEvent(Employee employee) {
-        publishEvent("EMPLOYEE_UPDATED", employee);
+    /**
+     * Records a creation event for each employee with one batched insert, for bulk imports.
+     */
+    public void publishEmployeesCreatedEvents(List<Employee> employees) {
+        outboxRepository.insertAll(employees.stream()
+                .map(employee -> toOutboxEvent(employee,
+                        diff(EmployeeEvent.Type.CREATED, employee, Map.of(), snapshot(employee))))
+                .toList());
+        log.info("Recorded {} events for {} employees", EmployeeEvent.Type.CREATED, employees.size());
+    }
+
+    /**
+     * @param before the employee's {@link #snapshot} from before the update; the
+     *               employee must have been flushed, so that its version is current
+     */
+    public void publishEmployeeUpdatedEvent(Map<EmployeeField, Object> before, Employee employee) {
+        publishEvent(EmployeeEvent.Type.UPDATED, employee, before, snapshot(employee));
     }
 
     public void publishEmployeeDeletedEvent(Employee employee) {
-        publishEvent("EMPLOYEE_DELETED", employee);
-    }
-
-    private void publishEvent(String eventType, Employee employee) {
-        try {
-            Map<String, Object> event = new HashMap<>();
-            event.put("eventType", eventType);
-            event.put("employeeId", employee.getId());
-            event.put("employeeNumber", employee.getEmployeeId());
-            event.put("email", employee.getEmail());
-            event.put("timestamp", LocalDateTime.now().toString());
-
-            String eventJson = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send(EMPLOYEE_TOPIC, employee.getId().toString(), eventJson);
-            
-            log.info("Published {} event for employee: {}", eventType, employee.getId());
-        } catch (JsonProcessingException e) {
-            log.error("Error publishing event for employee: {}", employee.getId(), e);
-        }
+        publishEvent(EmployeeEvent.Type.DELETED, employee, snapshot(employee), Map.of());
+    }
+
+    private void publishEvent(EmployeeEvent.Type type, Employee employee,
+                              Map<EmployeeField, Object> before, Map<EmployeeField, Object> after) {
+        EmployeeEvent event = diff(type, employee, before, after);
+        outboxRepository.save(toOutboxEvent(employee, event));
+        log.info("Recorded {} event for employee: {} ({} changes)", type, employee.getId(), event.changes().size());
+    }
+
+    private static EmployeeEvent diff(EmployeeEvent.Type type, Employee employee,
+                                      Map<EmployeeField, Object> before, Map<EmployeeField, Object> after) {
+        return EmployeeEvent.diff(type, employee.getId(), employee.getEmployeeId(),
+                employee.getVersion() != null ? employee.getVersion() : 0L, Instant.now(), before, after);
+    }
+
+    private static OutboxEvent toOutboxEvent(Employee employee, EmployeeEvent event) {
+        return OutboxEvent.builder()
+                .topic(EMPLOYEE_TOPIC)
+                .messageKey(employee.getId().toString())
+                .payload(EmployeeEventCodec.encode(event))
+                .createdAt(LocalDateTime.now())
+                .build();
     }
 }
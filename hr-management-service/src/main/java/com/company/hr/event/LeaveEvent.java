@@ -0,0 +1,33 @@
+package com.company.hr.event;
+
+import com.company.hr.entity.Leave;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Published to {@value #TOPIC} as JSON, keyed by employee ID, whenever a leave
+ * request is made or changes status. Carries the leave's full state, so consumers
+ * can apply events without calling back and a redelivered event changes nothing.
+ */
+public record LeaveEvent(Type type,
+                         Long leaveId,
+                         Long employeeId,
+                         Leave.LeaveType leaveType,
+                         LocalDate startDate,
+                         LocalDate endDate,
+                         Integer numberOfDays,
+                         Leave.LeaveStatus status,
+                         Instant occurredAt) {
+
+    public static final String TOPIC = "leave-events";
+
+    public enum Type {
+        REQUESTED, APPROVED, REJECTED, CANCELLED
+    }
+
+    public static LeaveEvent of(Type type, Leave leave) {
+        return new LeaveEvent(type, leave.getId(), leave.getEmployee().getId(), leave.getLeaveType(),
+                leave.getStartDate(), leave.getEndDate(), leave.getNumberOfDays(), leave.getStatus(), Instant.now());
+    }
+}
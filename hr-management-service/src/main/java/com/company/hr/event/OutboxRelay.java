@@ -0,0 +1,156 @@
+package com.company.hr.event;
+
+import com.company.hr.config.OutboxProperties;
+import com.company.hr.entity.OutboxEvent;
+import com.company.hr.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes committed outbox events to Kafka.
+ *
+ * Each batch is read, sent and deleted in one transaction holding an advisory
+ * lock, so a single replica relays at a time and events keep the order they were
+ * written in. The whole batch is handed to the producer before waiting on any
+ * acknowledgement, letting it fill its own batches. Rows are deleted only after
+ * the broker acknowledged every message; a failed batch is rolled back and sent
+ * again on the next poll, so delivery is at least once.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private static final int LOCKED_ELSEWHERE = -1;
+
+    private final OutboxEventRepository outboxRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transaction;
+
+    private final Counter published;
+    private final Counter failures;
+    private final Timer batchTimer;
+
+    private volatile long lagMillis;
+
+    public OutboxRelay(OutboxEventRepository outboxRepository,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+
+        this.published = Counter.builder("outbox.relay.published")
+                .description("Outbox events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Outbox batches rolled back for a retry")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time to send, acknowledge and delete one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", this, relay -> relay.lagMillis / 1000.0)
+                .description("Age of the oldest event still waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT0.2S}")
+    public void relay() {
+        boolean drained = false;
+        try {
+            for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+                int sent = relayBatch();
+                if (sent < properties.getBatchSize()) {
+                    drained = sent != LOCKED_ELSEWHERE;
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to relay outbox events, retrying on the next poll", e);
+        }
+        updateLag(drained);
+    }
+
+    /**
+     * @return events published, or {@link #LOCKED_ELSEWHERE} if another replica holds the outbox
+     */
+    private int relayBatch() {
+        Integer sent = transaction.execute(status -> {
+            if (!outboxRepository.tryLock(OutboxEventRepository.RELAY_LOCK_KEY)) {
+                return LOCKED_ELSEWHERE;
+            }
+            List<OutboxEvent> batch = outboxRepository.findBatch(properties.getBatchSize());
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            return batchTimer.record(() -> send(batch));
+        });
+        return sent != null ? sent : LOCKED_ELSEWHERE;
+    }
+
+    private int send(List<OutboxEvent> batch) {
+        List<CompletableFuture<?>> acks = new ArrayList<>(batch.size());
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            acks.add(kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()));
+            ids.add(event.getId());
+        }
+        kafkaTemplate.flush();
+        try {
+            CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new))
+                    .get(properties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while waiting for outbox acknowledgements", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Kafka did not acknowledge " + batch.size() + " outbox events", e);
+        }
+        outboxRepository.deleteAllByIdInBatch(ids);
+        published.increment(batch.size());
+        log.debug("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Lag is zero once a poll drained the outbox. After a full batch, a failure,
+     * or while another replica relays, the oldest waiting event is looked up.
+     */
+    private void updateLag(boolean drained) {
+        if (drained) {
+            lagMillis = 0;
+            return;
+        }
+        try {
+            lagMillis = outboxRepository.findFirstByOrderByIdAsc()
+                    .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis()))
+                    .orElse(0L);
+        } catch (RuntimeException e) {
+            log.debug("Could not measure outbox lag", e);
+        }
+    }
+}
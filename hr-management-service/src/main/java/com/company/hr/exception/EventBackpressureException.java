@@ -0,0 +1,7 @@
+package com.company.hr.exception;
+
+public class EventBackpressureException extends RuntimeException {
+    public EventBackpressureException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.company.hr.exception;
+
+public class InvalidHierarchyException extends RuntimeException {
+    public InvalidHierarchyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.company.hr.exception;
+
+public class LeaveConflictException extends RuntimeException {
+    public LeaveConflictException(String message) {
+        super(message);
+    }
+}
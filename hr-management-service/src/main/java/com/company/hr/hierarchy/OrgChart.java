@@ -0,0 +1,162 @@
+package com.company.hr.hierarchy;
+
+import com.company.hr.dto.OrgChartNodeDTO;
+import com.company.hr.repository.projection.EmployeeOrgView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the whole reporting hierarchy.
+ *
+ * Children are held in one array grouped by manager (compressed sparse rows), and
+ * every employee's total number of reports is precomputed, so rendering a chart
+ * touches only the nodes it returns.
+ */
+public final class OrgChart {
+
+    private final Node[] nodes;
+    private final Map<Long, Integer> indexById;
+    private final int[] childStart;
+    private final int[] children;
+    private final int[] totalReports;
+
+    private OrgChart(Node[] nodes, Map<Long, Integer> indexById, int[] childStart, int[] children,
+                     int[] totalReports) {
+        this.nodes = nodes;
+        this.indexById = indexById;
+        this.childStart = childStart;
+        this.children = children;
+        this.totalReports = totalReports;
+    }
+
+    /**
+     * Builds the chart from every employee, in ID order so that reports are listed by ID.
+     */
+    static OrgChart build(List<EmployeeOrgView> employees) {
+        int size = employees.size();
+        Node[] nodes = new Node[size];
+        Map<Long, Integer> indexById = new HashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            EmployeeOrgView employee = employees.get(i);
+            nodes[i] = new Node(employee.getId(), employee.getEmployeeId(), employee.getFirstName(),
+                    employee.getLastName(), employee.getJobTitle());
+            indexById.put(employee.getId(), i);
+        }
+
+        int[] parent = new int[size];
+        int[] childStart = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            Long managerId = employees.get(i).getManagerId();
+            Integer managerIndex = managerId != null ? indexById.get(managerId) : null;
+            parent[i] = managerIndex != null ? managerIndex : -1;
+            if (parent[i] >= 0) {
+                childStart[parent[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            childStart[i + 1] += childStart[i];
+        }
+        int[] children = new int[childStart[size]];
+        int[] next = Arrays.copyOf(childStart, size);
+        for (int i = 0; i < size; i++) {
+            if (parent[i] >= 0) {
+                children[next[parent[i]]++] = i;
+            }
+        }
+
+        // Breadth-first from the top places every manager before its reports, so
+        // totals can be summed bottom-up in reverse. Employees caught in a manager
+        // cycle are unreachable and keep a total of zero.
+        int[] order = new int[size];
+        int tail = 0;
+        for (int i = 0; i < size; i++) {
+            if (parent[i] < 0) {
+                order[tail++] = i;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int manager = order[head];
+            for (int c = childStart[manager]; c < childStart[manager + 1]; c++) {
+                order[tail++] = children[c];
+            }
+        }
+        int[] totalReports = new int[size];
+        for (int k = tail - 1; k >= 0; k--) {
+            int employee = order[k];
+            if (parent[employee] >= 0) {
+                totalReports[parent[employee]] += totalReports[employee] + 1;
+            }
+        }
+
+        return new OrgChart(nodes, indexById, childStart, children, totalReports);
+    }
+
+    public boolean contains(Long id) {
+        return indexById.containsKey(id);
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * The employee with its reports expanded {@code depth} levels down, including at
+     * most {@code maxNodes} employees in total; nearer levels are expanded first.
+     *
+     * @return null if the employee is not in the chart
+     */
+    public OrgChartNodeDTO chart(Long id, int depth, int maxNodes) {
+        Integer root = indexById.get(id);
+        if (root == null) {
+            return null;
+        }
+        OrgChartNodeDTO top = toDTO(root);
+        List<OrgChartNodeDTO> level = new ArrayList<>(List.of(top));
+        List<Integer> levelIndexes = new ArrayList<>(List.of(root));
+        int budget = maxNodes - 1;
+
+        for (int d = 0; d < depth && !level.isEmpty(); d++) {
+            List<OrgChartNodeDTO> nextLevel = new ArrayList<>();
+            List<Integer> nextIndexes = new ArrayList<>();
+            for (int n = 0; n < level.size(); n++) {
+                int manager = levelIndexes.get(n);
+                int count = childStart[manager + 1] - childStart[manager];
+                if (count == 0 || count > budget) {
+                    continue;
+                }
+                List<OrgChartNodeDTO> reports = new ArrayList<>(count);
+                for (int c = childStart[manager]; c < childStart[manager + 1]; c++) {
+                    OrgChartNodeDTO report = toDTO(children[c]);
+                    reports.add(report);
+                    nextLevel.add(report);
+                    nextIndexes.add(children[c]);
+                }
+                level.get(n).setReports(reports);
+                budget -= count;
+            }
+            level = nextLevel;
+            levelIndexes = nextIndexes;
+        }
+        return top;
+    }
+
+    private OrgChartNodeDTO toDTO(int index) {
+        Node node = nodes[index];
+        return OrgChartNodeDTO.builder()
+                .id(node.id())
+                .employeeId(node.employeeId())
+                .firstName(node.firstName())
+                .lastName(node.lastName())
+                .jobTitle(node.jobTitle())
+                .directReports(childStart[index + 1] - childStart[index])
+                .totalReports(totalReports[index])
+                .build();
+    }
+
+    private record Node(Long id, String employeeId, String firstName, String lastName, String jobTitle) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.company.hr.hierarchy;
+
+import com.company.hr.config.HierarchyProperties;
+import com.company.hr.repository.EmployeeHierarchyRepository;
+import com.company.hr.repository.projection.EmployeeOrgView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Holds one {@link OrgChart} per instance for read-heavy org chart requests.
+ *
+ * The chart is loaded on first use and dropped after any employee write on this
+ * instance commits; the next read reloads it with one query. Writes on other
+ * replicas are picked up once the chart is older than {@code app.hierarchy.chart-ttl}.
+ */
+@Component
+@Slf4j
+public class OrgChartCache {
+
+    private final EmployeeHierarchyRepository hierarchyRepository;
+    private final HierarchyProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    // Bumped on every invalidation, so a load that overlapped one is not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile OrgChart chart;
+    private volatile long loadedAtNanos;
+
+    public OrgChartCache(EmployeeHierarchyRepository hierarchyRepository,
+                         HierarchyProperties properties,
+                         PlatformTransactionManager transactionManager) {
+        this.hierarchyRepository = hierarchyRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public OrgChart get() {
+        OrgChart current = chart;
+        if (current != null && !isExpired()) {
+            return current;
+        }
+        // A lock rather than synchronized: a virtual thread blocked on the query would pin its carrier
+        loadLock.lock();
+        try {
+            current = chart;
+            if (current != null && !isExpired()) {
+                return current;
+            }
+            long loadingGeneration = generation.get();
+            long start = System.nanoTime();
+            OrgChart loaded = readOnlyTransaction.execute(status -> {
+                try (Stream<EmployeeOrgView> employees = hierarchyRepository.streamOrgChart()) {
+                    return OrgChart.build(employees.toList());
+                }
+            });
+            if (generation.get() == loadingGeneration) {
+                chart = loaded;
+                loadedAtNanos = start;
+            }
+            log.debug("Loaded org chart of {} employees in {} ms", loaded.size(), (System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the chart, after commit when called inside a transaction.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doInvalidate();
+                }
+            });
+        } else {
+            doInvalidate();
+        }
+    }
+
+    private void doInvalidate() {
+        generation.incrementAndGet();
+        chart = null;
+    }
+
+    private boolean isExpired() {
+        return System.nanoTime() - loadedAtNanos > properties.getChartTtl().toNanos();
+    }
+}
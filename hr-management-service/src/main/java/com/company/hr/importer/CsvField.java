@@ -0,0 +1,10 @@
+package com.company.hr.importer;
+
+import java.util.function.BiConsumer;
+
+/**
+ * One CSV column read into a row: its header and how to set the row's value
+ * from a non-empty cell. Setters may throw to reject a malformed cell.
+ */
+public record CsvField<T>(String header, BiConsumer<T, String> value) {
+}
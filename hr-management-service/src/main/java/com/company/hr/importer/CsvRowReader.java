@@ -0,0 +1,175 @@
+package com.company.hr.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * RFC 4180 CSV with a header line naming the columns, in any order. Columns
+ * without a field, such as the read-only columns of an export, are ignored.
+ * Cells are trimmed and empty cells leave the value unset; blank lines are
+ * skipped.
+ */
+class CsvRowReader<T> implements RowReader<T> {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final Supplier<T> factory;
+    private final char[] buffer = new char[65536];
+    private final StringBuilder cell = new StringBuilder();
+    private int position;
+    private int limit;
+
+    private List<CsvField<T>> columns;
+    private long line = 1;
+
+    CsvRowReader(InputStream in, Supplier<T> factory, List<CsvField<T>> fields) throws IOException {
+        this.reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        this.factory = factory;
+        readHeader(fields);
+    }
+
+    @Override
+    public Row<T> read() throws IOException {
+        if (columns == null) {
+            return null;
+        }
+        List<String> cells;
+        long start;
+        do {
+            start = line;
+            cells = new ArrayList<>(columns.size());
+            if (!readRecord(cells)) {
+                return null;
+            }
+        } while (cells.size() == 1 && cells.get(0).isEmpty());
+
+        if (cells.size() != columns.size()) {
+            return new Row<>(start, null, "Expected " + columns.size() + " cells, found " + cells.size());
+        }
+        T value = factory.get();
+        for (int i = 0; i < cells.size(); i++) {
+            CsvField<T> field = columns.get(i);
+            String text = cells.get(i);
+            if (field == null || text.isEmpty()) {
+                continue;
+            }
+            try {
+                field.value().accept(value, text);
+            } catch (RuntimeException e) {
+                return new Row<>(start, null, "Invalid " + field.header() + ": '" + text + "'");
+            }
+        }
+        return new Row<>(start, value, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader(List<CsvField<T>> fields) throws IOException {
+        List<String> headers = new ArrayList<>();
+        if (!readRecord(headers)) {
+            return;
+        }
+        if (!headers.isEmpty() && !headers.get(0).isEmpty() && headers.get(0).charAt(0) == BOM) {
+            headers.set(0, headers.get(0).substring(1));
+        }
+        Map<String, CsvField<T>> byHeader = new HashMap<>();
+        fields.forEach(field -> byHeader.put(field.header(), field));
+        columns = new ArrayList<>(headers.size());
+        for (String header : headers) {
+            columns.add(byHeader.get(header));
+        }
+    }
+
+    /**
+     * Reads the cells of one record, which may span lines inside quotes.
+     *
+     * @return false at the end of the input
+     */
+    private boolean readRecord(List<String> cells) throws IOException {
+        int c = next();
+        if (c < 0) {
+            return false;
+        }
+        boolean quoted = false;
+        boolean inQuotes = false;
+        cell.setLength(0);
+        while (true) {
+            if (inQuotes) {
+                if (c < 0) {
+                    // Unterminated quote: keep what was read as the last cell
+                    inQuotes = false;
+                    continue;
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        next();
+                        cell.append('"');
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    cell.append((char) c);
+                }
+            } else if (c == ',') {
+                cells.add(quoted ? cell.toString() : cell.toString().trim());
+                cell.setLength(0);
+                quoted = false;
+            } else if (c == '"' && !quoted && cell.toString().isBlank()) {
+                cell.setLength(0);
+                quoted = true;
+                inQuotes = true;
+            } else if (c == '\r' || c == '\n' || c < 0) {
+                if (c == '\r' && peek() == '\n') {
+                    next();
+                }
+                if (c >= 0) {
+                    line++;
+                }
+                cells.add(quoted ? cell.toString() : cell.toString().trim());
+                return true;
+            } else {
+                cell.append((char) c);
+            }
+            c = next();
+        }
+    }
+
+    private int next() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
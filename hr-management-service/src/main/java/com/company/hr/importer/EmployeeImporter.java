@@ -0,0 +1,635 @@
+package com.company.hr.importer;
+
+import com.company.common.export.CsvColumn;
+import com.company.common.export.ExportFormat;
+import com.company.common.export.RowWriter;
+import com.company.hr.config.EmployeeImportProperties;
+import com.company.hr.directory.EmployeeDirectory;
+import com.company.hr.dto.AddressDTO;
+import com.company.hr.dto.EmployeeImportDTO;
+import com.company.hr.dto.EmployeeImportErrorDTO;
+import com.company.hr.dto.EmployeeImportStatusDTO;
+import com.company.hr.dto.EmployeeImportStatusDTO.State;
+import com.company.hr.entity.Address;
+import com.company.hr.entity.Department;
+import com.company.hr.entity.Employee;
+import com.company.hr.event.EmployeeEventPublisher;
+import com.company.hr.exception.InvalidRequestException;
+import com.company.hr.exception.ResourceNotFoundException;
+import com.company.hr.repository.EmployeeJdbcRepository;
+import com.company.hr.repository.EmployeeJdbcRepository.DepartmentKey;
+import com.company.hr.repository.EmployeeJdbcRepository.EmployeeKey;
+import com.company.hr.service.EmployeeHierarchyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employees in bulk from an uploaded CSV or NDJSON file, in the
+ * background. The upload is spooled to a temporary file and read back one row
+ * at a time, so heap use does not grow with the file.
+ *
+ * Rows are validated as they are read, with departments resolved from a map
+ * loaded once per job. Every batch then costs a fixed number of round trips,
+ * in one transaction: one query for duplicates and managers, one for IDs, and
+ * one JDBC batch each for the employees, their hierarchy paths and their
+ * creation events. Rows that fail are reported with their line and the job
+ * goes on; a batch the database rejects, for instance because the same
+ * employee was created concurrently, fails as a whole.
+ *
+ * One job runs at a time per instance; others queue. Status and error reports
+ * are kept in memory for the last {@code retained-jobs} jobs.
+ */
+@Component
+@Slf4j
+public class EmployeeImporter implements DisposableBean {
+
+    /**
+     * The columns an import reads; an export can be imported back as is.
+     */
+    public static final List<CsvField<EmployeeImportDTO>> CSV_FIELDS = List.of(
+            new CsvField<>("employeeId", EmployeeImportDTO::setEmployeeId),
+            new CsvField<>("firstName", EmployeeImportDTO::setFirstName),
+            new CsvField<>("lastName", EmployeeImportDTO::setLastName),
+            new CsvField<>("email", EmployeeImportDTO::setEmail),
+            new CsvField<>("phoneNumber", EmployeeImportDTO::setPhoneNumber),
+            new CsvField<>("dateOfBirth", (row, value) -> row.setDateOfBirth(LocalDate.parse(value))),
+            new CsvField<>("hireDate", (row, value) -> row.setHireDate(LocalDate.parse(value))),
+            new CsvField<>("status", (row, value) -> row.setStatus(Employee.EmploymentStatus.valueOf(value))),
+            new CsvField<>("employmentType", (row, value) -> row.setEmploymentType(Employee.EmploymentType.valueOf(value))),
+            new CsvField<>("jobTitle", EmployeeImportDTO::setJobTitle),
+            new CsvField<>("salary", (row, value) -> row.setSalary(new BigDecimal(value))),
+            new CsvField<>("departmentId", (row, value) -> row.setDepartmentId(Long.valueOf(value))),
+            new CsvField<>("departmentCode", EmployeeImportDTO::setDepartmentCode),
+            new CsvField<>("managerId", (row, value) -> row.setManagerId(Long.valueOf(value))),
+            new CsvField<>("managerEmployeeId", EmployeeImportDTO::setManagerEmployeeId),
+            new CsvField<>("street", address(AddressDTO::setStreet)),
+            new CsvField<>("city", address(AddressDTO::setCity)),
+            new CsvField<>("state", address(AddressDTO::setState)),
+            new CsvField<>("country", address(AddressDTO::setCountry)),
+            new CsvField<>("postalCode", address(AddressDTO::setPostalCode)));
+
+    private static final List<CsvColumn<EmployeeImportErrorDTO>> ERROR_COLUMNS = List.of(
+            new CsvColumn<>("line", EmployeeImportErrorDTO::getLine),
+            new CsvColumn<>("employeeId", EmployeeImportErrorDTO::getEmployeeId),
+            new CsvColumn<>("email", EmployeeImportErrorDTO::getEmail),
+            new CsvColumn<>("message", EmployeeImportErrorDTO::getMessage));
+
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EmployeeHierarchyService hierarchyService;
+    private final EmployeeEventPublisher eventPublisher;
+    private final EmployeeDirectory employeeDirectory;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EmployeeImportProperties properties;
+    private final TransactionTemplate transaction;
+    private final ExecutorService executor;
+
+    private final Counter imported;
+    private final Counter failed;
+    private final Timer batchTimer;
+    private final Timer jobTimer;
+
+    // Guarded by this; in submission order
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    public EmployeeImporter(EmployeeJdbcRepository employeeJdbcRepository,
+                            EmployeeHierarchyService hierarchyService,
+                            EmployeeEventPublisher eventPublisher,
+                            EmployeeDirectory employeeDirectory,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            EmployeeImportProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.hierarchyService = hierarchyService;
+        this.eventPublisher = eventPublisher;
+        this.employeeDirectory = employeeDirectory;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+
+        this.imported = Counter.builder("employees.import.rows")
+                .description("Rows read by employee imports")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.failed = Counter.builder("employees.import.rows")
+                .description("Rows read by employee imports")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("employees.import.batch")
+                .description("Time to check and insert one batch of imported employees")
+                .register(meterRegistry);
+        this.jobTimer = Timer.builder("employees.import.duration")
+                .description("Time to run one employee import")
+                .register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("employee-import-"));
+    }
+
+    /**
+     * Spools the file and queues its import.
+     *
+     * @throws InvalidRequestException if the file is larger than {@code max-file-size}
+     */
+    public EmployeeImportStatusDTO submit(ExportFormat format, InputStream body) throws IOException {
+        Path file = Files.createTempFile("employee-import-", "." + format.extension());
+        try {
+            spool(body, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), format, file);
+        synchronized (this) {
+            jobs.put(job.id, job);
+            forgetFinishedJobs();
+        }
+        log.info("Queued employee import {} of {} bytes ({})", job.id, Files.size(file), format);
+        executor.execute(() -> run(job));
+        return job.status();
+    }
+
+    public EmployeeImportStatusDTO getStatus(String jobId) {
+        return findJob(jobId).status();
+    }
+
+    /**
+     * Writes the job's failed rows, in file order.
+     */
+    public void writeErrors(String jobId, ExportFormat format, OutputStream out) throws IOException {
+        List<EmployeeImportErrorDTO> errors = findJob(jobId).errors();
+        try (RowWriter<EmployeeImportErrorDTO> writer = RowWriter.open(format, out, objectMapper,
+                EmployeeImportErrorDTO.class, ERROR_COLUMNS)) {
+            for (EmployeeImportErrorDTO error : errors) {
+                writer.write(error);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        executor.shutdownNow();
+        List<Job> queued;
+        synchronized (this) {
+            queued = jobs.values().stream().filter(job -> job.status().getState() == State.QUEUED).toList();
+        }
+        for (Job job : queued) {
+            Files.deleteIfExists(job.file);
+        }
+    }
+
+    private synchronized Job findJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Employee import not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    private void forgetFinishedJobs() {
+        long finished = jobs.values().stream().filter(Job::isFinished).count();
+        Iterator<Job> oldest = jobs.values().iterator();
+        while (finished > properties.getRetainedJobs() && oldest.hasNext()) {
+            if (oldest.next().isFinished()) {
+                oldest.remove();
+                finished--;
+            }
+        }
+    }
+
+    private void spool(InputStream body, Path file) throws IOException {
+        long maxBytes = properties.getMaxFileSize().toBytes();
+        byte[] buffer = new byte[65536];
+        long written = 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = body.read(buffer)) >= 0) {
+                written += read;
+                if (written > maxBytes) {
+                    throw new InvalidRequestException("Import files are limited to " + properties.getMaxFileSize());
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void run(Job job) {
+        job.start();
+        log.info("Importing employees from {}", job.id);
+        Timer.Sample sample = Timer.start();
+        try (InputStream in = Files.newInputStream(job.file);
+             RowReader<EmployeeImportDTO> reader = RowReader.open(job.format, in, objectMapper,
+                     EmployeeImportDTO.class, EmployeeImportDTO::new, CSV_FIELDS)) {
+            Run run = new Run(job, employeeJdbcRepository.findDepartmentKeys());
+            RowReader.Row<EmployeeImportDTO> row;
+            while ((row = reader.read()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    job.finish(State.FAILED, "Interrupted by shutdown after line " + row.line());
+                    return;
+                }
+                if (job.rowsRead() == properties.getMaxRows()) {
+                    run.flush();
+                    job.finish(State.FAILED, "The file has more than " + properties.getMaxRows()
+                            + " rows; rows from line " + row.line() + " were not imported");
+                    return;
+                }
+                run.add(row);
+            }
+            run.flush();
+            job.finish(State.COMPLETED, null);
+        } catch (IOException | RuntimeException e) {
+            log.error("Employee import {} failed", job.id, e);
+            job.finish(State.FAILED, e.getMessage());
+        } finally {
+            sample.stop(jobTimer);
+            try {
+                Files.deleteIfExists(job.file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", job.file, e);
+            }
+            EmployeeImportStatusDTO status = job.status();
+            log.info("Employee import {} {}: {} rows read, {} imported, {} failed ({} rows/s)", job.id,
+                    status.getState(), status.getRowsRead(), status.getRowsImported(), status.getRowsFailed(),
+                    status.getRowsPerSecond());
+        }
+    }
+
+    /**
+     * A validated row waiting for its batch.
+     */
+    private record PendingRow(long line, EmployeeImportDTO employee, Long departmentId) {
+    }
+
+    /**
+     * What a batch's transaction wrote, and the rows it turned down.
+     */
+    private record BatchResult(Map<String, Long> idsByEmployeeId, List<EmployeeImportErrorDTO> errors) {
+    }
+
+    /**
+     * The state of one job while its file is read.
+     */
+    private class Run {
+
+        private final Job job;
+        private final Set<Long> departmentIds = new HashSet<>();
+        private final Map<String, Long> departmentIdsByCode = new HashMap<>();
+
+        // Lines where each employee ID and email first appeared in the file
+        private final Map<String, Long> employeeIdLines = new HashMap<>();
+        private final Map<String, Long> emailLines = new HashMap<>();
+
+        // Employees imported by committed batches of this job, for managerEmployeeId
+        private final Map<String, Long> importedIds = new HashMap<>();
+
+        private final List<PendingRow> batch = new ArrayList<>();
+
+        Run(Job job, List<DepartmentKey> departments) {
+            this.job = job;
+            for (DepartmentKey department : departments) {
+                departmentIds.add(department.id());
+                if (department.code() != null) {
+                    departmentIdsByCode.put(department.code(), department.id());
+                }
+            }
+        }
+
+        void add(RowReader.Row<EmployeeImportDTO> row) {
+            job.read();
+            if (!row.isValid()) {
+                fail(row.line(), null, row.error());
+                return;
+            }
+            EmployeeImportDTO employee = row.value();
+            String error = validate(row.line(), employee);
+            if (error != null) {
+                fail(row.line(), employee, error);
+                return;
+            }
+            Long departmentId = employee.getDepartmentId();
+            if (departmentId != null && !departmentIds.contains(departmentId)) {
+                fail(row.line(), employee, "Department not found with id: " + departmentId);
+                return;
+            }
+            if (employee.getDepartmentCode() != null) {
+                departmentId = departmentIdsByCode.get(employee.getDepartmentCode());
+                if (departmentId == null) {
+                    fail(row.line(), employee, "Department not found with code: " + employee.getDepartmentCode());
+                    return;
+                }
+            }
+            batch.add(new PendingRow(row.line(), employee, departmentId));
+            if (batch.size() == properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        /**
+         * Bean validation, one department and manager reference each, and
+         * uniqueness within the file.
+         */
+        private String validate(long line, EmployeeImportDTO employee) {
+            Set<ConstraintViolation<EmployeeImportDTO>> violations = validator.validate(employee);
+            if (!violations.isEmpty()) {
+                return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+            }
+            if (employee.getDepartmentId() != null && employee.getDepartmentCode() != null) {
+                return "Give departmentId or departmentCode, not both";
+            }
+            if (employee.getManagerId() != null && employee.getManagerEmployeeId() != null) {
+                return "Give managerId or managerEmployeeId, not both";
+            }
+            if (employee.getEmployeeId().equals(employee.getManagerEmployeeId())) {
+                return "An employee cannot be their own manager";
+            }
+            Long previous = employeeIdLines.putIfAbsent(employee.getEmployeeId(), line);
+            if (previous != null) {
+                return "Employee ID " + employee.getEmployeeId() + " already appears on line " + previous;
+            }
+            previous = emailLines.putIfAbsent(employee.getEmail(), line);
+            if (previous != null) {
+                return "Email " + employee.getEmail() + " already appears on line " + previous;
+            }
+            return null;
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<PendingRow> rows = List.copyOf(batch);
+            batch.clear();
+            Timer.Sample sample = Timer.start();
+            try {
+                BatchResult result = transaction.execute(tx -> write(rows, importedIds));
+                importedIds.putAll(result.idsByEmployeeId());
+                job.imported(result.idsByEmployeeId().size());
+                imported.increment(result.idsByEmployeeId().size());
+                result.errors().forEach(error -> job.fail(error, properties.getMaxErrors()));
+                failed.increment(result.errors().size());
+            } catch (RuntimeException e) {
+                log.warn("Employee import {}: batch of {} rows from line {} failed", job.id, rows.size(),
+                        rows.get(0).line(), e);
+                String message = "Batch from line " + rows.get(0).line() + " failed: " + e.getMessage();
+                rows.forEach(row -> fail(row.line(), row.employee(), message));
+            } finally {
+                sample.stop(batchTimer);
+            }
+        }
+
+        private void fail(long line, EmployeeImportDTO employee, String message) {
+            job.fail(error(line, employee, message), properties.getMaxErrors());
+            failed.increment();
+        }
+    }
+
+    /**
+     * Checks a batch against the database and inserts what passes.
+     *
+     * @param importedIds employees imported by earlier batches of the job
+     */
+    private BatchResult write(List<PendingRow> rows, Map<String, Long> importedIds) {
+        Set<Long> managerIds = new HashSet<>();
+        Set<String> employeeIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (PendingRow row : rows) {
+            EmployeeImportDTO employee = row.employee();
+            employeeIds.add(employee.getEmployeeId());
+            emails.add(employee.getEmail());
+            if (employee.getManagerId() != null) {
+                managerIds.add(employee.getManagerId());
+            }
+            if (employee.getManagerEmployeeId() != null && !importedIds.containsKey(employee.getManagerEmployeeId())) {
+                employeeIds.add(employee.getManagerEmployeeId());
+            }
+        }
+
+        Set<Long> existingIds = new HashSet<>();
+        Map<String, Long> existingByEmployeeId = new HashMap<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (EmployeeKey key : employeeJdbcRepository.findKeys(managerIds, employeeIds, emails)) {
+            existingIds.add(key.id());
+            existingByEmployeeId.put(key.employeeId(), key.id());
+            takenEmails.add(key.email());
+        }
+
+        List<EmployeeImportErrorDTO> errors = new ArrayList<>();
+        List<PendingRow> unique = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            EmployeeImportDTO employee = row.employee();
+            if (existingByEmployeeId.containsKey(employee.getEmployeeId())) {
+                errors.add(error(row.line(), employee, "Employee with ID " + employee.getEmployeeId() + " already exists"));
+            } else if (takenEmails.contains(employee.getEmail())) {
+                errors.add(error(row.line(), employee, "Employee with email " + employee.getEmail() + " already exists"));
+            } else {
+                unique.add(row);
+            }
+        }
+
+        Iterator<Long> ids = employeeJdbcRepository.nextIds(unique.size()).iterator();
+        Map<String, Long> batchIds = new HashMap<>();
+        List<Employee> employees = new ArrayList<>(unique.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (PendingRow row : unique) {
+            EmployeeImportDTO employee = row.employee();
+            Long managerId;
+            if (employee.getManagerId() != null) {
+                managerId = existingIds.contains(employee.getManagerId()) ? employee.getManagerId() : null;
+                if (managerId == null) {
+                    errors.add(error(row.line(), employee, "Manager not found with id: " + employee.getManagerId()));
+                    continue;
+                }
+            } else if (employee.getManagerEmployeeId() != null) {
+                String number = employee.getManagerEmployeeId();
+                managerId = batchIds.getOrDefault(number, importedIds.getOrDefault(number, existingByEmployeeId.get(number)));
+                if (managerId == null) {
+                    errors.add(error(row.line(), employee, "Manager not found with employee ID: " + number
+                            + "; managers imported from the same file must come before their reports"));
+                    continue;
+                }
+            } else {
+                managerId = null;
+            }
+            // IDs of rows turned down here are left unused
+            Employee entity = toEmployee(ids.next(), employee, row.departmentId(), managerId, now);
+            batchIds.put(entity.getEmployeeId(), entity.getId());
+            employees.add(entity);
+        }
+
+        if (!employees.isEmpty()) {
+            employeeJdbcRepository.insertAll(employees);
+            hierarchyService.employeesCreated(employees);
+            eventPublisher.publishEmployeesCreatedEvents(employees);
+            employeeDirectory.upsertAll(employees);
+        }
+        return new BatchResult(batchIds, errors);
+    }
+
+    private static Employee toEmployee(long id, EmployeeImportDTO row, Long departmentId, Long managerId,
+                                       LocalDateTime now) {
+        AddressDTO address = row.getAddress();
+        return Employee.builder()
+                .id(id)
+                .employeeId(row.getEmployeeId())
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .email(row.getEmail())
+                .phoneNumber(row.getPhoneNumber())
+                .dateOfBirth(row.getDateOfBirth())
+                .hireDate(row.getHireDate())
+                .status(row.getStatus())
+                .employmentType(row.getEmploymentType())
+                .jobTitle(row.getJobTitle())
+                .salary(row.getSalary())
+                .department(departmentId != null ? Department.builder().id(departmentId).build() : null)
+                .manager(managerId != null ? Employee.builder().id(managerId).build() : null)
+                .address(address == null ? null : Address.builder()
+                        .street(address.getStreet())
+                        .city(address.getCity())
+                        .state(address.getState())
+                        .country(address.getCountry())
+                        .postalCode(address.getPostalCode())
+                        .build())
+                .createdAt(now)
+                .version(0L)
+                .build();
+    }
+
+    private static EmployeeImportErrorDTO error(long line, EmployeeImportDTO employee, String message) {
+        return EmployeeImportErrorDTO.builder()
+                .line(line)
+                .employeeId(employee != null ? employee.getEmployeeId() : null)
+                .email(employee != null ? employee.getEmail() : null)
+                .message(message)
+                .build();
+    }
+
+    private static BiConsumer<EmployeeImportDTO, String> address(BiConsumer<AddressDTO, String> field) {
+        return (row, value) -> {
+            if (row.getAddress() == null) {
+                row.setAddress(new AddressDTO());
+            }
+            field.accept(row.getAddress(), value);
+        };
+    }
+
+    /**
+     * A submitted import: its file, status and failed rows.
+     */
+    private static final class Job {
+
+        private final String id;
+        private final ExportFormat format;
+        private final Path file;
+        private final List<EmployeeImportErrorDTO> errors = new ArrayList<>();
+        private final EmployeeImportStatusDTO status;
+        private long startNanos;
+        private long finishNanos;
+
+        Job(String id, ExportFormat format, Path file) {
+            this.id = id;
+            this.format = format;
+            this.file = file;
+            this.status = EmployeeImportStatusDTO.builder()
+                    .jobId(id)
+                    .state(State.QUEUED)
+                    .format(format)
+                    .submittedAt(LocalDateTime.now())
+                    .build();
+        }
+
+        synchronized EmployeeImportStatusDTO status() {
+            EmployeeImportStatusDTO copy = status.toBuilder().build();
+            if (startNanos != 0) {
+                long nanos = Math.max(1, (finishNanos != 0 ? finishNanos : System.nanoTime()) - startNanos);
+                copy.setRowsPerSecond(status.getRowsRead() * TimeUnit.SECONDS.toNanos(1) / nanos);
+            }
+            return copy;
+        }
+
+        /**
+         * Rows are validated as read but checked against the database per batch,
+         * so failures are recorded out of order.
+         */
+        synchronized List<EmployeeImportErrorDTO> errors() {
+            List<EmployeeImportErrorDTO> sorted = new ArrayList<>(errors);
+            sorted.sort(Comparator.comparingLong(EmployeeImportErrorDTO::getLine));
+            return sorted;
+        }
+
+        synchronized boolean isFinished() {
+            return status.getState() == State.COMPLETED || status.getState() == State.FAILED;
+        }
+
+        synchronized long rowsRead() {
+            return status.getRowsRead();
+        }
+
+        synchronized void start() {
+            startNanos = System.nanoTime();
+            status.setState(State.RUNNING);
+            status.setStartedAt(LocalDateTime.now());
+        }
+
+        synchronized void read() {
+            status.setRowsRead(status.getRowsRead() + 1);
+        }
+
+        synchronized void imported(int rows) {
+            status.setRowsImported(status.getRowsImported() + rows);
+        }
+
+        synchronized void fail(EmployeeImportErrorDTO error, int maxErrors) {
+            status.setRowsFailed(status.getRowsFailed() + 1);
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            } else {
+                status.setErrorsTruncated(true);
+            }
+        }
+
+        synchronized void finish(State state, String error) {
+            finishNanos = System.nanoTime();
+            status.setState(state);
+            status.setError(error);
+            status.setFinishedAt(LocalDateTime.now());
+        }
+    }
+}
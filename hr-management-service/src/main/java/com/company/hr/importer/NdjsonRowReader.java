@@ -0,0 +1,50 @@
+package com.company.hr.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One JSON document per line. Blank lines are skipped; unknown properties,
+ * such as those of an export, are ignored.
+ */
+class NdjsonRowReader<T> implements RowReader<T> {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long line;
+
+    NdjsonRowReader(InputStream in, ObjectMapper objectMapper, Class<T> type) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 65536);
+        this.objectReader = objectMapper.readerFor(type);
+    }
+
+    @Override
+    public Row<T> read() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        try {
+            return new Row<>(line, objectReader.readValue(text), null);
+        } catch (JsonProcessingException e) {
+            return new Row<>(line, null, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,44 @@
+package com.company.hr.importer;
+
+import com.company.common.export.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Reads import rows from a stream one at a time, in the formats employees are
+ * exported in. A malformed row is returned with its error instead of ending
+ * the file, so one bad line does not reject the rest. Closing the reader
+ * closes the stream.
+ */
+public interface RowReader<T> extends AutoCloseable {
+
+    /**
+     * A row and the line it starts on, or why it could not be read.
+     */
+    record Row<T>(long line, T value, String error) {
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
+    /**
+     * @return the next row, or null at the end of the file
+     */
+    Row<T> read() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    static <T> RowReader<T> open(ExportFormat format, InputStream in, ObjectMapper objectMapper,
+                                 Class<T> type, Supplier<T> factory, List<CsvField<T>> fields) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonRowReader<>(in, objectMapper, type);
+            case CSV -> new CsvRowReader<>(in, factory, fields);
+        };
+    }
+}
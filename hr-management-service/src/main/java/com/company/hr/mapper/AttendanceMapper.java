@@ -0,0 +1,23 @@
+package com.company.hr.mapper;
+
+import com.company.hr.dto.AttendanceDTO;
+import com.company.hr.entity.Attendance;
+import org.mapstruct.*;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AttendanceMapper {
+
+    @Mapping(source = "employee.id", target = "employeeId")
+    @Mapping(expression = "java(attendance.getEmployee() != null ? attendance.getEmployee().getFirstName() + \" \" + attendance.getEmployee().getLastName() : null)", target = "employeeName")
+    AttendanceDTO toDTO(Attendance attendance);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "employee", ignore = true)
+    @Mapping(target = "workHours", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    Attendance toEntity(AttendanceDTO attendanceDTO);
+
+    List<AttendanceDTO> toDTOList(List<Attendance> attendances);
+}
@@ -1,7 +1,9 @@
 package com.company.hr.mapper;
 
+import com.company.hr.dto.AddressDTO;
 import com.company.hr.dto.EmployeeDTO;
 import com.company.hr.entity.Employee;
+import com.company.hr.repository.projection.EmployeeRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -29,6 +31,29 @@ public interface EmployeeMapper {
 
     List<EmployeeDTO> toDTOList(List<Employee> employees);
 
+    @Mapping(expression = "java(row.managerId() != null ? row.managerFirstName() + \" \" + row.managerLastName() : null)", target = "managerName")
+    @Mapping(expression = "java(toAddressDTO(row))", target = "address")
+    EmployeeDTO toDTO(EmployeeRow row);
+
+    List<EmployeeDTO> rowsToDTOList(List<EmployeeRow> rows);
+
+    /**
+     * Null when every address column is null, as for an entity with no address.
+     */
+    default AddressDTO toAddressDTO(EmployeeRow row) {
+        if (row.street() == null && row.city() == null && row.state() == null
+                && row.country() == null && row.postalCode() == null) {
+            return null;
+        }
+        return AddressDTO.builder()
+                .street(row.street())
+                .city(row.city())
+                .state(row.state())
+                .country(row.country())
+                .postalCode(row.postalCode())
+                .build();
+    }
+
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "department", ignore = true)
@@ -0,0 +1,30 @@
+package com.company.hr.mapper;
+
+import com.company.hr.dto.LeaveDTO;
+import com.company.hr.entity.Leave;
+import org.mapstruct.*;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface LeaveMapper {
+
+    @Mapping(source = "employee.id", target = "employeeId")
+    @Mapping(expression = "java(leave.getEmployee() != null ? leave.getEmployee().getFirstName() + \" \" + leave.getEmployee().getLastName() : null)", target = "employeeName")
+    @Mapping(source = "approvedBy.id", target = "approvedById")
+    @Mapping(expression = "java(leave.getApprovedBy() != null ? leave.getApprovedBy().getFirstName() + \" \" + leave.getApprovedBy().getLastName() : null)", target = "approvedByName")
+    LeaveDTO toDTO(Leave leave);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "employee", ignore = true)
+    @Mapping(target = "numberOfDays", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "approverComments", ignore = true)
+    @Mapping(target = "approvedBy", ignore = true)
+    @Mapping(target = "approvedAt", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Leave toEntity(LeaveDTO leaveDTO);
+
+    List<LeaveDTO> toDTOList(List<Leave> leaves);
+}
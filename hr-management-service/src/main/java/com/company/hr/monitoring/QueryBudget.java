@@ -0,0 +1,20 @@
+package com.company.hr.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements a request to the annotated endpoint may run. Requests over
+ * budget are logged and counted, or fail outright when
+ * {@code app.query-budget.fail-on-exceed} is set, as it should be in tests.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,63 @@
+package com.company.hr.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Opens a {@link QueryCounter} scope around handlers annotated with
+ * {@link QueryBudget}, and records how many statements each request ran.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                QueryCounter.open(handlerMethod.getBeanType().getSimpleName() + "."
+                        + handlerMethod.getMethod().getName(), budget.value());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The response is produced on another thread, which the scope does not follow
+        QueryCounter.close();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        QueryCounter.Scope scope = QueryCounter.close();
+        if (scope == null) {
+            return;
+        }
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("SQL statements run per request")
+                .tag("endpoint", scope.name)
+                .register(meterRegistry)
+                .record(scope.count);
+        if (scope.exceeded()) {
+            log.warn("{} ran {} queries, over its budget of {}", scope.name, scope.count, scope.budget);
+            Counter.builder("http.server.requests.query.budget.exceeded")
+                    .description("Requests that ran more SQL statements than their endpoint's budget")
+                    .tag("endpoint", scope.name)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.company.hr.monitoring;
+
+import com.company.hr.exception.QueryBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a
+ * {@link QueryBudget} scope is open.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final boolean failOnExceed;
+
+    public QueryCounter(boolean failOnExceed) {
+        this.failOnExceed = failOnExceed;
+    }
+
+    static void open(String name, int budget) {
+        CURRENT.set(new Scope(name, budget));
+    }
+
+    /**
+     * Closes the current thread's scope.
+     *
+     * @return the closed scope, or null if none was open
+     */
+    static Scope close() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null && ++scope.count > scope.budget && failOnExceed) {
+            throw new QueryBudgetExceededException(scope.name + " exceeded its budget of " + scope.budget
+                    + " queries with: " + sql);
+        }
+        return sql;
+    }
+
+    static final class Scope {
+
+        final String name;
+        final int budget;
+        int count;
+
+        private Scope(String name, int budget) {
+            this.name = name;
+            this.budget = budget;
+        }
+
+        boolean exceeded() {
+            return count > budget;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.company.hr.repository;
+
+import com.company.hr.entity.Attendance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plain JDBC access to {@code attendances} for bulk clock-event ingestion, where
+ * loading and saving one managed entity per check-in would dominate the cost.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceJdbcRepository {
+
+    // A day can only move its check-in earlier and its check-out later
+    private static final String UPSERT_CHECK_IN =
+            "INSERT INTO attendances (employee_id, date, check_in, check_out, status) " +
+            "VALUES (?, ?, ?, ?, 'PRESENT') " +
+            "ON CONFLICT (employee_id, date) DO UPDATE SET " +
+            "check_in = LEAST(attendances.check_in, EXCLUDED.check_in), " +
+            "check_out = GREATEST(attendances.check_out, EXCLUDED.check_out)";
+
+    // Without a check-in, a new day starts at its check-out
+    private static final String UPSERT_CHECK_OUT =
+            "INSERT INTO attendances (employee_id, date, check_in, check_out, status) " +
+            "VALUES (?, ?, ?, ?, 'PRESENT') " +
+            "ON CONFLICT (employee_id, date) DO UPDATE SET " +
+            "check_out = GREATEST(attendances.check_out, EXCLUDED.check_out)";
+
+    private static final String FINISH_DAYS =
+            "UPDATE attendances a SET " +
+            "work_hours = CASE WHEN a.check_out IS NULL THEN NULL " +
+            "ELSE GREATEST(0, FLOOR(EXTRACT(EPOCH FROM (a.check_out - a.check_in)) / 3600))::int END, " +
+            "status = CASE WHEN a.status NOT IN ('PRESENT', 'LATE') THEN a.status " +
+            "WHEN a.check_in > ? THEN 'LATE' ELSE 'PRESENT' END " +
+            "FROM unnest(?::bigint[], ?::date[]) AS d(employee_id, date) " +
+            "WHERE a.employee_id = d.employee_id AND a.date = d.date " +
+            "RETURNING a.id, a.employee_id, a.date, a.status, a.check_in, a.check_out, a.work_hours";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * An employee's first check-in and last check-out on a day, either possibly null.
+     */
+    public record ClockDay(long employeeId, LocalDate date, LocalTime firstIn, LocalTime lastOut) {
+    }
+
+    /**
+     * An attendance row as left by {@link #finishDays}.
+     */
+    public record AttendanceDay(long id, long employeeId, LocalDate date, Attendance.AttendanceStatus status,
+                                LocalTime checkIn, LocalTime checkOut, Integer workHours) {
+    }
+
+    public Set<Long> findExistingEmployeeIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM employees WHERE id = ANY(?)",
+                Long.class, (Object) ids.toArray(Long[]::new)));
+    }
+
+    /**
+     * Merges the days into {@code attendances} in two JDBC batches, one for days
+     * with a check-in and one for days with only a check-out. Pass days sorted
+     * by employee and date so concurrent writers lock rows in the same order.
+     */
+    public void upsertClockDays(List<ClockDay> days) {
+        List<ClockDay> withCheckIn = days.stream().filter(day -> day.firstIn() != null).toList();
+        List<ClockDay> checkOutOnly = days.stream().filter(day -> day.firstIn() == null).toList();
+        upsert(UPSERT_CHECK_IN, withCheckIn);
+        upsert(UPSERT_CHECK_OUT, checkOutOnly);
+    }
+
+    /**
+     * Recomputes work hours, and late or present status, of the given days.
+     * Other statuses, such as work from home, are kept.
+     */
+    public List<AttendanceDay> finishDays(List<ClockDay> days, LocalTime lateAfter) {
+        if (days.isEmpty()) {
+            return List.of();
+        }
+        Long[] employeeIds = days.stream().map(ClockDay::employeeId).toArray(Long[]::new);
+        String[] dates = days.stream().map(day -> day.date().toString()).toArray(String[]::new);
+        return jdbcTemplate.query(FINISH_DAYS, (rs, rowNum) -> new AttendanceDay(
+                        rs.getLong("id"),
+                        rs.getLong("employee_id"),
+                        rs.getDate("date").toLocalDate(),
+                        Attendance.AttendanceStatus.valueOf(rs.getString("status")),
+                        rs.getTime("check_in").toLocalTime(),
+                        rs.getTime("check_out") != null ? rs.getTime("check_out").toLocalTime() : null,
+                        (Integer) rs.getObject("work_hours")),
+                Time.valueOf(lateAfter), employeeIds, dates);
+    }
+
+    private void upsert(String sql, List<ClockDay> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, days, days.size(), (PreparedStatement ps, ClockDay day) -> {
+            LocalTime checkIn = day.firstIn() != null ? day.firstIn() : day.lastOut();
+            ps.setLong(1, day.employeeId());
+            ps.setDate(2, Date.valueOf(day.date()));
+            ps.setTime(3, Time.valueOf(checkIn));
+            ps.setTime(4, day.lastOut() != null ? Time.valueOf(day.lastOut()) : null);
+        });
+    }
+}
@@ -30,6 +30,9 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     @Query("SELECT a FROM Attendance a WHERE a.date = :date")
     List<Attendance> findByDate(@Param("date") LocalDate date);
 
+    /**
+     * Reads every attendance of the employee; use {@code AttendanceSummaryService} for monthly figures.
+     */
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.employee.id = :employeeId " +
            "AND a.status = :status AND MONTH(a.date) = :month AND YEAR(a.date) = :year")
     long countByEmployeeIdAndStatusAndMonth(@Param("employeeId") Long employeeId,
@@ -0,0 +1,132 @@
+package com.company.hr.repository;
+
+import com.company.hr.dto.MonthlyAttendanceDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC access to {@code attendance_monthly_summary}, which the database
+ * recomputes through {@code refresh_attendance_monthly_summary}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceSummaryJdbcRepository {
+
+    private static final String SUMMARY_COLUMNS =
+            "e.id, e.employee_id, e.first_name, e.last_name, " +
+            "COALESCE(s.present_days, 0) AS present_days, COALESCE(s.absent_days, 0) AS absent_days, " +
+            "COALESCE(s.late_days, 0) AS late_days, COALESCE(s.half_days, 0) AS half_days, " +
+            "COALESCE(s.work_from_home_days, 0) AS work_from_home_days, COALESCE(s.on_leave_days, 0) AS on_leave_days, " +
+            "COALESCE(s.work_hours, 0) AS work_hours, COALESCE(s.approved_leave_days, 0) AS approved_leave_days, " +
+            "COALESCE(s.unpaid_leave_days, 0) AS unpaid_leave_days";
+
+    private static final String FIND_BY_DEPARTMENT =
+            "SELECT " + SUMMARY_COLUMNS + " FROM employees e " +
+            "LEFT JOIN attendance_monthly_summary s ON s.employee_id = e.id AND s.month = ? " +
+            "WHERE e.department_id = ? ORDER BY e.id";
+
+    private static final String FIND_BY_EMPLOYEE =
+            "SELECT " + SUMMARY_COLUMNS + " FROM employees e " +
+            "LEFT JOIN attendance_monthly_summary s ON s.employee_id = e.id AND s.month = ? " +
+            "WHERE e.id = ?";
+
+    // Everyone with attendance or approved leave in the month, or a summary row to clear
+    private static final String FIND_ACTIVE_EMPLOYEE_IDS =
+            "SELECT employee_id FROM (" +
+            "SELECT employee_id FROM attendances WHERE date >= ? AND date < ? " +
+            "UNION SELECT employee_id FROM leaves WHERE status = 'APPROVED' AND start_date < ? AND end_date >= ? " +
+            "UNION SELECT employee_id FROM attendance_monthly_summary WHERE month = ?" +
+            ") active WHERE employee_id > ? ORDER BY employee_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * An employee and the first day of a month.
+     */
+    public record MonthKey(long employeeId, LocalDate month) {
+
+        public static MonthKey of(long employeeId, LocalDate date) {
+            return new MonthKey(employeeId, date.withDayOfMonth(1));
+        }
+    }
+
+    /**
+     * Recomputes the months from attendances and approved leaves, creating
+     * missing rows. Every employee must exist.
+     *
+     * @return the number of rows written
+     */
+    public int refresh(Collection<MonthKey> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long[] employeeIds = keys.stream().map(MonthKey::employeeId).toArray(Long[]::new);
+        String[] months = keys.stream().map(key -> key.month().toString()).toArray(String[]::new);
+        Integer refreshed = jdbcTemplate.queryForObject(
+                "SELECT refresh_attendance_monthly_summary(?::bigint[], ?::date[])", Integer.class,
+                employeeIds, months);
+        return refreshed != null ? refreshed : 0;
+    }
+
+    /**
+     * Every employee of the department with their month, in ID order; employees
+     * with nothing recorded get zeros.
+     */
+    public List<MonthlyAttendanceDTO> findByDepartment(long departmentId, YearMonth month) {
+        return jdbcTemplate.query(FIND_BY_DEPARTMENT, rowMapper(month), Date.valueOf(month.atDay(1)), departmentId);
+    }
+
+    public Optional<MonthlyAttendanceDTO> findByEmployee(long employeeId, YearMonth month) {
+        return jdbcTemplate.query(FIND_BY_EMPLOYEE, rowMapper(month), Date.valueOf(month.atDay(1)), employeeId)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Up to {@code limit} employees whose summary for the month may need rebuilding,
+     * with an ID greater than {@code afterId}, in ID order.
+     */
+    public List<Long> findActiveEmployeeIds(YearMonth month, long afterId, int limit) {
+        Date start = Date.valueOf(month.atDay(1));
+        Date next = Date.valueOf(month.plusMonths(1).atDay(1));
+        return jdbcTemplate.queryForList(FIND_ACTIVE_EMPLOYEE_IDS, Long.class,
+                start, next, next, start, start, afterId, limit);
+    }
+
+    /**
+     * The month of the earliest attendance or leave, if any.
+     */
+    public Optional<YearMonth> findFirstActivityMonth() {
+        LocalDate first = jdbcTemplate.queryForObject(
+                "SELECT LEAST((SELECT MIN(date) FROM attendances), (SELECT MIN(start_date) FROM leaves))",
+                LocalDate.class);
+        return Optional.ofNullable(first).map(YearMonth::from);
+    }
+
+    private static RowMapper<MonthlyAttendanceDTO> rowMapper(YearMonth month) {
+        return (rs, rowNum) -> MonthlyAttendanceDTO.builder()
+                .employeeId(rs.getLong("id"))
+                .employeeNumber(rs.getString("employee_id"))
+                .employeeName(rs.getString("first_name") + " " + rs.getString("last_name"))
+                .month(month)
+                .presentDays(rs.getInt("present_days"))
+                .absentDays(rs.getInt("absent_days"))
+                .lateDays(rs.getInt("late_days"))
+                .halfDays(rs.getInt("half_days"))
+                .workFromHomeDays(rs.getInt("work_from_home_days"))
+                .onLeaveDays(rs.getInt("on_leave_days"))
+                .workHours(rs.getInt("work_hours"))
+                .approvedLeaveDays(rs.getInt("approved_leave_days"))
+                .unpaidLeaveDays(rs.getInt("unpaid_leave_days"))
+                .build();
+    }
+}
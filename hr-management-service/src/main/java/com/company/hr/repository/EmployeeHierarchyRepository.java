@@ -0,0 +1,105 @@
+package com.company.hr.repository;
+
+import com.company.hr.entity.Employee;
+import com.company.hr.repository.projection.EmployeeOrgView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads and maintains the {@code employee_hierarchy} closure table, which holds a
+ * row for every (manager, report) pair at any depth and a depth-0 row for every
+ * employee. Changes must run inside the transaction that changes {@code manager_id}.
+ */
+@Repository
+public interface EmployeeHierarchyRepository extends org.springframework.data.repository.Repository<Employee, Long> {
+
+    /**
+     * Key of the transaction-scoped advisory lock serializing hierarchy changes,
+     * so that two concurrent moves cannot form a cycle.
+     */
+    long LOCK_KEY = "employee_hierarchy".hashCode();
+
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:key)) l", nativeQuery = true)
+    Integer lock(@Param("key") long key);
+
+    /**
+     * Adds a new employee below its manager, or as a root if {@code managerId} is null.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT :id, :id, 0 " +
+                   "UNION ALL " +
+                   "SELECT h.ancestor_id, :id, h.depth + 1 FROM employee_hierarchy h " +
+                   "WHERE h.descendant_id = :managerId",
+           nativeQuery = true)
+    int insertPaths(@Param("id") Long id, @Param("managerId") Long managerId);
+
+    /**
+     * Removes the links between an employee's subtree and everyone above the employee.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM employee_hierarchy " +
+                   "WHERE descendant_id IN (SELECT s.descendant_id FROM employee_hierarchy s WHERE s.ancestor_id = :id) " +
+                   "AND ancestor_id NOT IN (SELECT s.descendant_id FROM employee_hierarchy s WHERE s.ancestor_id = :id)",
+           nativeQuery = true)
+    int detachSubtree(@Param("id") Long id);
+
+    /**
+     * Links an employee's subtree to a new manager and everyone above it.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT a.ancestor_id, s.descendant_id, a.depth + s.depth + 1 " +
+                   "FROM employee_hierarchy a CROSS JOIN employee_hierarchy s " +
+                   "WHERE a.descendant_id = :managerId AND s.ancestor_id = :id",
+           nativeQuery = true)
+    int attachSubtree(@Param("id") Long id, @Param("managerId") Long managerId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM employee_hierarchy " +
+                   "WHERE ancestor_id = :ancestorId AND descendant_id = :descendantId)",
+           nativeQuery = true)
+    boolean isInSubtree(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    /**
+     * Everyone reporting to the employee, directly or not, down to {@code maxDepth}
+     * levels; nearest levels first, then by ID.
+     */
+    @Query(value = "SELECT e.* FROM employee_hierarchy h JOIN employees e ON e.id = h.descendant_id " +
+                   "WHERE h.ancestor_id = :id AND h.depth BETWEEN 1 AND :maxDepth " +
+                   "ORDER BY h.depth, h.descendant_id",
+           countQuery = "SELECT COUNT(*) FROM employee_hierarchy h " +
+                        "WHERE h.ancestor_id = :id AND h.depth BETWEEN 1 AND :maxDepth",
+           nativeQuery = true)
+    Page<Employee> findSubordinates(@Param("id") Long id, @Param("maxDepth") int maxDepth, Pageable pageable);
+
+    /**
+     * The employee's managers, from the direct manager up to the top of the organization.
+     */
+    @Query(value = "SELECT e.* FROM employee_hierarchy h JOIN employees e ON e.id = h.ancestor_id " +
+                   "WHERE h.descendant_id = :id AND h.depth > 0 " +
+                   "ORDER BY h.depth",
+           nativeQuery = true)
+    List<Employee> findReportingChain(@Param("id") Long id);
+
+    /**
+     * Streams every employee's place in the organization, for the in-memory org
+     * chart. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EmployeeRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.id AS id, e.employeeId AS employeeId, e.firstName AS firstName, e.lastName AS lastName, " +
+           "e.jobTitle AS jobTitle, e.manager.id AS managerId FROM Employee e ORDER BY e.id")
+    Stream<EmployeeOrgView> streamOrgChart();
+}
@@ -0,0 +1,142 @@
+package com.company.hr.repository;
+
+import com.company.hr.entity.Address;
+import com.company.hr.entity.Employee;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC access to {@code employees} for bulk imports, where one managed
+ * entity and one round trip per insert would dominate the cost.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeJdbcRepository {
+
+    private static final String FIND_KEYS =
+            "SELECT id, employee_id, email FROM employees " +
+            "WHERE id = ANY(?) OR employee_id = ANY(?) OR email = ANY(?)";
+
+    // Hibernate's pooled optimizer reads each value as the top of a block of increment_by IDs
+    private static final String SEQUENCE_INCREMENT =
+            "SELECT increment_by FROM pg_sequences " +
+            "WHERE schemaname = current_schema() AND sequencename = 'employees_id_seq'";
+
+    private static final String NEXT_VALUES =
+            "SELECT nextval('employees_id_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT =
+            "INSERT INTO employees (id, employee_id, first_name, last_name, email, phone_number, date_of_birth, " +
+            "hire_date, status, employment_type, job_title, salary, department_id, manager_id, " +
+            "street, city, state, country, postal_code, created_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // As EmployeeHierarchyRepository.insertPaths
+    private static final String INSERT_PATHS =
+            "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+            "SELECT ?, ?, 0 " +
+            "UNION ALL " +
+            "SELECT h.ancestor_id, ?, h.depth + 1 FROM employee_hierarchy h WHERE h.descendant_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The identifying columns of an existing employee.
+     */
+    public record EmployeeKey(long id, String employeeId, String email) {
+    }
+
+    public record DepartmentKey(long id, String code) {
+    }
+
+    /**
+     * Existing employees matching any of the IDs, employee IDs or emails, in one query.
+     */
+    public List<EmployeeKey> findKeys(Collection<Long> ids, Collection<String> employeeIds, Collection<String> emails) {
+        if (ids.isEmpty() && employeeIds.isEmpty() && emails.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_KEYS,
+                (rs, rowNum) -> new EmployeeKey(rs.getLong("id"), rs.getString("employee_id"), rs.getString("email")),
+                ids.toArray(Long[]::new), employeeIds.toArray(String[]::new), emails.toArray(String[]::new));
+    }
+
+    public List<DepartmentKey> findDepartmentKeys() {
+        return jdbcTemplate.query("SELECT id, code FROM departments",
+                (rs, rowNum) -> new DepartmentKey(rs.getLong("id"), rs.getString("code")));
+    }
+
+    /**
+     * Takes {@code count} IDs from the employees sequence, so rows can reference
+     * each other before they are inserted. IDs are reserved in blocks, as
+     * {@code Employee} does, so this takes one sequence value per block.
+     */
+    public List<Long> nextIds(int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        long increment = jdbcTemplate.queryForObject(SEQUENCE_INCREMENT, Long.class);
+        List<Long> blocks = jdbcTemplate.queryForList(NEXT_VALUES, Long.class, (count + increment - 1) / increment);
+        List<Long> ids = new ArrayList<>(count);
+        for (long last : blocks) {
+            for (long id = last - increment + 1; id <= last && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Inserts employees with their IDs already set, in one JDBC batch. A manager
+     * in the batch must come before their reports.
+     */
+    public void insertAll(List<Employee> employees) {
+        jdbcTemplate.batchUpdate(INSERT, employees, employees.size(), (PreparedStatement ps, Employee employee) -> {
+            Address address = employee.getAddress() != null ? employee.getAddress() : new Address();
+            ps.setLong(1, employee.getId());
+            ps.setString(2, employee.getEmployeeId());
+            ps.setString(3, employee.getFirstName());
+            ps.setString(4, employee.getLastName());
+            ps.setString(5, employee.getEmail());
+            ps.setString(6, employee.getPhoneNumber());
+            ps.setDate(7, Date.valueOf(employee.getDateOfBirth()));
+            ps.setDate(8, Date.valueOf(employee.getHireDate()));
+            ps.setString(9, employee.getStatus().name());
+            ps.setString(10, employee.getEmploymentType().name());
+            ps.setString(11, employee.getJobTitle());
+            ps.setBigDecimal(12, employee.getSalary());
+            ps.setObject(13, employee.getDepartment() != null ? employee.getDepartment().getId() : null, Types.BIGINT);
+            ps.setObject(14, employee.getManager() != null ? employee.getManager().getId() : null, Types.BIGINT);
+            ps.setString(15, address.getStreet());
+            ps.setString(16, address.getCity());
+            ps.setString(17, address.getState());
+            ps.setString(18, address.getCountry());
+            ps.setString(19, address.getPostalCode());
+            ps.setTimestamp(20, Timestamp.valueOf(employee.getCreatedAt()));
+            ps.setLong(21, employee.getVersion());
+        });
+    }
+
+    /**
+     * Adds new employees to the {@code employee_hierarchy} closure table in one
+     * JDBC batch. Statements run in list order, so a manager in the list must
+     * come before their reports.
+     */
+    public void insertHierarchyPaths(List<Employee> employees) {
+        jdbcTemplate.batchUpdate(INSERT_PATHS, employees, employees.size(), (PreparedStatement ps, Employee employee) -> {
+            ps.setLong(1, employee.getId());
+            ps.setLong(2, employee.getId());
+            ps.setLong(3, employee.getId());
+            ps.setObject(4, employee.getManager() != null ? employee.getManager().getId() : null, Types.BIGINT);
+        });
+    }
+}
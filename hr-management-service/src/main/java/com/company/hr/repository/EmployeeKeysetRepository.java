@@ -0,0 +1,29 @@
+package com.company.hr.repository;
+
+import com.company.common.repository.KeysetCursor;
+import com.company.hr.entity.Employee;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Keyset (seek) paging over employees, for listings too deep for offset paging.
+ */
+public interface EmployeeKeysetRepository {
+
+    /**
+     * Returns up to {@code limit} employees positioned after {@code after} in
+     * ({@code sortKey}, ID) order, with department and manager fetched.
+     *
+     * @param keyword optional filter, matched like {@code searchEmployees}
+     * @param after   the cursor of the previous page, or null for the first page
+     */
+    List<Employee> findPage(String keyword, EmployeeSortKey sortKey, Sort.Direction direction,
+                            KeysetCursor after, int limit);
+
+    /**
+     * Planner's row estimate for the employees table, or -1 if the table has not
+     * been analyzed yet.
+     */
+    long estimateCount();
+}
@@ -0,0 +1,60 @@
+package com.company.hr.repository;
+
+import com.company.common.repository.KeysetCursor;
+import com.company.common.repository.KeysetQueries;
+import com.company.hr.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class EmployeeKeysetRepositoryImpl implements EmployeeKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Employee> findPage(String keyword, EmployeeSortKey sortKey, Sort.Direction direction,
+                                   KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> employee = query.from(Employee.class);
+        employee.fetch("department", JoinType.LEFT);
+        employee.fetch("manager", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (keyword != null) {
+            String pattern = "%" + keyword.toLowerCase() + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(employee.get("firstName")), pattern),
+                    cb.like(cb.lower(employee.get("lastName")), pattern),
+                    cb.like(cb.lower(employee.get("email")), pattern),
+                    cb.like(cb.lower(employee.get("employeeId")), pattern)));
+        }
+
+        if (after != null) {
+            predicates.add(KeysetQueries.after(cb, employee, sortKey, direction, after));
+        }
+        query.orderBy(KeysetQueries.orderBy(cb, employee, sortKey, direction));
+
+        query.select(employee).where(predicates.toArray(Predicate[]::new));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long estimateCount() {
+        Object estimate = entityManager
+                .createNativeQuery("SELECT reltuples::bigint FROM pg_class WHERE oid = 'employees'::regclass")
+                .getSingleResult();
+        return ((Number) estimate).longValue();
+    }
+}
@@ -1,20 +1,68 @@
 package com.company.hr.repository;
 
 import com.company.hr.entity.Employee;
+import com.company.hr.repository.projection.EmployeeDirectoryView;
+import com.company.hr.repository.projection.EmployeeKeyView;
+import com.company.hr.repository.projection.EmployeeRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeKeysetRepository {
 
+    /**
+     * Rows fetched per database round trip when streaming an export.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    // Written against the lower(column) trigram and prefix indexes from V3
+    String CONTAINS_KEYWORD =
+            "(lower(e.first_name) LIKE '%' || lower(:keyword) || '%' " +
+            "OR lower(e.last_name) LIKE '%' || lower(:keyword) || '%' " +
+            "OR lower(e.email) LIKE '%' || lower(:keyword) || '%' " +
+            "OR lower(e.employee_id) LIKE '%' || lower(:keyword) || '%') ";
+
+    String CONTAINS_KEYWORD_JPQL =
+            "(LOWER(e.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(e.employeeId) LIKE LOWER(CONCAT('%', :keyword, '%'))) ";
+
+    String STARTS_WITH_KEYWORD =
+            "(lower(e.first_name) LIKE lower(:keyword) || '%' " +
+            "OR lower(e.last_name) LIKE lower(:keyword) || '%' " +
+            "OR lower(e.email) LIKE lower(:keyword) || '%' " +
+            "OR lower(e.employee_id) LIKE lower(:keyword) || '%') ";
+
+    @Override
+    @EntityGraph(Employee.WITH_DEPARTMENT_AND_MANAGER)
+    Page<Employee> findAll(Pageable pageable);
+
+    /**
+     * Same as {@link #findById}, with what {@code EmployeeMapper.toDTO} reads fetched
+     * in the same query.
+     */
+    @EntityGraph(Employee.WITH_DEPARTMENT_AND_MANAGER)
+    @Query("SELECT e FROM Employee e WHERE e.id = :id")
+    Optional<Employee> findWithDepartmentAndManagerById(@Param("id") Long id);
+
+    @EntityGraph(Employee.WITH_DEPARTMENT_AND_MANAGER)
     Optional<Employee> findByEmployeeId(String employeeId);
 
     Optional<Employee> findByEmail(String email);
@@ -23,22 +71,128 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
 
     boolean existsByEmployeeId(String employeeId);
 
+    @EntityGraph(Employee.WITH_DEPARTMENT_AND_MANAGER)
     List<Employee> findByDepartmentId(Long departmentId);
 
+    @EntityGraph(Employee.WITH_DEPARTMENT_AND_MANAGER)
     Page<Employee> findByDepartmentId(Long departmentId, Pageable pageable);
 
+    // List reads that select only what EmployeeDTO needs, without hydrating entities
+    @Query(value = EmployeeRow.SELECT_FROM_EMPLOYEE,
+           countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeRow> findAllRows(Pageable pageable);
+
+    @Query(EmployeeRow.SELECT_FROM_EMPLOYEE + "WHERE d.id = :departmentId")
+    List<EmployeeRow> findRowsByDepartmentId(@Param("departmentId") Long departmentId);
+
+    @Query(EmployeeRow.SELECT_FROM_EMPLOYEE + "WHERE e.status = :status")
+    List<EmployeeRow> findRowsByStatus(@Param("status") Employee.EmploymentStatus status);
+
+    /**
+     * Rows for the given IDs, in no particular order.
+     */
+    @Query(EmployeeRow.SELECT_FROM_EMPLOYEE + "WHERE e.id IN :ids")
+    List<EmployeeRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = EmployeeRow.SELECT_FROM_EMPLOYEE + "WHERE " + CONTAINS_KEYWORD_JPQL,
+           countQuery = "SELECT COUNT(e) FROM Employee e WHERE " + CONTAINS_KEYWORD_JPQL)
+    Page<EmployeeRow> searchRows(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department LEFT JOIN FETCH e.manager WHERE e.id IN :ids")
+    List<Employee> findAllWithDepartmentAndManagerByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department LEFT JOIN FETCH e.manager " +
+           "WHERE e.id > :afterId " +
+           "AND (:departmentId IS NULL OR e.department.id = :departmentId) " +
+           "AND (:status IS NULL OR e.status = :status) " +
+           "ORDER BY e.id")
+    List<Employee> scanAfterId(@Param("afterId") Long afterId,
+                               @Param("departmentId") Long departmentId,
+                               @Param("status") Employee.EmploymentStatus status,
+                               Limit limit);
+
+    /**
+     * Streams employees in ID order from a database cursor, optionally limited to
+     * one department. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department LEFT JOIN FETCH e.manager " +
+           "WHERE (:departmentId IS NULL OR e.department.id = :departmentId) " +
+           "ORDER BY e.id")
+    Stream<Employee> streamForExport(@Param("departmentId") Long departmentId);
+
+    /**
+     * Streams the fields of every employee the in-memory directory indexes,
+     * without loading entities. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.id AS id, e.version AS version, e.employeeId AS employeeId, " +
+           "e.firstName AS firstName, e.lastName AS lastName, e.email AS email FROM Employee e")
+    Stream<EmployeeDirectoryView> streamForDirectory();
+
+    @Query("SELECT e.id AS id, e.version AS version, e.employeeId AS employeeId, " +
+           "e.firstName AS firstName, e.lastName AS lastName, e.email AS email FROM Employee e WHERE e.id = :id")
+    Optional<EmployeeDirectoryView> findDirectoryViewById(@Param("id") Long id);
+
+    @EntityGraph(Employee.WITH_DEPARTMENT_AND_MANAGER)
     List<Employee> findByManagerId(Long managerId);
 
+    List<EmployeeKeyView> findKeysByManagerId(Long managerId);
+
+    @EntityGraph(Employee.WITH_DEPARTMENT_AND_MANAGER)
     @Query("SELECT e FROM Employee e WHERE e.status = :status")
     List<Employee> findByStatus(@Param("status") Employee.EmploymentStatus status);
 
-    @Query("SELECT e FROM Employee e WHERE " +
-           "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(e.employeeId) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    @EntityGraph(Employee.WITH_DEPARTMENT_AND_MANAGER)
+    @Query("SELECT e FROM Employee e WHERE " + CONTAINS_KEYWORD_JPQL)
     Page<Employee> searchEmployees(@Param("keyword") String keyword, Pageable pageable);
 
+    @Query("SELECT COUNT(e) FROM Employee e WHERE " + CONTAINS_KEYWORD_JPQL)
+    long countSearchEmployees(@Param("keyword") String keyword);
+
+    /**
+     * IDs of the same matches as {@link #searchEmployees}, ranked: exact employee ID or email
+     * first, then name prefixes, then email or employee ID prefixes, then other
+     * substring matches; ties by name similarity, then ID. The pageable's sort
+     * is ignored.
+     */
+    @Query(value = "SELECT e.id FROM employees e WHERE " + CONTAINS_KEYWORD +
+                   "ORDER BY CASE " +
+                   "WHEN lower(e.employee_id) = lower(:keyword) OR lower(e.email) = lower(:keyword) THEN 0 " +
+                   "WHEN lower(e.first_name) LIKE lower(:keyword) || '%' " +
+                   "OR lower(e.last_name) LIKE lower(:keyword) || '%' THEN 1 " +
+                   "WHEN lower(e.email) LIKE lower(:keyword) || '%' " +
+                   "OR lower(e.employee_id) LIKE lower(:keyword) || '%' THEN 2 " +
+                   "ELSE 3 END, " +
+                   "greatest(similarity(lower(e.first_name), lower(:keyword)), " +
+                   "similarity(lower(e.last_name), lower(:keyword))) DESC, " +
+                   "e.id",
+           countQuery = "SELECT COUNT(*) FROM employees e WHERE " + CONTAINS_KEYWORD,
+           nativeQuery = true)
+    Page<Long> searchEmployeeIdsRanked(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * Typeahead: IDs of employees whose first name, last name, email or employee ID
+     * starts with the keyword, case-insensitively. Exact employee ID or email
+     * matches come first, then name matches, then the rest, each by name.
+     */
+    @Query(value = "SELECT e.id FROM employees e WHERE " + STARTS_WITH_KEYWORD +
+                   "ORDER BY CASE " +
+                   "WHEN lower(e.employee_id) = lower(:keyword) OR lower(e.email) = lower(:keyword) THEN 0 " +
+                   "WHEN lower(e.first_name) LIKE lower(:keyword) || '%' " +
+                   "OR lower(e.last_name) LIKE lower(:keyword) || '%' THEN 1 " +
+                   "ELSE 2 END, " +
+                   "lower(e.last_name), lower(e.first_name), e.id",
+           countQuery = "SELECT COUNT(*) FROM employees e WHERE " + STARTS_WITH_KEYWORD,
+           nativeQuery = true)
+    Page<Long> searchEmployeeIdsByPrefix(@Param("keyword") String keyword, Pageable pageable);
+
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId AND e.status = 'ACTIVE'")
     long countActiveEmployeesByDepartment(@Param("departmentId") Long departmentId);
 }
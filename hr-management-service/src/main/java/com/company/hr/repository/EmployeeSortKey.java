@@ -0,0 +1,42 @@
+package com.company.hr.repository;
+
+import com.company.common.repository.KeysetSortKey;
+import com.company.hr.entity.Employee;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Columns employees can be keyset-paged by. Each is non-null and, together with
+ * the ID as tie-breaker, backed by an index.
+ */
+public enum EmployeeSortKey implements KeysetSortKey<Employee> {
+    ID("id", Employee::getId, Long::valueOf),
+    LAST_NAME("lastName", Employee::getLastName, value -> value),
+    HIRE_DATE("hireDate", Employee::getHireDate, LocalDate::parse);
+
+    private final String property;
+    private final Function<Employee, Comparable<?>> reader;
+    private final Function<String, Comparable<?>> parser;
+
+    EmployeeSortKey(String property, Function<Employee, Comparable<?>> reader, Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.reader = reader;
+        this.parser = parser;
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String valueOf(Employee employee) {
+        return reader.apply(employee).toString();
+    }
+
+    @Override
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
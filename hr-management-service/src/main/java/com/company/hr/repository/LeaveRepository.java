@@ -1,6 +1,7 @@
 package com.company.hr.repository;
 
 import com.company.hr.entity.Leave;
+import com.company.hr.repository.projection.LeaveCalendarView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,6 +15,20 @@ import java.util.List;
 @Repository
 public interface LeaveRepository extends JpaRepository<Leave, Long> {
 
+    String CALENDAR_COLUMNS = "l.id AS leaveId, e.id AS employeeId, e.employee_id AS employeeNumber, " +
+            "e.first_name AS firstName, e.last_name AS lastName, e.department_id AS departmentId, " +
+            "l.leave_type AS leaveType, l.status AS status, l.start_date AS startDate, l.end_date AS endDate";
+
+    // The literal status list lets the planner use the partial GiST indexes on period
+    String ACTIVE_IN_WINDOW = "l.status IN ('PENDING', 'APPROVED') AND (:includePending OR l.status = 'APPROVED') " +
+            "AND l.period && daterange(:from, :to, '[]')";
+
+    /**
+     * Key namespace of the transaction-scoped advisory locks serializing leave
+     * requests per employee, so that two concurrent requests cannot overlap.
+     */
+    int REQUEST_LOCK_NAMESPACE = "leave_request".hashCode();
+
     List<Leave> findByEmployeeId(Long employeeId);
 
     Page<Leave> findByEmployeeId(Long employeeId, Pageable pageable);
@@ -24,14 +39,72 @@ public interface LeaveRepository extends JpaRepository<Leave, Long> {
     List<Leave> findByEmployeeIdAndStatus(@Param("employeeId") Long employeeId, 
                                            @Param("status") Leave.LeaveStatus status);
 
+    /**
+     * Loads every overlapping leave of any status; {@link #existsActiveOverlap} answers
+     * the validation question with one index probe.
+     */
     @Query("SELECT l FROM Leave l WHERE l.employee.id = :employeeId " +
            "AND l.startDate <= :endDate AND l.endDate >= :startDate")
     List<Leave> findOverlappingLeaves(@Param("employeeId") Long employeeId,
                                        @Param("startDate") LocalDate startDate,
                                        @Param("endDate") LocalDate endDate);
 
+    /**
+     * Reads every approved leave of the employee; use {@code AttendanceSummaryService} for monthly figures.
+     */
     @Query("SELECT SUM(l.numberOfDays) FROM Leave l WHERE l.employee.id = :employeeId " +
            "AND l.status = 'APPROVED' AND YEAR(l.startDate) = :year")
     Integer getTotalLeaveDaysByEmployeeAndYear(@Param("employeeId") Long employeeId, 
                                                 @Param("year") int year);
+
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:namespace, hashint8(:employeeId))) l", nativeQuery = true)
+    Integer lockRequests(@Param("namespace") int namespace, @Param("employeeId") Long employeeId);
+
+    /**
+     * Whether the employee has pending or approved leave on any day from
+     * {@code startDate} to {@code endDate}, inclusive; one index probe.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM leaves WHERE employee_id = :employeeId " +
+                   "AND status IN ('PENDING', 'APPROVED') AND period && daterange(:startDate, :endDate, '[]'))",
+           nativeQuery = true)
+    boolean existsActiveOverlap(@Param("employeeId") Long employeeId,
+                                @Param("startDate") LocalDate startDate,
+                                @Param("endDate") LocalDate endDate);
+
+    /**
+     * Approved, and optionally pending, leave of a department's employees
+     * overlapping the window, by start date.
+     */
+    @Query(value = "SELECT " + CALENDAR_COLUMNS + " FROM employees e JOIN leaves l ON l.employee_id = e.id " +
+                   "WHERE e.department_id = :departmentId AND " + ACTIVE_IN_WINDOW + " " +
+                   "ORDER BY l.start_date, e.id",
+           nativeQuery = true)
+    List<LeaveCalendarView> findDepartmentCalendar(@Param("departmentId") Long departmentId,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to,
+                                                   @Param("includePending") boolean includePending);
+
+    /**
+     * As {@link #findDepartmentCalendar}, for everyone reporting to the manager,
+     * directly or not.
+     */
+    @Query(value = "SELECT " + CALENDAR_COLUMNS + " FROM employee_hierarchy h " +
+                   "JOIN employees e ON e.id = h.descendant_id JOIN leaves l ON l.employee_id = e.id " +
+                   "WHERE h.ancestor_id = :managerId AND h.depth >= 1 AND " + ACTIVE_IN_WINDOW + " " +
+                   "ORDER BY l.start_date, e.id",
+           nativeQuery = true)
+    List<LeaveCalendarView> findTeamCalendar(@Param("managerId") Long managerId,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             @Param("includePending") boolean includePending);
+
+    /**
+     * As {@link #findDepartmentCalendar}, for the whole organization.
+     */
+    @Query(value = "SELECT " + CALENDAR_COLUMNS + " FROM leaves l JOIN employees e ON e.id = l.employee_id " +
+                   "WHERE " + ACTIVE_IN_WINDOW + " ORDER BY l.start_date, e.id",
+           nativeQuery = true)
+    List<LeaveCalendarView> findCalendar(@Param("from") LocalDate from,
+                                         @Param("to") LocalDate to,
+                                         @Param("includePending") boolean includePending);
 }
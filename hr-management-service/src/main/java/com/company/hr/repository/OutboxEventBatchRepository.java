@@ -0,0 +1,17 @@
+package com.company.hr.repository;
+
+import com.company.hr.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Bulk writes to the outbox, for changes that record many events at once.
+ */
+public interface OutboxEventBatchRepository {
+
+    /**
+     * Inserts the events in one JDBC batch, in list order, so they are relayed
+     * in that order. The events' IDs are not set.
+     */
+    void insertAll(List<OutboxEvent> events);
+}
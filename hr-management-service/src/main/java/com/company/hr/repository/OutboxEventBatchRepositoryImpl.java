@@ -0,0 +1,31 @@
+package com.company.hr.repository;
+
+import com.company.hr.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+class OutboxEventBatchRepositoryImpl implements OutboxEventBatchRepository {
+
+    private static final String INSERT =
+            "INSERT INTO outbox_events (topic, message_key, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (PreparedStatement ps, OutboxEvent event) -> {
+            ps.setString(1, event.getTopic());
+            ps.setString(2, event.getMessageKey());
+            ps.setBytes(3, event.getPayload());
+            ps.setTimestamp(4, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+}
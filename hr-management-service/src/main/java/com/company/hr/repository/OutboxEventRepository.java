@@ -0,0 +1,31 @@
+package com.company.hr.repository;
+
+import com.company.hr.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventBatchRepository {
+
+    /**
+     * Key of the transaction-scoped advisory lock held by the replica relaying
+     * the outbox, so events leave in the order they were written.
+     */
+    long RELAY_LOCK_KEY = "outbox_events".hashCode();
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLock(@Param("key") long key);
+
+    /**
+     * The oldest {@code limit} events, in the order they were written.
+     */
+    @Query(value = "SELECT * FROM outbox_events ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<OutboxEvent> findBatch(@Param("limit") int limit);
+
+    Optional<OutboxEvent> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,19 @@
+package com.company.hr.repository.projection;
+
+/**
+ * The fields the in-memory employee directory indexes.
+ */
+public interface EmployeeDirectoryView {
+
+    Long getId();
+
+    Long getVersion();
+
+    String getEmployeeId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+}
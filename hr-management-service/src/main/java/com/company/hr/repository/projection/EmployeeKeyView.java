@@ -0,0 +1,11 @@
+package com.company.hr.repository.projection;
+
+/**
+ * The two identifiers an employee is cached under.
+ */
+public interface EmployeeKeyView {
+
+    Long getId();
+
+    String getEmployeeId();
+}
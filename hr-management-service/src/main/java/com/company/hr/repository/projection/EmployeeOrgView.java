@@ -0,0 +1,19 @@
+package com.company.hr.repository.projection;
+
+/**
+ * An employee's place in the organization, for the in-memory org chart.
+ */
+public interface EmployeeOrgView {
+
+    Long getId();
+
+    String getEmployeeId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getJobTitle();
+
+    Long getManagerId();
+}
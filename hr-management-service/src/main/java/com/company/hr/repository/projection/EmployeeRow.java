@@ -0,0 +1,50 @@
+package com.company.hr.repository.projection;
+
+import com.company.hr.entity.Employee;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The columns {@code EmployeeDTO} is built from, selected with a JPQL constructor
+ * expression. Rows are plain objects: they are never managed, proxied or
+ * snapshotted for dirty checking, so list reads allocate only what they return.
+ */
+public record EmployeeRow(
+        Long id,
+        String employeeId,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        LocalDate dateOfBirth,
+        LocalDate hireDate,
+        Employee.EmploymentStatus status,
+        Employee.EmploymentType employmentType,
+        String jobTitle,
+        BigDecimal salary,
+        Long departmentId,
+        String departmentName,
+        Long managerId,
+        String managerFirstName,
+        String managerLastName,
+        String street,
+        String city,
+        String state,
+        String country,
+        String postalCode,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * Select list and joins producing an {@code EmployeeRow} per employee {@code e}.
+     */
+    public static final String SELECT_FROM_EMPLOYEE =
+            "SELECT new com.company.hr.repository.projection.EmployeeRow(" +
+            "e.id, e.employeeId, e.firstName, e.lastName, e.email, e.phoneNumber, e.dateOfBirth, e.hireDate, " +
+            "e.status, e.employmentType, e.jobTitle, e.salary, d.id, d.name, m.id, m.firstName, m.lastName, " +
+            "e.address.street, e.address.city, e.address.state, e.address.country, e.address.postalCode, " +
+            "e.createdAt, e.updatedAt) " +
+            "FROM Employee e LEFT JOIN e.department d LEFT JOIN e.manager m ";
+}
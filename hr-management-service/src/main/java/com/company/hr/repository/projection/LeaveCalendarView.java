@@ -0,0 +1,29 @@
+package com.company.hr.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * A pending or approved leave with the employee taking it, for leave calendars.
+ */
+public interface LeaveCalendarView {
+
+    Long getLeaveId();
+
+    Long getEmployeeId();
+
+    String getEmployeeNumber();
+
+    String getFirstName();
+
+    String getLastName();
+
+    Long getDepartmentId();
+
+    String getLeaveType();
+
+    String getStatus();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
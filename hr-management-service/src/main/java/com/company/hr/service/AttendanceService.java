@@ -0,0 +1,22 @@
+package com.company.hr.service;
+
+import com.company.hr.dto.AttendanceDTO;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public interface AttendanceService {
+
+    /**
+     * Records an employee's attendance for a day; each employee has at most one
+     * record per day.
+     */
+    AttendanceDTO recordAttendance(AttendanceDTO attendanceDTO);
+
+    AttendanceDTO checkOut(Long id, LocalTime checkOut);
+
+    AttendanceDTO getAttendanceById(Long id);
+
+    List<AttendanceDTO> getAttendanceByEmployee(Long employeeId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,117 @@
+package com.company.hr.service;
+
+import com.company.hr.dto.AttendanceDTO;
+import com.company.hr.entity.Attendance;
+import com.company.hr.entity.Employee;
+import com.company.hr.event.AttendanceEvent;
+import com.company.hr.event.BatchingEventPublisher;
+import com.company.hr.exception.DuplicateResourceException;
+import com.company.hr.exception.InvalidRequestException;
+import com.company.hr.exception.ResourceNotFoundException;
+import com.company.hr.mapper.AttendanceMapper;
+import com.company.hr.repository.AttendanceRepository;
+import com.company.hr.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AttendanceServiceImpl implements AttendanceService {
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final AttendanceRepository attendanceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AttendanceMapper attendanceMapper;
+    private final BatchingEventPublisher eventPublisher;
+    private final AttendanceSummaryService summaryService;
+
+    @Override
+    @Transactional
+    public AttendanceDTO recordAttendance(AttendanceDTO attendanceDTO) {
+        log.info("Recording attendance of employee {} on {}", attendanceDTO.getEmployeeId(), attendanceDTO.getDate());
+
+        Employee employee = employeeRepository.findById(attendanceDTO.getEmployeeId())
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + attendanceDTO.getEmployeeId()));
+
+        if (attendanceRepository.findByEmployeeIdAndDate(employee.getId(), attendanceDTO.getDate()).isPresent()) {
+            throw new DuplicateResourceException("Attendance of employee " + employee.getId() + " on "
+                    + attendanceDTO.getDate() + " already exists");
+        }
+
+        Attendance attendance = attendanceMapper.toEntity(attendanceDTO);
+        attendance.setEmployee(employee);
+        attendance.setWorkHours(workHours(attendance.getCheckIn(), attendance.getCheckOut()));
+
+        // Flushed so that the summary, recomputed in SQL, sees the change
+        Attendance savedAttendance = attendanceRepository.saveAndFlush(attendance);
+        summaryService.attendanceChanged(employee.getId(), savedAttendance.getDate());
+        publish(AttendanceEvent.Type.RECORDED, savedAttendance);
+
+        log.info("Attendance recorded successfully with ID: {}", savedAttendance.getId());
+        return attendanceMapper.toDTO(savedAttendance);
+    }
+
+    @Override
+    @Transactional
+    public AttendanceDTO checkOut(Long id, LocalTime checkOut) {
+        log.info("Recording check-out at {} for attendance: {}", checkOut, id);
+
+        Attendance attendance = attendanceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with id: " + id));
+        attendance.setCheckOut(checkOut);
+        attendance.setWorkHours(workHours(attendance.getCheckIn(), checkOut));
+
+        Attendance savedAttendance = attendanceRepository.saveAndFlush(attendance);
+        summaryService.attendanceChanged(savedAttendance.getEmployee().getId(), savedAttendance.getDate());
+        publish(AttendanceEvent.Type.CHECKED_OUT, savedAttendance);
+        return attendanceMapper.toDTO(savedAttendance);
+    }
+
+    @Override
+    public AttendanceDTO getAttendanceById(Long id) {
+        return attendanceRepository.findById(id)
+                .map(attendanceMapper::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with id: " + id));
+    }
+
+    @Override
+    public List<AttendanceDTO> getAttendanceByEmployee(Long employeeId, LocalDate from, LocalDate to) {
+        log.info("Fetching attendance of employee {} from {} to {}", employeeId, from, to);
+        if (to.isBefore(from)) {
+            throw new InvalidRequestException("The date range cannot end before it starts");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("The date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+        return attendanceMapper.toDTOList(attendanceRepository.findByEmployeeIdAndDateRange(employeeId, from, to));
+    }
+
+    private void publish(AttendanceEvent.Type type, Attendance attendance) {
+        eventPublisher.publish(AttendanceEvent.TOPIC, attendance.getEmployee().getId().toString(),
+                AttendanceEvent.of(type, attendance));
+    }
+
+    /**
+     * Whole hours worked, or null until the employee checks out.
+     */
+    private static Integer workHours(LocalTime checkIn, LocalTime checkOut) {
+        if (checkOut == null) {
+            return null;
+        }
+        if (checkOut.isBefore(checkIn)) {
+            throw new InvalidRequestException("Check-out at " + checkOut + " is before check-in at " + checkIn);
+        }
+        return (int) Duration.between(checkIn, checkOut).toHours();
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.hr.service;
+
+import com.company.hr.dto.MonthlyAttendanceDTO;
+import com.company.hr.entity.Leave;
+import com.company.hr.exception.ResourceNotFoundException;
+import com.company.hr.repository.AttendanceSummaryJdbcRepository;
+import com.company.hr.repository.AttendanceSummaryJdbcRepository.MonthKey;
+import com.company.hr.repository.DepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Attendance and approved leave per employee per month, from the
+ * {@code attendance_monthly_summary} table.
+ *
+ * The change methods must be called from the transaction that writes the
+ * attendance or leave, after the write, so the summary commits with it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceSummaryService {
+
+    private final AttendanceSummaryJdbcRepository summaryRepository;
+    private final DepartmentRepository departmentRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void attendanceChanged(Long employeeId, LocalDate date) {
+        summaryRepository.refresh(List.of(MonthKey.of(employeeId, date)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void attendanceChanged(Collection<MonthKey> months) {
+        summaryRepository.refresh(months);
+    }
+
+    /**
+     * Call when a leave becomes approved or stops being approved.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void leaveChanged(Leave leave) {
+        long employeeId = leave.getEmployee().getId();
+        List<MonthKey> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(leave.getStartDate()); !month.isAfter(YearMonth.from(leave.getEndDate()));
+             month = month.plusMonths(1)) {
+            months.add(new MonthKey(employeeId, month.atDay(1)));
+        }
+        summaryRepository.refresh(months);
+    }
+
+    /**
+     * Every employee of the department with their month, in one query.
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyAttendanceDTO> getDepartmentMonth(Long departmentId, YearMonth month) {
+        log.info("Fetching attendance summary of department {} for {}", departmentId, month);
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResourceNotFoundException("Department not found with id: " + departmentId);
+        }
+        return summaryRepository.findByDepartment(departmentId, month);
+    }
+
+    @Transactional(readOnly = true)
+    public MonthlyAttendanceDTO getEmployeeMonth(Long employeeId, YearMonth month) {
+        return summaryRepository.findByEmployee(employeeId, month)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + employeeId));
+    }
+}
@@ -0,0 +1,93 @@
+package com.company.hr.service;
+
+import com.company.common.export.CsvColumn;
+import com.company.common.export.ExportFormat;
+import com.company.common.export.RowWriter;
+import com.company.hr.dto.AddressDTO;
+import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.entity.Employee;
+import com.company.hr.mapper.EmployeeMapper;
+import com.company.hr.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams employees to an export file. Rows are read from a forward-only
+ * database cursor and written as they arrive; the persistence context is
+ * cleared and the output flushed after every fetch, so heap use does not grow
+ * with the number of employees.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeExportService {
+
+    private static final List<CsvColumn<EmployeeDTO>> CSV_COLUMNS = List.of(
+            new CsvColumn<>("id", EmployeeDTO::getId),
+            new CsvColumn<>("employeeId", EmployeeDTO::getEmployeeId),
+            new CsvColumn<>("firstName", EmployeeDTO::getFirstName),
+            new CsvColumn<>("lastName", EmployeeDTO::getLastName),
+            new CsvColumn<>("email", EmployeeDTO::getEmail),
+            new CsvColumn<>("phoneNumber", EmployeeDTO::getPhoneNumber),
+            new CsvColumn<>("dateOfBirth", EmployeeDTO::getDateOfBirth),
+            new CsvColumn<>("hireDate", EmployeeDTO::getHireDate),
+            new CsvColumn<>("status", EmployeeDTO::getStatus),
+            new CsvColumn<>("employmentType", EmployeeDTO::getEmploymentType),
+            new CsvColumn<>("jobTitle", EmployeeDTO::getJobTitle),
+            new CsvColumn<>("salary", EmployeeDTO::getSalary),
+            new CsvColumn<>("departmentId", EmployeeDTO::getDepartmentId),
+            new CsvColumn<>("departmentName", EmployeeDTO::getDepartmentName),
+            new CsvColumn<>("managerId", EmployeeDTO::getManagerId),
+            new CsvColumn<>("managerName", EmployeeDTO::getManagerName),
+            new CsvColumn<>("street", address(AddressDTO::getStreet)),
+            new CsvColumn<>("city", address(AddressDTO::getCity)),
+            new CsvColumn<>("state", address(AddressDTO::getState)),
+            new CsvColumn<>("country", address(AddressDTO::getCountry)),
+            new CsvColumn<>("postalCode", address(AddressDTO::getPostalCode)),
+            new CsvColumn<>("createdAt", EmployeeDTO::getCreatedAt),
+            new CsvColumn<>("updatedAt", EmployeeDTO::getUpdatedAt));
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Writes every employee, optionally limited to one department, in ID order.
+     *
+     * @return the number of employees written
+     */
+    @Transactional(readOnly = true)
+    public long exportEmployees(Long departmentId, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting employees as {} (department {})", format, departmentId);
+        long count = 0;
+        try (Stream<Employee> employees = employeeRepository.streamForExport(departmentId);
+             RowWriter<EmployeeDTO> writer = RowWriter.open(format, out, objectMapper, EmployeeDTO.class, CSV_COLUMNS)) {
+            Iterator<Employee> rows = employees.iterator();
+            while (rows.hasNext()) {
+                writer.write(employeeMapper.toDTO(rows.next()));
+                if (++count % EmployeeRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        log.info("Exported {} employees", count);
+        return count;
+    }
+
+    private static Function<EmployeeDTO, Object> address(Function<AddressDTO, Object> field) {
+        return employee -> employee.getAddress() != null ? field.apply(employee.getAddress()) : null;
+    }
+}
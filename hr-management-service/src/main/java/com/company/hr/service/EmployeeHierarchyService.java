@@ -0,0 +1,133 @@
+package com.company.hr.service;
+
+import com.company.hr.config.HierarchyProperties;
+import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.dto.OrgChartNodeDTO;
+import com.company.hr.entity.Employee;
+import com.company.hr.exception.InvalidHierarchyException;
+import com.company.hr.exception.ResourceNotFoundException;
+import com.company.hr.hierarchy.OrgChart;
+import com.company.hr.hierarchy.OrgChartCache;
+import com.company.hr.mapper.EmployeeMapper;
+import com.company.hr.repository.EmployeeHierarchyRepository;
+import com.company.hr.repository.EmployeeJdbcRepository;
+import com.company.hr.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * The reporting hierarchy beyond direct reports, backed by the
+ * {@code employee_hierarchy} closure table. Subtree and chain-of-command reads
+ * are one indexed query each; org charts are served from {@link OrgChartCache}.
+ *
+ * {@link #employeeCreated}, {@link #employeesCreated} and {@link #managerChanged}
+ * must be called from the transaction that writes the employee, so the closure
+ * table commits with it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeHierarchyService {
+
+    private final EmployeeHierarchyRepository hierarchyRepository;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final OrgChartCache orgChartCache;
+    private final HierarchyProperties properties;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void employeeCreated(Employee employee) {
+        Long managerId = employee.getManager() != null ? employee.getManager().getId() : null;
+        hierarchyRepository.lock(EmployeeHierarchyRepository.LOCK_KEY);
+        hierarchyRepository.insertPaths(employee.getId(), managerId);
+        orgChartCache.invalidate();
+    }
+
+    /**
+     * As {@link #employeeCreated}, for a batch of inserted employees in one round
+     * trip. A manager in the list must come before their reports.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void employeesCreated(List<Employee> employees) {
+        hierarchyRepository.lock(EmployeeHierarchyRepository.LOCK_KEY);
+        employeeJdbcRepository.insertHierarchyPaths(employees);
+        orgChartCache.invalidate();
+    }
+
+    /**
+     * Moves the employee, with everyone below it, under {@code managerId}.
+     *
+     * @throws InvalidHierarchyException if the new manager is the employee or one
+     *                                   of its reports
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void managerChanged(Long employeeId, Long managerId) {
+        hierarchyRepository.lock(EmployeeHierarchyRepository.LOCK_KEY);
+        if (hierarchyRepository.isInSubtree(employeeId, managerId)) {
+            throw new InvalidHierarchyException("Employee " + managerId + " reports to employee " + employeeId
+                    + " and cannot become its manager");
+        }
+        hierarchyRepository.detachSubtree(employeeId);
+        int links = hierarchyRepository.attachSubtree(employeeId, managerId);
+        log.debug("Moved employee {} under manager {} ({} reporting links)", employeeId, managerId, links);
+        orgChartCache.invalidate();
+    }
+
+    /**
+     * Drops the cached org chart once the current transaction commits, for changes
+     * it shows other than a new manager, such as names, job titles or deletions.
+     * Deleted employees leave the closure table through its foreign keys.
+     */
+    public void employeesChanged() {
+        orgChartCache.invalidate();
+    }
+
+    /**
+     * Everyone reporting to the employee, directly or not, down to {@code maxDepth}
+     * levels (all levels if null); nearest levels first. The pageable's sort is ignored.
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeDTO> getSubordinates(Long id, Integer maxDepth, Pageable pageable) {
+        log.info("Fetching subordinates of employee {} down to depth {}", id, maxDepth);
+        requireExists(id);
+        int depth = maxDepth != null ? Math.max(1, maxDepth) : Integer.MAX_VALUE;
+        Pageable unsorted = pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+        return hierarchyRepository.findSubordinates(id, depth, unsorted)
+                .map(employeeMapper::toDTO);
+    }
+
+    /**
+     * The employee's managers, from the direct manager up to the top of the organization.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getReportingChain(Long id) {
+        log.info("Fetching reporting chain of employee {}", id);
+        requireExists(id);
+        return employeeMapper.toDTOList(hierarchyRepository.findReportingChain(id));
+    }
+
+    public OrgChartNodeDTO getOrgChart(Long id, int depth) {
+        OrgChart chart = orgChartCache.get();
+        OrgChartNodeDTO node = chart.chart(id, Math.max(0, Math.min(depth, properties.getMaxChartDepth())),
+                properties.getMaxChartNodes());
+        if (node == null) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        return node;
+    }
+
+    private void requireExists(Long id) {
+        if (!employeeRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+    }
+}
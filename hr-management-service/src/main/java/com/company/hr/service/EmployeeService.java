@@ -1,9 +1,13 @@
 package com.company.hr.service;
 
+import com.company.common.dto.CursorPage;
 import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.dto.EmployeeSearchMode;
 import com.company.hr.entity.Employee;
+import com.company.hr.repository.EmployeeSortKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -17,8 +21,25 @@ public interface EmployeeService {
 
     EmployeeDTO getEmployeeByEmployeeId(String employeeId);
 
+    List<EmployeeDTO> getEmployeesByIds(List<Long> ids);
+
+    /**
+     * Returns up to {@code limit} employees with an ID greater than {@code afterId},
+     * in ID order, optionally filtered by department and status. Callers page through
+     * the whole table by passing the last ID they received.
+     */
+    List<EmployeeDTO> scanEmployees(Long afterId, Long departmentId, Employee.EmploymentStatus status, int limit);
+
     Page<EmployeeDTO> getAllEmployees(Pageable pageable);
 
+    /**
+     * Keyset-paged listing. Each page costs the same regardless of depth.
+     *
+     * @param cursor the previous page's {@code nextCursor}, or null for the first page
+     */
+    CursorPage<EmployeeDTO> getEmployeesPage(String cursor, EmployeeSortKey sortKey, Sort.Direction direction,
+                                             int size, CursorPage.TotalMode total);
+
     List<EmployeeDTO> getEmployeesByDepartment(Long departmentId);
 
     List<EmployeeDTO> getEmployeesByManager(Long managerId);
@@ -27,6 +48,15 @@ public interface EmployeeService {
 
     Page<EmployeeDTO> searchEmployees(String keyword, Pageable pageable);
 
+    /**
+     * Unsorted requests are ranked by match quality; an explicit sort on a
+     * {@link EmployeeSearchMode#CONTAINS} search is applied as given.
+     */
+    Page<EmployeeDTO> searchEmployees(String keyword, EmployeeSearchMode mode, Pageable pageable);
+
+    CursorPage<EmployeeDTO> searchEmployeesPage(String keyword, String cursor, EmployeeSortKey sortKey,
+                                                Sort.Direction direction, int size, CursorPage.TotalMode total);
+
     void deleteEmployee(Long id);
 
     boolean existsByEmail(String email);
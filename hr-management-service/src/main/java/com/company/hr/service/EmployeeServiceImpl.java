@@ -1,6 +1,14 @@
 package com.company.hr.service;
 
+import com.company.common.dto.CursorPage;
+import com.company.common.repository.KeysetCursor;
+import com.company.events.employee.EmployeeField;
+import com.company.hr.cache.CacheNames;
+import com.company.hr.cache.EmployeeBatchCache;
+import com.company.hr.cache.EmployeeCacheEvictor;
+import com.company.hr.directory.EmployeeDirectory;
 import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.dto.EmployeeSearchMode;
 import com.company.hr.entity.Department;
 import com.company.hr.entity.Employee;
 import com.company.hr.event.EmployeeEventPublisher;
@@ -9,16 +17,26 @@ import com.company.hr.exception.DuplicateResourceException;
 import com.company.hr.mapper.EmployeeMapper;
 import com.company.hr.repository.DepartmentRepository;
 import com.company.hr.repository.EmployeeRepository;
+import com.company.hr.repository.EmployeeSortKey;
+import com.company.hr.repository.projection.EmployeeKeyView;
+import com.company.hr.repository.projection.EmployeeRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -30,10 +48,13 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final DepartmentRepository departmentRepository;
     private final EmployeeMapper employeeMapper;
     private final EmployeeEventPublisher eventPublisher;
+    private final EmployeeCacheEvictor cacheEvictor;
+    private final EmployeeBatchCache employeeBatchCache;
+    private final EmployeeDirectory employeeDirectory;
+    private final EmployeeHierarchyService hierarchyService;
 
     @Override
     @Transactional
-    @CacheEvict(value = "employees", allEntries = true)
     public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) {
         log.info("Creating new employee with ID: {}", employeeDTO.getEmployeeId());
 
@@ -60,6 +81,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
 
         Employee savedEmployee = employeeRepository.save(employee);
+        hierarchyService.employeeCreated(savedEmployee);
+        employeeDirectory.upsert(savedEmployee);
         
         // Publish event
         eventPublisher.publishEmployeeCreatedEvent(savedEmployee);
@@ -70,11 +93,10 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "employees", allEntries = true)
     public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO) {
         log.info("Updating employee with ID: {}", id);
 
-        Employee existingEmployee = employeeRepository.findById(id)
+        Employee existingEmployee = employeeRepository.findWithDepartmentAndManagerById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
 
         // Check for duplicate email if email is being changed
@@ -83,6 +105,11 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new DuplicateResourceException("Employee with email " + employeeDTO.getEmail() + " already exists");
         }
 
+        String previousEmployeeId = existingEmployee.getEmployeeId();
+        String previousName = existingEmployee.getFirstName() + " " + existingEmployee.getLastName();
+        Long previousManagerId = existingEmployee.getManager() != null ? existingEmployee.getManager().getId() : null;
+        Map<EmployeeField, Object> previousState = eventPublisher.snapshot(existingEmployee);
+
         employeeMapper.updateEntityFromDTO(employeeDTO, existingEmployee);
 
         if (employeeDTO.getDepartmentId() != null) {
@@ -95,28 +122,45 @@ public class EmployeeServiceImpl implements EmployeeService {
             Employee manager = employeeRepository.findById(employeeDTO.getManagerId())
                     .orElseThrow(() -> new ResourceNotFoundException("Manager not found with id: " + employeeDTO.getManagerId()));
             existingEmployee.setManager(manager);
+            if (!Objects.equals(previousManagerId, manager.getId())) {
+                hierarchyService.managerChanged(id, manager.getId());
+            }
         }
 
-        Employee updatedEmployee = employeeRepository.save(existingEmployee);
+        // Flushed so that the event carries the incremented version
+        Employee updatedEmployee = employeeRepository.saveAndFlush(existingEmployee);
+
+        cacheEvictor.evict(id, previousEmployeeId, updatedEmployee.getEmployeeId());
+        employeeDirectory.upsert(updatedEmployee);
+        hierarchyService.employeesChanged();
+
+        // Direct reports carry this employee's name as their managerName
+        String updatedName = updatedEmployee.getFirstName() + " " + updatedEmployee.getLastName();
+        if (!Objects.equals(previousName, updatedName)) {
+            List<EmployeeKeyView> directReports = employeeRepository.findKeysByManagerId(id);
+            cacheEvictor.evictAll(
+                    directReports.stream().map(EmployeeKeyView::getId).toList(),
+                    directReports.stream().map(EmployeeKeyView::getEmployeeId).toList());
+        }
         
         // Publish event
-        eventPublisher.publishEmployeeUpdatedEvent(updatedEmployee);
+        eventPublisher.publishEmployeeUpdatedEvent(previousState, updatedEmployee);
         
         log.info("Employee updated successfully with ID: {}", updatedEmployee.getId());
         return employeeMapper.toDTO(updatedEmployee);
     }
 
     @Override
-    @Cacheable(value = "employees", key = "#id")
+    @Cacheable(value = CacheNames.EMPLOYEES, key = "#id", sync = true)
     public EmployeeDTO getEmployeeById(Long id) {
         log.info("Fetching employee with ID: {}", id);
-        Employee employee = employeeRepository.findById(id)
+        Employee employee = employeeRepository.findWithDepartmentAndManagerById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         return employeeMapper.toDTO(employee);
     }
 
     @Override
-    @Cacheable(value = "employees", key = "#employeeId")
+    @Cacheable(value = CacheNames.EMPLOYEES_BY_EMPLOYEE_ID, key = "#employeeId", sync = true)
     public EmployeeDTO getEmployeeByEmployeeId(String employeeId) {
         log.info("Fetching employee with employee ID: {}", employeeId);
         Employee employee = employeeRepository.findByEmployeeId(employeeId)
@@ -124,18 +168,53 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employeeMapper.toDTO(employee);
     }
 
+    @Override
+    public List<EmployeeDTO> getEmployeesByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        log.info("Fetching {} employees by ID", distinctIds.size());
+
+        Map<Long, EmployeeDTO> employees = employeeBatchCache.getAll(distinctIds);
+        List<Long> missingIds = distinctIds.stream().filter(id -> !employees.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            List<EmployeeDTO> loaded = employeeMapper.toDTOList(
+                    employeeRepository.findAllWithDepartmentAndManagerByIdIn(missingIds));
+            loaded.forEach(employee -> employees.put(employee.getId(), employee));
+            employeeBatchCache.putAll(loaded);
+        }
+
+        log.debug("Employee batch of {}: {} from cache, {} from database",
+                distinctIds.size(), distinctIds.size() - missingIds.size(), missingIds.size());
+        return distinctIds.stream()
+                .map(employees::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<EmployeeDTO> scanEmployees(Long afterId, Long departmentId, Employee.EmploymentStatus status, int limit) {
+        log.debug("Scanning up to {} employees after ID {} (department {}, status {})", limit, afterId, departmentId, status);
+        return employeeMapper.toDTOList(
+                employeeRepository.scanAfterId(afterId, departmentId, status, Limit.of(limit)));
+    }
+
     @Override
     public Page<EmployeeDTO> getAllEmployees(Pageable pageable) {
         log.info("Fetching all employees with pagination");
-        return employeeRepository.findAll(pageable)
+        return employeeRepository.findAllRows(pageable)
                 .map(employeeMapper::toDTO);
     }
 
+    @Override
+    public CursorPage<EmployeeDTO> getEmployeesPage(String cursor, EmployeeSortKey sortKey, Sort.Direction direction,
+                                                    int size, CursorPage.TotalMode total) {
+        log.info("Fetching employees by {} {} after cursor", sortKey, direction);
+        return seekPage(null, cursor, sortKey, direction, size, total);
+    }
+
     @Override
     public List<EmployeeDTO> getEmployeesByDepartment(Long departmentId) {
         log.info("Fetching employees for department ID: {}", departmentId);
-        List<Employee> employees = employeeRepository.findByDepartmentId(departmentId);
-        return employeeMapper.toDTOList(employees);
+        return employeeMapper.rowsToDTOList(employeeRepository.findRowsByDepartmentId(departmentId));
     }
 
     @Override
@@ -148,20 +227,35 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     public List<EmployeeDTO> getEmployeesByStatus(Employee.EmploymentStatus status) {
         log.info("Fetching employees with status: {}", status);
-        List<Employee> employees = employeeRepository.findByStatus(status);
-        return employeeMapper.toDTOList(employees);
+        return employeeMapper.rowsToDTOList(employeeRepository.findRowsByStatus(status));
     }
 
     @Override
     public Page<EmployeeDTO> searchEmployees(String keyword, Pageable pageable) {
-        log.info("Searching employees with keyword: {}", keyword);
-        return employeeRepository.searchEmployees(keyword, pageable)
-                .map(employeeMapper::toDTO);
+        return searchEmployees(keyword, EmployeeSearchMode.CONTAINS, pageable);
+    }
+
+    @Override
+    public Page<EmployeeDTO> searchEmployees(String keyword, EmployeeSearchMode mode, Pageable pageable) {
+        log.info("Searching employees with keyword: {} ({})", keyword, mode);
+        if (mode != EmployeeSearchMode.PREFIX && pageable.getSort().isSorted()) {
+            return employeeRepository.searchRows(keyword, pageable).map(employeeMapper::toDTO);
+        }
+        Page<Long> ids = mode == EmployeeSearchMode.PREFIX
+                ? employeeRepository.searchEmployeeIdsByPrefix(keyword, unsorted(pageable))
+                : employeeRepository.searchEmployeeIdsRanked(keyword, pageable);
+        return inIdOrder(ids);
+    }
+
+    @Override
+    public CursorPage<EmployeeDTO> searchEmployeesPage(String keyword, String cursor, EmployeeSortKey sortKey,
+                                                       Sort.Direction direction, int size, CursorPage.TotalMode total) {
+        log.info("Searching employees with keyword: {} by {} {} after cursor", keyword, sortKey, direction);
+        return seekPage(keyword, cursor, sortKey, direction, size, total);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "employees", allEntries = true)
     public void deleteEmployee(Long id) {
         log.info("Deleting employee with ID: {}", id);
         Employee employee = employeeRepository.findById(id)
@@ -169,8 +263,16 @@ public class EmployeeServiceImpl implements EmployeeService {
         
         // Publish event before deletion
         eventPublisher.publishEmployeeDeletedEvent(employee);
+
+        // Subordinates are removed by cascade, so their entries go too
+        List<Long> evictedIds = new ArrayList<>();
+        List<String> evictedEmployeeIds = new ArrayList<>();
+        collectCascadedKeys(employee, evictedIds, evictedEmployeeIds);
         
         employeeRepository.delete(employee);
+        cacheEvictor.evictAll(evictedIds, evictedEmployeeIds);
+        employeeDirectory.removeAll(evictedIds);
+        hierarchyService.employeesChanged();
         log.info("Employee deleted successfully with ID: {}", id);
     }
 
@@ -183,4 +285,76 @@ public class EmployeeServiceImpl implements EmployeeService {
     public boolean existsByEmployeeId(String employeeId) {
         return employeeRepository.existsByEmployeeId(employeeId);
     }
+
+    private void collectCascadedKeys(Employee employee, List<Long> ids, List<String> employeeIds) {
+        ids.add(employee.getId());
+        employeeIds.add(employee.getEmployeeId());
+        for (Employee subordinate : employee.getSubordinates()) {
+            collectCascadedKeys(subordinate, ids, employeeIds);
+        }
+    }
+
+    /**
+     * Loads the rows for a page of ranked IDs, keeping the ranking.
+     */
+    private Page<EmployeeDTO> inIdOrder(Page<Long> ids) {
+        Map<Long, EmployeeRow> rows = new HashMap<>();
+        if (ids.hasContent()) {
+            for (EmployeeRow row : employeeRepository.findRowsByIdIn(ids.getContent())) {
+                rows.put(row.id(), row);
+            }
+        }
+        // An employee deleted between the two queries is left out
+        List<EmployeeDTO> content = ids.getContent().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(employeeMapper::toDTO)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+
+    private static Pageable unsorted(Pageable pageable) {
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+    }
+
+    private CursorPage<EmployeeDTO> seekPage(String keyword, String cursor, EmployeeSortKey sortKey,
+                                             Sort.Direction direction, int size, CursorPage.TotalMode total) {
+        KeysetCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = KeysetCursor.decode(cursor, sortKey, direction);
+        }
+
+        // One extra row tells whether another page follows without counting
+        List<Employee> rows = employeeRepository.findPage(keyword, sortKey, direction, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Employee> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Employee last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(sortKey.name(), direction, last.getId(), sortKey.valueOf(last)).encode();
+        }
+
+        CursorPage<EmployeeDTO> result = CursorPage.<EmployeeDTO>builder()
+                .content(employeeMapper.toDTOList(page))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+
+        if (total == CursorPage.TotalMode.ESTIMATE && keyword == null) {
+            long estimate = employeeRepository.estimateCount();
+            if (estimate >= 0) {
+                result.setTotalElements(estimate);
+                result.setTotalEstimated(true);
+                return result;
+            }
+        }
+        if (total != CursorPage.TotalMode.NONE) {
+            result.setTotalElements(keyword == null
+                    ? employeeRepository.count()
+                    : employeeRepository.countSearchEmployees(keyword));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,39 @@
+package com.company.hr.service;
+
+import com.company.hr.dto.LeaveCalendarEntryDTO;
+import com.company.hr.dto.LeaveDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LeaveService {
+
+    /**
+     * Records a pending leave request. The number of days is computed from the
+     * dates, counting Monday to Friday only.
+     */
+    LeaveDTO applyForLeave(LeaveDTO leaveDTO);
+
+    LeaveDTO approveLeave(Long id, Long approverId, String comments);
+
+    LeaveDTO rejectLeave(Long id, Long approverId, String comments);
+
+    /**
+     * Withdraws a pending or approved leave.
+     */
+    LeaveDTO cancelLeave(Long id);
+
+    LeaveDTO getLeaveById(Long id);
+
+    Page<LeaveDTO> getLeavesByEmployee(Long employeeId, Pageable pageable);
+
+    /**
+     * Approved, and optionally pending, leave overlapping {@code from} to
+     * {@code to}, inclusive, by start date: of a department, of everyone
+     * reporting to a manager, or of the whole organization when neither is given.
+     */
+    List<LeaveCalendarEntryDTO> getLeaveCalendar(Long departmentId, Long managerId,
+                                                 LocalDate from, LocalDate to, boolean includePending);
+}
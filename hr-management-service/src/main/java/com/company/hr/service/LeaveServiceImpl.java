@@ -0,0 +1,225 @@
+package com.company.hr.service;
+
+import com.company.hr.dto.LeaveCalendarEntryDTO;
+import com.company.hr.dto.LeaveDTO;
+import com.company.hr.entity.Employee;
+import com.company.hr.entity.Leave;
+import com.company.hr.event.BatchingEventPublisher;
+import com.company.hr.event.LeaveEvent;
+import com.company.hr.exception.InvalidRequestException;
+import com.company.hr.exception.LeaveConflictException;
+import com.company.hr.exception.ResourceNotFoundException;
+import com.company.hr.mapper.LeaveMapper;
+import com.company.hr.repository.DepartmentRepository;
+import com.company.hr.repository.EmployeeRepository;
+import com.company.hr.repository.LeaveRepository;
+import com.company.hr.repository.projection.LeaveCalendarView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class LeaveServiceImpl implements LeaveService {
+
+    private static final Set<Leave.LeaveStatus> ACTIVE_STATUSES = EnumSet.of(Leave.LeaveStatus.PENDING, Leave.LeaveStatus.APPROVED);
+    private static final long MAX_CALENDAR_DAYS = 93;
+
+    private final LeaveRepository leaveRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final LeaveMapper leaveMapper;
+    private final BatchingEventPublisher eventPublisher;
+    private final AttendanceSummaryService summaryService;
+
+    @Override
+    @Transactional
+    public LeaveDTO applyForLeave(LeaveDTO leaveDTO) {
+        log.info("Recording leave request for employee: {}", leaveDTO.getEmployeeId());
+
+        if (leaveDTO.getEndDate().isBefore(leaveDTO.getStartDate())) {
+            throw new InvalidRequestException("Leave cannot end before it starts");
+        }
+        int days = workingDays(leaveDTO.getStartDate(), leaveDTO.getEndDate());
+        if (days == 0) {
+            throw new InvalidRequestException("Leave from " + leaveDTO.getStartDate() + " to " + leaveDTO.getEndDate()
+                    + " covers no working days");
+        }
+
+        Employee employee = employeeRepository.findById(leaveDTO.getEmployeeId())
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + leaveDTO.getEmployeeId()));
+
+        // Serializes requests of the employee until commit, so two overlapping ones cannot both pass the check
+        leaveRepository.lockRequests(LeaveRepository.REQUEST_LOCK_NAMESPACE, employee.getId());
+        if (leaveRepository.existsActiveOverlap(employee.getId(), leaveDTO.getStartDate(), leaveDTO.getEndDate())) {
+            throw new LeaveConflictException("Employee " + employee.getId() + " already has leave between "
+                    + leaveDTO.getStartDate() + " and " + leaveDTO.getEndDate());
+        }
+
+        Leave leave = leaveMapper.toEntity(leaveDTO);
+        leave.setEmployee(employee);
+        leave.setNumberOfDays(days);
+        leave.setStatus(Leave.LeaveStatus.PENDING);
+
+        Leave savedLeave = leaveRepository.save(leave);
+        publish(LeaveEvent.Type.REQUESTED, savedLeave);
+
+        log.info("Leave request created successfully with ID: {}", savedLeave.getId());
+        return leaveMapper.toDTO(savedLeave);
+    }
+
+    @Override
+    @Transactional
+    public LeaveDTO approveLeave(Long id, Long approverId, String comments) {
+        return decide(id, approverId, comments, Leave.LeaveStatus.APPROVED, LeaveEvent.Type.APPROVED);
+    }
+
+    @Override
+    @Transactional
+    public LeaveDTO rejectLeave(Long id, Long approverId, String comments) {
+        return decide(id, approverId, comments, Leave.LeaveStatus.REJECTED, LeaveEvent.Type.REJECTED);
+    }
+
+    @Override
+    @Transactional
+    public LeaveDTO cancelLeave(Long id) {
+        log.info("Cancelling leave with ID: {}", id);
+
+        Leave leave = findLeave(id);
+        if (!ACTIVE_STATUSES.contains(leave.getStatus())) {
+            throw new LeaveConflictException("Leave " + id + " is " + leave.getStatus() + " and cannot be cancelled");
+        }
+        boolean wasApproved = leave.getStatus() == Leave.LeaveStatus.APPROVED;
+        leave.setStatus(Leave.LeaveStatus.CANCELLED);
+
+        Leave savedLeave = leaveRepository.saveAndFlush(leave);
+        if (wasApproved) {
+            summaryService.leaveChanged(savedLeave);
+        }
+        publish(LeaveEvent.Type.CANCELLED, savedLeave);
+        return leaveMapper.toDTO(savedLeave);
+    }
+
+    @Override
+    public LeaveDTO getLeaveById(Long id) {
+        return leaveMapper.toDTO(findLeave(id));
+    }
+
+    @Override
+    public Page<LeaveDTO> getLeavesByEmployee(Long employeeId, Pageable pageable) {
+        log.info("Fetching leaves of employee: {}", employeeId);
+        return leaveRepository.findByEmployeeId(employeeId, pageable)
+                .map(leaveMapper::toDTO);
+    }
+
+    @Override
+    public List<LeaveCalendarEntryDTO> getLeaveCalendar(Long departmentId, Long managerId,
+                                                        LocalDate from, LocalDate to, boolean includePending) {
+        log.info("Fetching leave calendar from {} to {} of department {}, manager {}", from, to, departmentId, managerId);
+        if (departmentId != null && managerId != null) {
+            throw new InvalidRequestException("Filter the calendar by department or by manager, not both");
+        }
+        if (to.isBefore(from)) {
+            throw new InvalidRequestException("The date range cannot end before it starts");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new InvalidRequestException("The date range cannot exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+
+        List<LeaveCalendarView> leaves;
+        if (departmentId != null) {
+            if (!departmentRepository.existsById(departmentId)) {
+                throw new ResourceNotFoundException("Department not found with id: " + departmentId);
+            }
+            leaves = leaveRepository.findDepartmentCalendar(departmentId, from, to, includePending);
+        } else if (managerId != null) {
+            if (!employeeRepository.existsById(managerId)) {
+                throw new ResourceNotFoundException("Employee not found with id: " + managerId);
+            }
+            leaves = leaveRepository.findTeamCalendar(managerId, from, to, includePending);
+        } else {
+            leaves = leaveRepository.findCalendar(from, to, includePending);
+        }
+        return leaves.stream().map(LeaveServiceImpl::toCalendarEntry).toList();
+    }
+
+    private LeaveDTO decide(Long id, Long approverId, String comments,
+                            Leave.LeaveStatus decision, LeaveEvent.Type eventType) {
+        log.info("Marking leave {} as {} by employee: {}", id, decision, approverId);
+
+        Leave leave = findLeave(id);
+        if (leave.getStatus() != Leave.LeaveStatus.PENDING) {
+            throw new LeaveConflictException("Leave " + id + " is " + leave.getStatus() + ", only pending leave can be "
+                    + decision.name().toLowerCase());
+        }
+        if (leave.getEmployee().getId().equals(approverId)) {
+            throw new InvalidRequestException("Employees cannot decide on their own leave");
+        }
+        Employee approver = employeeRepository.findById(approverId)
+                .orElseThrow(() -> new ResourceNotFoundException("Approver not found with id: " + approverId));
+
+        leave.setStatus(decision);
+        leave.setApprovedBy(approver);
+        leave.setApprovedAt(LocalDateTime.now());
+        leave.setApproverComments(comments);
+
+        // Flushed so that the summary, recomputed in SQL, sees the change
+        Leave savedLeave = leaveRepository.saveAndFlush(leave);
+        if (decision == Leave.LeaveStatus.APPROVED) {
+            summaryService.leaveChanged(savedLeave);
+        }
+        publish(eventType, savedLeave);
+        return leaveMapper.toDTO(savedLeave);
+    }
+
+    private Leave findLeave(Long id) {
+        return leaveRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Leave not found with id: " + id));
+    }
+
+    private void publish(LeaveEvent.Type type, Leave leave) {
+        eventPublisher.publish(LeaveEvent.TOPIC, leave.getEmployee().getId().toString(), LeaveEvent.of(type, leave));
+    }
+
+    private static LeaveCalendarEntryDTO toCalendarEntry(LeaveCalendarView leave) {
+        return LeaveCalendarEntryDTO.builder()
+                .leaveId(leave.getLeaveId())
+                .employeeId(leave.getEmployeeId())
+                .employeeNumber(leave.getEmployeeNumber())
+                .employeeName(leave.getFirstName() + " " + leave.getLastName())
+                .departmentId(leave.getDepartmentId())
+                .leaveType(Leave.LeaveType.valueOf(leave.getLeaveType()))
+                .status(Leave.LeaveStatus.valueOf(leave.getStatus()))
+                .startDate(leave.getStartDate())
+                .endDate(leave.getEndDate())
+                .build();
+    }
+
+    /**
+     * Days from {@code start} to {@code end} inclusive, not counting weekends.
+     */
+    static int workingDays(LocalDate start, LocalDate end) {
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        long weeks = days / 7;
+        int count = (int) (weeks * 5);
+        for (LocalDate day = start.plusWeeks(weeks); !day.isAfter(end); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
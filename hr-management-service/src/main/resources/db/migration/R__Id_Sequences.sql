@@ -0,0 +1,29 @@
+-- R__Id_Sequences.sql
+
+-- Entity IDs come from the BIGSERIAL sequences through Hibernate's pooled optimizer:
+-- each nextval hands out the block (value - increment, value], so a batch of inserts
+-- needs one sequence call per block instead of one IDENTITY round trip per row.
+-- The increment is spring.flyway.placeholders.id-allocation-size, and this script runs
+-- again whenever it changes. Change it only with every instance stopped: instances
+-- still using the old block size would hand out overlapping IDs.
+--
+-- outbox_events keeps IDENTITY, since the relay publishes in ID order.
+--
+-- setval leaves each sequence at or above the highest existing ID, and marks it as
+-- called, so the next block starts above every row already inserted.
+
+ALTER SEQUENCE departments_id_seq INCREMENT BY ${id-allocation-size};
+SELECT setval('departments_id_seq', GREATEST((SELECT last_value FROM departments_id_seq),
+                                             (SELECT COALESCE(MAX(id), 0) FROM departments), 1));
+
+ALTER SEQUENCE employees_id_seq INCREMENT BY ${id-allocation-size};
+SELECT setval('employees_id_seq', GREATEST((SELECT last_value FROM employees_id_seq),
+                                           (SELECT COALESCE(MAX(id), 0) FROM employees), 1));
+
+ALTER SEQUENCE leaves_id_seq INCREMENT BY ${id-allocation-size};
+SELECT setval('leaves_id_seq', GREATEST((SELECT last_value FROM leaves_id_seq),
+                                        (SELECT COALESCE(MAX(id), 0) FROM leaves), 1));
+
+ALTER SEQUENCE attendances_id_seq INCREMENT BY ${id-allocation-size};
+SELECT setval('attendances_id_seq', GREATEST((SELECT last_value FROM attendances_id_seq),
+                                             (SELECT COALESCE(MAX(id), 0) FROM attendances), 1));
@@ -0,0 +1,5 @@
+-- V2__Keyset_Indexes.sql
+
+-- Seek indexes for keyset-paged employee listings: sort key, then ID as tie-breaker
+CREATE INDEX idx_employee_last_name_id ON employees(last_name, id);
+CREATE INDEX idx_employee_hire_date_id ON employees(hire_date, id);
@@ -0,0 +1,17 @@
+-- V3__Employee_Search_Indexes.sql
+
+-- Employee search matches LOWER(column) LIKE '%keyword%' on four columns. Trigram
+-- GIN indexes serve those substring matches, combined by a bitmap OR.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_employee_first_name_trgm ON employees USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_employee_last_name_trgm ON employees USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX idx_employee_email_trgm ON employees USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX idx_employee_employee_id_trgm ON employees USING gin (lower(employee_id) gin_trgm_ops);
+
+-- Prefix (typeahead) search: LIKE 'keyword%' as a btree range scan, which also
+-- covers keywords shorter than a trigram
+CREATE INDEX idx_employee_first_name_prefix ON employees (lower(first_name) text_pattern_ops);
+CREATE INDEX idx_employee_last_name_prefix ON employees (lower(last_name) text_pattern_ops);
+CREATE INDEX idx_employee_email_prefix ON employees (lower(email) text_pattern_ops);
+CREATE INDEX idx_employee_employee_id_prefix ON employees (lower(employee_id) text_pattern_ops);
@@ -0,0 +1,33 @@
+-- V4__Employee_Hierarchy.sql
+
+-- Closure table of the reporting hierarchy: one row per (manager, report) pair at
+-- any distance, plus a depth-0 row per employee. Subtree and chain-of-command
+-- queries become a single indexed lookup instead of one query per level.
+CREATE TABLE employee_hierarchy (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES employees(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+-- Subtree, optionally depth-limited
+CREATE INDEX idx_hierarchy_ancestor_depth ON employee_hierarchy(ancestor_id, depth, descendant_id);
+-- Chain of command, nearest manager first
+CREATE INDEX idx_hierarchy_descendant_depth ON employee_hierarchy(descendant_id, depth, ancestor_id);
+
+-- Backfill from manager_id. Manager cycles, which were not prevented before this
+-- migration, are cut off at 100 levels instead of failing it.
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM employees
+    UNION ALL
+    SELECT e.manager_id, p.descendant_id, p.depth + 1
+    FROM paths p
+    JOIN employees e ON e.id = p.ancestor_id
+    WHERE e.manager_id IS NOT NULL AND p.depth < 100
+)
+INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth)
+SELECT ancestor_id, descendant_id, MIN(depth)
+FROM paths
+GROUP BY ancestor_id, descendant_id;
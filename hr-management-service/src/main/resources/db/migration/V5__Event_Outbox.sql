@@ -0,0 +1,12 @@
+-- V5__Event_Outbox.sql
+
+-- Events waiting to be published to Kafka. Rows are written in the same
+-- transaction as the change they describe and deleted by the relay once the
+-- broker has acknowledged them, so the table is normally close to empty.
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100),
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,4 @@
+-- V6__Binary_Outbox_Payload.sql
+
+-- Employee events are now encoded in binary (employee-events module)
+ALTER TABLE outbox_events ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
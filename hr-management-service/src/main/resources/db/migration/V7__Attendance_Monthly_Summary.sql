@@ -0,0 +1,99 @@
+-- V7__Attendance_Monthly_Summary.sql
+
+-- Attendance and approved leave per employee per calendar month, kept current by
+-- every attendance and leave write, so a department's month is one indexed read.
+CREATE TABLE attendance_monthly_summary (
+    employee_id BIGINT NOT NULL,
+    month DATE NOT NULL,
+    present_days INT NOT NULL DEFAULT 0,
+    absent_days INT NOT NULL DEFAULT 0,
+    late_days INT NOT NULL DEFAULT 0,
+    half_days INT NOT NULL DEFAULT 0,
+    work_from_home_days INT NOT NULL DEFAULT 0,
+    on_leave_days INT NOT NULL DEFAULT 0,
+    work_hours INT NOT NULL DEFAULT 0,
+    approved_leave_days INT NOT NULL DEFAULT 0,
+    unpaid_leave_days INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (employee_id, month),
+    FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE,
+    CHECK (month = date_trunc('month', month)::date)
+);
+
+CREATE INDEX idx_attendance_summary_month ON attendance_monthly_summary(month, employee_id);
+
+-- Recomputes the given (employee, first day of month) pairs from attendances and
+-- approved leaves; leave days count Monday to Friday only. Rows are locked before
+-- they are recomputed, so with concurrent writers the last one to take the lock
+-- also sees the others' committed changes.
+CREATE FUNCTION refresh_attendance_monthly_summary(p_employee_ids BIGINT[], p_months DATE[])
+RETURNS INTEGER AS $$
+DECLARE
+    refreshed INTEGER;
+BEGIN
+    INSERT INTO attendance_monthly_summary (employee_id, month)
+    SELECT k.employee_id, k.month
+    FROM unnest(p_employee_ids, p_months) AS k(employee_id, month)
+    GROUP BY k.employee_id, k.month
+    ORDER BY k.employee_id, k.month
+    ON CONFLICT (employee_id, month) DO UPDATE SET updated_at = EXCLUDED.updated_at;
+
+    WITH keys AS (
+        SELECT DISTINCT k.employee_id, k.month
+        FROM unnest(p_employee_ids, p_months) AS k(employee_id, month)
+    ),
+    attendance_days AS (
+        SELECT k.employee_id, k.month,
+               COUNT(a.id) FILTER (WHERE a.status = 'PRESENT') AS present_days,
+               COUNT(a.id) FILTER (WHERE a.status = 'ABSENT') AS absent_days,
+               COUNT(a.id) FILTER (WHERE a.status = 'LATE') AS late_days,
+               COUNT(a.id) FILTER (WHERE a.status = 'HALF_DAY') AS half_days,
+               COUNT(a.id) FILTER (WHERE a.status = 'WORK_FROM_HOME') AS work_from_home_days,
+               COUNT(a.id) FILTER (WHERE a.status = 'ON_LEAVE') AS on_leave_days,
+               COALESCE(SUM(a.work_hours), 0) AS work_hours
+        FROM keys k
+        LEFT JOIN attendances a ON a.employee_id = k.employee_id
+            AND a.date >= k.month AND a.date < (k.month + INTERVAL '1 month')::date
+        GROUP BY k.employee_id, k.month
+    ),
+    leave_days AS (
+        SELECT k.employee_id, k.month,
+               COUNT(d.day) AS approved_leave_days,
+               COUNT(d.day) FILTER (WHERE l.leave_type = 'UNPAID') AS unpaid_leave_days
+        FROM keys k
+        LEFT JOIN leaves l ON l.employee_id = k.employee_id AND l.status = 'APPROVED'
+            AND l.start_date < (k.month + INTERVAL '1 month')::date AND l.end_date >= k.month
+        LEFT JOIN LATERAL generate_series(GREATEST(l.start_date, k.month),
+                LEAST(l.end_date, (k.month + INTERVAL '1 month - 1 day')::date), INTERVAL '1 day') AS d(day)
+            ON EXTRACT(ISODOW FROM d.day) < 6
+        GROUP BY k.employee_id, k.month
+    )
+    UPDATE attendance_monthly_summary s SET
+        present_days = a.present_days,
+        absent_days = a.absent_days,
+        late_days = a.late_days,
+        half_days = a.half_days,
+        work_from_home_days = a.work_from_home_days,
+        on_leave_days = a.on_leave_days,
+        work_hours = a.work_hours,
+        approved_leave_days = l.approved_leave_days,
+        unpaid_leave_days = l.unpaid_leave_days,
+        updated_at = CURRENT_TIMESTAMP
+    FROM attendance_days a
+    JOIN leave_days l ON l.employee_id = a.employee_id AND l.month = a.month
+    WHERE s.employee_id = a.employee_id AND s.month = a.month;
+
+    GET DIAGNOSTICS refreshed = ROW_COUNT;
+    RETURN refreshed;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill from history
+SELECT refresh_attendance_monthly_summary(array_agg(employee_id), array_agg(month))
+FROM (
+    SELECT employee_id, date_trunc('month', date)::date AS month FROM attendances
+    UNION
+    SELECT l.employee_id, m::date
+    FROM leaves l, generate_series(date_trunc('month', l.start_date), l.end_date, INTERVAL '1 month') AS m
+    WHERE l.status = 'APPROVED'
+) months;
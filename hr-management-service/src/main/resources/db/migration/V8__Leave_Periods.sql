@@ -0,0 +1,16 @@
+-- V8__Leave_Periods.sql
+
+-- Leave intervals as ranges, so overlap with a date window is one GiST probe
+-- instead of comparing start and end dates of every leave of the employee.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE leaves
+    ADD COLUMN period DATERANGE GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED;
+
+-- Overlap checks for one employee, and department or team calendars joining from employees
+CREATE INDEX idx_leave_employee_period ON leaves USING gist (employee_id, period)
+    WHERE status IN ('PENDING', 'APPROVED');
+
+-- Organization-wide calendars
+CREATE INDEX idx_leave_period ON leaves USING gist (period)
+    WHERE status IN ('PENDING', 'APPROVED');
@@ -0,0 +1,52 @@
+package com.company.hr.cache;
+
+import com.company.common.cache.CachedValue;
+import com.company.hr.config.AppCacheProperties;
+import com.company.hr.config.CacheConfig;
+import com.company.hr.dto.EmployeeDTO;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeBatchCacheTest {
+
+    @ParameterizedTest
+    @EnumSource(AppCacheProperties.Serialization.Format.class)
+    void readsEmployeesWrittenByTheCachePath(AppCacheProperties.Serialization.Format format) {
+        AppCacheProperties properties = new AppCacheProperties();
+        properties.getSerialization().setFormat(format);
+        CacheConfig cacheConfig = new CacheConfig();
+        RedisCacheConfiguration redisCacheConfiguration =
+                cacheConfig.redisCacheConfiguration(properties, cacheConfig.redisJsonSerializer());
+        EmployeeDTO employee = EmployeeDTO.builder()
+                .id(42L)
+                .employeeId("EMP-0042")
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .hireDate(LocalDate.of(2020, 1, 6))
+                .build();
+        byte[] stored = ByteUtils.getBytes(redisCacheConfiguration.getValueSerializationPair()
+                .write(new CachedValue(employee, Long.MAX_VALUE)));
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(Arrays.asList(stored, null));
+        EmployeeBatchCache batchCache = new EmployeeBatchCache(redisTemplate, redisCacheConfiguration, properties);
+
+        Map<Long, EmployeeDTO> found = batchCache.getAll(List.of(42L, 43L));
+
+        assertThat(found).containsOnly(Map.entry(42L, employee));
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.hr.config;
+
+import com.company.common.cache.CachedValue;
+import com.company.hr.dto.EmployeeDTO;
+import com.company.hr.entity.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheConfigTest {
+
+    private final RedisSerializer<Object> serializer = new CacheConfig().redisJsonSerializer();
+
+    @Test
+    void cachedValueRoundTripsWithItsTypes() {
+        CachedValue written = new CachedValue(employee(), 1_700_000_000_000L);
+
+        Object read = serializer.deserialize(serializer.serialize(written));
+
+        assertThat(read).isInstanceOf(CachedValue.class).isEqualTo(written);
+        assertThat(((CachedValue) read).getValue()).isInstanceOf(EmployeeDTO.class);
+    }
+
+    @Test
+    void bareValueRoundTripsWithItsType() {
+        EmployeeDTO written = employee();
+
+        assertThat(serializer.deserialize(serializer.serialize(written))).isEqualTo(written);
+    }
+
+    private static EmployeeDTO employee() {
+        return EmployeeDTO.builder()
+                .id(42L)
+                .employeeId("EMP-0042")
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .email("ada@example.com")
+                .dateOfBirth(LocalDate.of(1990, 12, 10))
+                .hireDate(LocalDate.of(2020, 1, 6))
+                .status(Employee.EmploymentStatus.ACTIVE)
+                .employmentType(Employee.EmploymentType.FULL_TIME)
+                .salary(new BigDecimal("85000.00"))
+                .departmentId(3L)
+                .createdAt(LocalDateTime.of(2020, 1, 6, 9, 30))
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.company.hr.monitoring;
+
+import com.company.hr.cache.EmployeeBatchCache;
+import com.company.hr.cache.EmployeeCacheEvictor;
+import com.company.hr.controller.EmployeeController;
+import com.company.hr.directory.EmployeeDirectory;
+import com.company.hr.entity.Department;
+import com.company.hr.entity.Employee;
+import com.company.hr.event.EmployeeEventPublisher;
+import com.company.hr.exception.QueryBudgetExceededException;
+import com.company.hr.mapper.EmployeeMapperImpl;
+import com.company.hr.repository.DepartmentRepository;
+import com.company.hr.repository.EmployeeRepository;
+import com.company.hr.service.EmployeeExportService;
+import com.company.hr.service.EmployeeHierarchyService;
+import com.company.hr.service.EmployeeServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs employee list endpoints against an in-memory database with
+ * {@code fail-on-exceed} set, so an endpoint that runs more statements than
+ * its {@link QueryBudget} fails the test.
+ */
+@WebMvcTest(controllers = EmployeeController.class, properties = {
+        "app.query-budget.enabled=true",
+        "app.query-budget.fail-on-exceed=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase
+@Import({EmployeeServiceImpl.class, EmployeeMapperImpl.class, QueryBudgetTest.OverBudgetController.class,
+        QueryBudgetTest.Metrics.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @MockBean
+    private EmployeeExportService employeeExportService;
+
+    @MockBean
+    private EmployeeDirectory employeeDirectory;
+
+    @MockBean
+    private EmployeeHierarchyService hierarchyService;
+
+    @MockBean
+    private EmployeeEventPublisher eventPublisher;
+
+    @MockBean
+    private EmployeeCacheEvictor cacheEvictor;
+
+    @MockBean
+    private EmployeeBatchCache employeeBatchCache;
+
+    private Employee manager;
+
+    @BeforeAll
+    void createEmployees() {
+        Department engineering = departmentRepository.save(Department.builder()
+                .name("Engineering")
+                .code("ENG")
+                .build());
+        manager = employeeRepository.save(employee(1, engineering, null));
+        // Enough reports that a per-row lookup of department or manager would exceed every budget
+        for (int i = 2; i <= 6; i++) {
+            employeeRepository.save(employee(i, engineering, manager));
+        }
+    }
+
+    @Test
+    void listStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(6));
+    }
+
+    @Test
+    void cursorListStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/cursor").param("sort", "LAST_NAME").param("total", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(6));
+    }
+
+    @Test
+    void sortedSearchStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/search").param("keyword", "example").param("sort", "lastName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(6));
+    }
+
+    @Test
+    void cursorSearchStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/search/cursor").param("keyword", "example").param("total", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(6));
+    }
+
+    @Test
+    void byManagerStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/manager/{managerId}", manager.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(5));
+    }
+
+    @Test
+    void requestOverBudgetFails() throws Exception {
+        Exception failure = mockMvc.perform(get("/test/over-budget"))
+                .andExpect(status().isInternalServerError())
+                .andReturn()
+                .getResolvedException();
+
+        assertThat(failure).isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("OverBudgetController.overBudget exceeded its budget of 1");
+    }
+
+    private static Employee employee(int n, Department department, Employee manager) {
+        return Employee.builder()
+                .employeeId(String.format("EMP-%04d", n))
+                .firstName("First" + n)
+                .lastName("Last" + n)
+                .email("employee" + n + "@example.com")
+                .dateOfBirth(LocalDate.of(1990, 1, n))
+                .hireDate(LocalDate.of(2020, 1, n))
+                .status(Employee.EmploymentStatus.ACTIVE)
+                .employmentType(Employee.EmploymentType.FULL_TIME)
+                .salary(new BigDecimal("85000.00"))
+                .department(department)
+                .manager(manager)
+                .build();
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @RestController
+    static class OverBudgetController {
+
+        private final EmployeeRepository employeeRepository;
+
+        OverBudgetController(EmployeeRepository employeeRepository) {
+            this.employeeRepository = employeeRepository;
+        }
+
+        @GetMapping("/test/over-budget")
+        @QueryBudget(1)
+        long overBudget() {
+            // Looks up each employee's reports with a query of its own
+            return employeeRepository.findAll().stream()
+                    .mapToLong(employee -> employeeRepository.findByManagerId(employee.getId()).size())
+                    .sum();
+        }
+    }
+}
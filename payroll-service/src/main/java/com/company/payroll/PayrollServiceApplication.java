@@ -6,14 +6,12 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.kafka.annotation.EnableKafka;
-import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
 @EnableJpaAuditing
 @EnableKafka
-@EnableCaching
 public class PayrollServiceApplication {
 
     public static void main(String[] args) {
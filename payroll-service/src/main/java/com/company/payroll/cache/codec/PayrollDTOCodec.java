@@ -0,0 +1,79 @@
+package com.company.payroll.cache.codec;
+
+import com.company.common.cache.codec.BinaryCodec;
+import com.company.common.cache.codec.BinaryReader;
+import com.company.common.cache.codec.BinaryWriter;
+import com.company.payroll.dto.PayrollDTO;
+import com.company.payroll.entity.Payroll;
+
+public class PayrollDTOCodec implements BinaryCodec<PayrollDTO> {
+
+    public static final int TYPE_ID = 20;
+
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<PayrollDTO> getType() {
+        return PayrollDTO.class;
+    }
+
+    @Override
+    public int getTypeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void write(BinaryWriter out, PayrollDTO payroll) {
+        out.writeLong(payroll.getId());
+        out.writeLong(payroll.getEmployeeId());
+        out.writeString(payroll.getEmployeeName());
+        out.writeDate(payroll.getPayPeriodStart());
+        out.writeDate(payroll.getPayPeriodEnd());
+        out.writeDecimal(payroll.getBasicSalary());
+        out.writeDecimal(payroll.getAllowances());
+        out.writeDecimal(payroll.getBonuses());
+        out.writeDecimal(payroll.getOvertimePay());
+        out.writeDecimal(payroll.getDeductions());
+        out.writeDecimal(payroll.getTax());
+        out.writeDecimal(payroll.getGrossSalary());
+        out.writeDecimal(payroll.getNetSalary());
+        out.writeEnum(payroll.getStatus());
+        out.writeDate(payroll.getPaymentDate());
+        out.writeString(payroll.getNotes());
+        out.writeDateTime(payroll.getCreatedAt());
+        out.writeDateTime(payroll.getUpdatedAt());
+    }
+
+    @Override
+    public PayrollDTO read(BinaryReader in, int schemaVersion) {
+        if (schemaVersion != SCHEMA_VERSION) {
+            return null;
+        }
+
+        PayrollDTO payroll = new PayrollDTO();
+        payroll.setId(in.readLong());
+        payroll.setEmployeeId(in.readLong());
+        payroll.setEmployeeName(in.readString());
+        payroll.setPayPeriodStart(in.readDate());
+        payroll.setPayPeriodEnd(in.readDate());
+        payroll.setBasicSalary(in.readDecimal());
+        payroll.setAllowances(in.readDecimal());
+        payroll.setBonuses(in.readDecimal());
+        payroll.setOvertimePay(in.readDecimal());
+        payroll.setDeductions(in.readDecimal());
+        payroll.setTax(in.readDecimal());
+        payroll.setGrossSalary(in.readDecimal());
+        payroll.setNetSalary(in.readDecimal());
+        payroll.setStatus(in.readEnum(Payroll.PayrollStatus.class));
+        payroll.setPaymentDate(in.readDate());
+        payroll.setNotes(in.readString());
+        payroll.setCreatedAt(in.readDateTime());
+        payroll.setUpdatedAt(in.readDateTime());
+        return payroll;
+    }
+}
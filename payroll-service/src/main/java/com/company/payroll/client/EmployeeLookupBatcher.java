@@ -0,0 +1,195 @@
+package com.company.payroll.client;
+
+import com.company.payroll.config.HrClientProperties;
+import com.company.payroll.dto.EmployeeBatchRequest;
+import com.company.payroll.dto.EmployeeDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Looks up employees in the HR service, merging single lookups that arrive
+ * within a short window into one {@code POST /employees/batch} call.
+ *
+ * The first lookup of a batch schedules a flush after {@code window}; a batch
+ * that reaches {@code max-size} distinct IDs is sent straight away by the caller
+ * that filled it. Concurrent lookups of the same ID share one result.
+ */
+@Component
+@Slf4j
+public class EmployeeLookupBatcher implements DisposableBean {
+
+    private final HrServiceClient hrServiceClient;
+    private final HrClientProperties.Batch properties;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final SimpleAsyncTaskExecutor virtualThreads;
+    private final Counter lookups;
+    private final DistributionSummary batchSizes;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<EmployeeDTO>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public EmployeeLookupBatcher(HrServiceClient hrServiceClient,
+                                 HrClientProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 Environment environment) {
+        this.hrServiceClient = hrServiceClient;
+        this.properties = properties.getBatch();
+        this.scheduler = new ScheduledThreadPoolExecutor(this.properties.getThreads(),
+                new CustomizableThreadFactory("hr-lookup-batch-"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        // With virtual threads, each timed-out batch is sent on a thread of its own, so a slow
+        // HR service cannot hold up the scheduler threads and with them every other batch
+        if (Threading.VIRTUAL.isActive(environment)) {
+            this.virtualThreads = new SimpleAsyncTaskExecutor("hr-lookup-batch-");
+            this.virtualThreads.setVirtualThreads(true);
+        } else {
+            this.virtualThreads = null;
+        }
+        this.lookups = Counter.builder("hr.client.lookups")
+                .description("Single employee lookups requested from the HR service")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("hr.client.batch.size")
+                .description("Distinct employee IDs per batch call to the HR service")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the employee with the given ID, waiting for the batch it joins.
+     *
+     * @throws RuntimeException if the employee does not exist, or the HR service call
+     *                          fails or does not complete within {@code timeout}
+     */
+    public EmployeeDTO getEmployee(Long id) {
+        lookups.increment();
+        if (!properties.isEnabled()) {
+            return hrServiceClient.getEmployeeById(id).getData();
+        }
+
+        CompletableFuture<EmployeeDTO> result;
+        Map<Long, CompletableFuture<EmployeeDTO>> fullBatch = null;
+        synchronized (lock) {
+            result = pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (pending.size() >= properties.getMaxSize()) {
+                fullBatch = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush,
+                        properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+
+        try {
+            // A copy, so the timeout fails this caller only and not others waiting on the same ID
+            return result.copy().orTimeout(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException("Timed out waiting for the batch lookup of employee " + id, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches many employees directly, in as few batch calls as the HR service
+     * allows. Unknown IDs are absent from the returned map.
+     */
+    public Map<Long, EmployeeDTO> getEmployees(Collection<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinctIds.removeIf(Objects::isNull);
+        Map<Long, EmployeeDTO> employees = new HashMap<>(distinctIds.size() * 2);
+        for (int from = 0; from < distinctIds.size(); from += EmployeeBatchRequest.MAX_IDS) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + EmployeeBatchRequest.MAX_IDS, distinctIds.size()));
+            batchSizes.record(chunk.size());
+            fetch(chunk).forEach(employee -> employees.put(employee.getId(), employee));
+        }
+        return employees;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<EmployeeDTO>> batch;
+        synchronized (lock) {
+            scheduledFlush = null;
+            batch = takePending();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (virtualThreads != null) {
+            virtualThreads.execute(() -> dispatch(batch));
+        } else {
+            dispatch(batch);
+        }
+    }
+
+    private Map<Long, CompletableFuture<EmployeeDTO>> takePending() {
+        Map<Long, CompletableFuture<EmployeeDTO>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<EmployeeDTO>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            Map<Long, EmployeeDTO> employees = new HashMap<>(batch.size() * 2);
+            fetch(new ArrayList<>(batch.keySet())).forEach(employee -> employees.put(employee.getId(), employee));
+            batch.forEach((id, future) -> {
+                EmployeeDTO employee = employees.get(id);
+                if (employee != null) {
+                    future.complete(employee);
+                } else {
+                    future.completeExceptionally(new RuntimeException("Employee not found with id: " + id));
+                }
+            });
+        } catch (Throwable e) {
+            // Any failure, errors included, must reach the callers blocked on these futures
+            log.warn("Batch lookup of {} employees failed", batch.size(), e);
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private List<EmployeeDTO> fetch(List<Long> ids) {
+        List<EmployeeDTO> employees = hrServiceClient.getEmployeesByIds(new EmployeeBatchRequest(ids)).getData();
+        return employees != null ? employees : List.of();
+    }
+}
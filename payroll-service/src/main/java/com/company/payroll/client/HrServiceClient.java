@@ -1,9 +1,15 @@
 package com.company.payroll.client;
 
+import com.company.payroll.dto.EmployeeBatchRequest;
 import com.company.payroll.dto.EmployeeDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(name = "hr-management-service", path = "/api/v1")
 public interface HrServiceClient {
@@ -13,4 +19,19 @@ public interface HrServiceClient {
 
     @GetMapping("/employees/employee-id/{employeeId}")
     ApiResponse<EmployeeDTO> getEmployeeByEmployeeId(@PathVariable String employeeId);
+
+    /**
+     * Fetches up to {@link EmployeeBatchRequest#MAX_IDS} employees; unknown IDs are left out.
+     */
+    @PostMapping("/employees/batch")
+    ApiResponse<List<EmployeeDTO>> getEmployeesByIds(@RequestBody EmployeeBatchRequest request);
+
+    /**
+     * Returns up to {@code limit} employees with an ID greater than {@code afterId}, in ID order.
+     */
+    @GetMapping("/employees/scan")
+    ApiResponse<List<EmployeeDTO>> scanEmployees(@RequestParam("afterId") Long afterId,
+                                                 @RequestParam(value = "departmentId", required = false) Long departmentId,
+                                                 @RequestParam(value = "status", required = false) String status,
+                                                 @RequestParam("limit") int limit);
 }
@@ -0,0 +1,67 @@
+package com.company.payroll.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class AppCacheProperties {
+
+    /**
+     * TTL of entries in Redis.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Random TTL extension, as a fraction of {@code ttl}, so that entries loaded
+     * together do not expire together.
+     */
+    private double ttlJitter = 0.1;
+
+    private Refresh refresh = new Refresh();
+
+    private Serialization serialization = new Serialization();
+
+    @Data
+    public static class Refresh {
+
+        /**
+         * Whether entries past {@code ahead-ratio} of their TTL are reloaded in the
+         * background while the current value keeps being served.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Fraction of {@code app.cache.ttl} after which an entry is refreshed on read.
+         */
+        private double aheadRatio = 0.8;
+
+        private int threads = 2;
+
+        /**
+         * Pending refreshes beyond this are dropped; the stale value is then served
+         * until it expires.
+         */
+        private int queueCapacity = 256;
+    }
+
+    @Data
+    public static class Serialization {
+
+        /**
+         * Encoding of cached values. Either format reads entries written in the other.
+         */
+        private Format format = Format.JSON;
+
+        /**
+         * Binary values at least this many bytes long are deflated; 0 disables compression.
+         */
+        private int compressionThreshold = 1024;
+
+        public enum Format {
+            JSON, BINARY
+        }
+    }
+}
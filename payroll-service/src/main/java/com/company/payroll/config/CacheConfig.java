@@ -0,0 +1,80 @@
+package com.company.payroll.config;
+
+import com.company.common.cache.CachedValue;
+import com.company.common.cache.JitteredTtlFunction;
+import com.company.common.cache.RefreshAheadCacheManager;
+import com.company.common.cache.codec.CompactBinaryRedisSerializer;
+import com.company.payroll.cache.codec.PayrollDTOCodec;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The caching advisor is ordered ahead of the transaction interceptor so that
+ * cache hits never borrow a database connection and background refreshes open
+ * their own read-only transaction.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(AppCacheProperties.class)
+public class CacheConfig {
+
+    /**
+     * Polymorphic JSON: each value carries its class, so a {@link CachedValue}
+     * envelope and the DTO inside it read back as the types that were written.
+     */
+    @Bean
+    public RedisSerializer<Object> redisJsonSerializer() {
+        return new GenericJackson2JsonRedisSerializer()
+                .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+    }
+
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(AppCacheProperties properties,
+                                                           RedisSerializer<Object> redisJsonSerializer) {
+        AppCacheProperties.Serialization serialization = properties.getSerialization();
+        RedisSerializer<Object> serializer = redisJsonSerializer;
+        if (serialization.getFormat() == AppCacheProperties.Serialization.Format.BINARY) {
+            serializer = new CompactBinaryRedisSerializer(
+                    List.of(new PayrollDTOCodec()), serializer, serialization.getCompressionThreshold());
+        }
+
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(new JitteredTtlFunction(properties.getTtl(), properties.getTtlJitter()))
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration redisCacheConfiguration,
+                                     MeterRegistry meterRegistry,
+                                     AppCacheProperties properties) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        AppCacheProperties.Refresh refresh = properties.getRefresh();
+        Duration refreshAfter = refresh.isEnabled()
+                ? Duration.ofMillis((long) (properties.getTtl().toMillis() * refresh.getAheadRatio()))
+                : null;
+        return new RefreshAheadCacheManager(redisCacheManager, refreshAfter,
+                refresh.getThreads(), refresh.getQueueCapacity(), meterRegistry);
+    }
+}
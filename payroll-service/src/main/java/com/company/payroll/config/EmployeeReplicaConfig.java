@@ -0,0 +1,69 @@
+package com.company.payroll.config;
+
+import com.company.payroll.replica.EmployeeReplica;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(EmployeeReplicaProperties.class)
+@Slf4j
+public class EmployeeReplicaConfig {
+
+    /**
+     * Container factory for the replica's employee-events listener only, so its
+     * error handling does not apply to other listeners.
+     *
+     * A failed batch is retried {@code retry-attempts} times. Events that still
+     * cannot be applied are skipped, and their employees are reloaded from the
+     * HR service instead. If that fails too, the batch is retried again, so an HR
+     * service outage delays the replica but never loses changes. Unreadable events
+     * are skipped by the listener itself.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> employeeReplicaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            EmployeeReplica replica,
+            EmployeeReplicaProperties properties) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(reloadFromHrService(replica),
+                new FixedBackOff(properties.getRetryInterval().toMillis(), properties.getRetryAttempts())));
+        return factory;
+    }
+
+    private static ConsumerRecordRecoverer reloadFromHrService(EmployeeReplica replica) {
+        return (record, exception) -> {
+            Long employeeId = employeeId(record.key());
+            if (employeeId == null) {
+                log.error("Skipping employee event at {}-{}@{} without an employee key",
+                        record.topic(), record.partition(), record.offset(), exception);
+                return;
+            }
+            log.warn("Employee event at {}-{}@{} could not be applied; reloading employee {} from the HR service",
+                    record.topic(), record.partition(), record.offset(), employeeId, exception);
+            replica.refresh(List.of(employeeId), List.of());
+        };
+    }
+
+    private static Long employeeId(Object key) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(key.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.payroll.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.employee-replica")
+public class EmployeeReplicaProperties {
+
+    /**
+     * Whether payroll reads employees from its local replica. When disabled every
+     * lookup goes to the HR service, as before the replica existed.
+     */
+    private boolean enabled = true;
+
+    /**
+     * When to load the whole replica from the HR service on startup.
+     */
+    private Bootstrap bootstrap = Bootstrap.IF_NEVER_SYNCED;
+
+    /**
+     * Employees requested from the HR service per page during a full resync.
+     */
+    private int resyncPageSize = 1000;
+
+    /**
+     * Concurrent consumers of employee-events; more than the topic's partition
+     * count leaves the extra consumers idle.
+     */
+    private int consumers = 3;
+
+    /**
+     * Pause before a failed batch of employee events is retried.
+     */
+    private Duration retryInterval = Duration.ofSeconds(5);
+
+    /**
+     * Retries of a failed batch of employee events. After the last one, the
+     * employees whose events still fail are reloaded from the HR service instead.
+     */
+    private long retryAttempts = 12;
+
+    public enum Bootstrap {
+        /**
+         * Never resync on startup; the replica fills from events and lookups only.
+         */
+        NEVER,
+        /**
+         * Resync on startup until one full resync has completed.
+         */
+        IF_NEVER_SYNCED,
+        /**
+         * Resync on every startup.
+         */
+        ALWAYS
+    }
+}
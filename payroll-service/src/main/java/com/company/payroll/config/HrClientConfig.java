@@ -0,0 +1,9 @@
+package com.company.payroll.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HrClientProperties.class)
+public class HrClientConfig {
+}
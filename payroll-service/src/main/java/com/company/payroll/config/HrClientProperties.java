@@ -0,0 +1,43 @@
+package com.company.payroll.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.hr-client")
+public class HrClientProperties {
+
+    private Batch batch = new Batch();
+
+    @Data
+    public static class Batch {
+
+        /**
+         * Whether concurrent single-employee lookups are merged into batch calls.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How long the first lookup of a batch waits for others to join it.
+         */
+        private Duration window = Duration.ofMillis(5);
+
+        /**
+         * Batches are sent as soon as they reach this many distinct IDs.
+         */
+        private int maxSize = 200;
+
+        /**
+         * Threads sending batches whose window has elapsed.
+         */
+        private int threads = 4;
+
+        /**
+         * How long a lookup waits for its batch before failing. Covers the window
+         * plus the HR service call, whose Feign connect and read timeouts are 5s each.
+         */
+        private Duration timeout = Duration.ofSeconds(11);
+    }
+}
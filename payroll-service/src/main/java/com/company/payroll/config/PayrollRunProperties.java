@@ -0,0 +1,30 @@
+package com.company.payroll.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.payroll-run")
+public class PayrollRunProperties {
+
+    /**
+     * Employees fetched from the HR service per request; also the checkpoint interval.
+     */
+    private int pageSize = 1000;
+
+    /**
+     * Employees calculated and inserted per worker task and INSERT statement.
+     */
+    private int chunkSize = 250;
+
+    /**
+     * Worker threads shared by all runs. Each holds a database connection while
+     * inserting, so keep this below the connection pool size.
+     */
+    private int workerThreads = 4;
+
+    /**
+     * Runs executed at the same time; further runs wait as PENDING.
+     */
+    private int maxConcurrentRuns = 1;
+}
@@ -1,6 +1,10 @@
 package com.company.payroll.controller;
 
+import com.company.common.dto.CursorPage;
+import com.company.common.export.ExportFormat;
 import com.company.payroll.dto.PayrollDTO;
+import com.company.payroll.repository.PayrollSortKey;
+import com.company.payroll.service.PayrollExportService;
 import com.company.payroll.service.PayrollService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -8,14 +12,21 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/payroll")
@@ -23,7 +34,10 @@ import java.util.Map;
 @Tag(name = "Payroll Management", description = "APIs for managing payrolls")
 public class PayrollController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+
     private final PayrollService payrollService;
+    private final PayrollExportService payrollExportService;
 
     @PostMapping
     @Operation(summary = "Create a new payroll")
@@ -46,6 +60,54 @@ public class PayrollController {
         return ResponseEntity.ok(success(payrolls));
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Get payrolls with keyset pagination",
+            description = "Pass nextCursor from the previous page as cursor, with the same sort and direction. " +
+                    "Pages cost the same at any depth; the total is only computed when requested")
+    public ResponseEntity<Map<String, Object>> getPayrollsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ID") PayrollSortKey sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "NONE") CursorPage.TotalMode total) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<PayrollDTO> payrolls = payrollService.getPayrollsPage(cursor, sort, direction, pageSize, total);
+        return ResponseEntity.ok(success(payrolls));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export payrolls as NDJSON or CSV",
+            description = "Streams payrolls in ID order whose pay period lies between startDate and endDate " +
+                    "(both optional). The response is gzip-compressed when the client accepts gzip")
+    public ResponseEntity<StreamingResponseBody> exportPayrolls(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                payrollExportService.exportPayrolls(startDate, endDate, format, compressed);
+                compressed.finish();
+            } else {
+                payrollExportService.exportPayrolls(startDate, endDate, format, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("payrolls." + format.extension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/employee/{employeeId}")
     @Operation(summary = "Get payrolls by employee ID")
     public ResponseEntity<Map<String, Object>> getPayrollsByEmployeeId(@PathVariable Long employeeId) {
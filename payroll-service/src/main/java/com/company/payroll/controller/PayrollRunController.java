@@ -0,0 +1,71 @@
+package com.company.payroll.controller;
+
+import com.company.payroll.dto.PayrollRunDTO;
+import com.company.payroll.dto.PayrollRunRequest;
+import com.company.payroll.service.PayrollRunService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/payroll/runs")
+@RequiredArgsConstructor
+@Tag(name = "Payroll Runs", description = "APIs for bulk payroll runs")
+public class PayrollRunController {
+
+    private final PayrollRunService payrollRunService;
+
+    @PostMapping
+    @Operation(summary = "Start a payroll run for a pay period",
+            description = "Runs in the background; poll the returned run for progress")
+    public ResponseEntity<Map<String, Object>> startRun(@Valid @RequestBody PayrollRunRequest request) {
+        PayrollRunDTO run = payrollRunService.startRun(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(success("Payroll run started", run));
+    }
+
+    @PostMapping("/{id}/resume")
+    @Operation(summary = "Resume a failed or interrupted payroll run from its checkpoint")
+    public ResponseEntity<Map<String, Object>> resumeRun(@PathVariable Long id) {
+        PayrollRunDTO run = payrollRunService.resumeRun(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(success("Payroll run resumed", run));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get payroll run progress")
+    public ResponseEntity<Map<String, Object>> getRun(@PathVariable Long id) {
+        PayrollRunDTO run = payrollRunService.getRun(id);
+        return ResponseEntity.ok(success(run));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get payroll runs, newest first")
+    public ResponseEntity<Map<String, Object>> getAllRuns(Pageable pageable) {
+        Page<PayrollRunDTO> runs = payrollRunService.getAllRuns(pageable);
+        return ResponseEntity.ok(success(runs));
+    }
+
+    private Map<String, Object> success(Object data) {
+        return success(null, data);
+    }
+
+    private Map<String, Object> success(String message, Object data) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        if (message != null) {
+            response.put("message", message);
+        }
+        response.put("data", data);
+        response.put("timestamp", LocalDateTime.now());
+        return response;
+    }
+}
@@ -0,0 +1,22 @@
+package com.company.payroll.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeBatchRequest {
+
+    /**
+     * Largest batch accepted by {@code POST /api/v1/employees/batch} on the HR service.
+     */
+    public static final int MAX_IDS = 500;
+
+    private List<Long> ids;
+}
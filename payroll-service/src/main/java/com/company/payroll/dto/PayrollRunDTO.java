@@ -0,0 +1,38 @@
+package com.company.payroll.dto;
+
+import com.company.payroll.entity.PayrollRun;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollRunDTO {
+
+    private Long id;
+    private LocalDate payPeriodStart;
+    private LocalDate payPeriodEnd;
+    private Long departmentId;
+    private String employeeStatus;
+    private PayrollRun.RunStatus status;
+
+    private Long lastEmployeeId;
+    private Long processedCount;
+    private Long createdCount;
+    private Long skippedCount;
+    private Long failedCount;
+    private Long elapsedMillis;
+    private Double employeesPerSecond;
+
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.company.payroll.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollRunRequest {
+
+    @NotNull(message = "Pay period start date is required")
+    private LocalDate payPeriodStart;
+
+    @NotNull(message = "Pay period end date is required")
+    private LocalDate payPeriodEnd;
+
+    /**
+     * Limits the run to one department; all departments when absent.
+     */
+    private Long departmentId;
+
+    /**
+     * HR employment status to include; defaults to ACTIVE.
+     */
+    @Builder.Default
+    private String employeeStatus = "ACTIVE";
+}
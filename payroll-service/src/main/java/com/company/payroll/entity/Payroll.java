@@ -27,7 +27,8 @@ import java.time.LocalDateTime;
 public class Payroll {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payrolls_id_seq")
+    @SequenceGenerator(name = "payrolls_id_seq", sequenceName = "payrolls_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
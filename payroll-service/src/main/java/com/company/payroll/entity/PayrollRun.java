@@ -0,0 +1,94 @@
+package com.company.payroll.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A bulk payroll run over every employee matching a department and status filter.
+ *
+ * Employees are processed in ID order; {@code lastEmployeeId} is the checkpoint
+ * up to which every employee has been handled, so an interrupted run resumes
+ * from there.
+ */
+@Entity
+@Table(name = "payroll_runs")
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate payPeriodStart;
+
+    @Column(nullable = false)
+    private LocalDate payPeriodEnd;
+
+    private Long departmentId;
+
+    @Column(length = 20)
+    private String employeeStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RunStatus status;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long lastEmployeeId = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long processedCount = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long createdCount = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long skippedCount = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long failedCount = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long elapsedMillis = 0L;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public enum RunStatus {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
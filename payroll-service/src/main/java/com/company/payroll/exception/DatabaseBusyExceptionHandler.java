@@ -0,0 +1,30 @@
+package com.company.payroll.exception;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+
+/**
+ * Requests refused a database connection, by the connection limiter or the pool,
+ * get 503 with {@code Retry-After} as in the HR service. The body is the usual
+ * error response of this service.
+ */
+@RestControllerAdvice
+@Slf4j
+public class DatabaseBusyExceptionHandler {
+
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public void handleDatabaseBusyException(NestedRuntimeException ex, HttpServletResponse response) throws IOException {
+        log.warn("Rejected request without a database connection: {}", ex.getMostSpecificCause().getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "The service is busy. Please try again later.");
+    }
+}
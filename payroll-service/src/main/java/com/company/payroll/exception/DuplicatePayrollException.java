@@ -0,0 +1,7 @@
+package com.company.payroll.exception;
+
+public class DuplicatePayrollException extends RuntimeException {
+    public DuplicatePayrollException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.company.payroll.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A second payroll for an employee and pay period gets 409, in the response
+ * shape of the payroll controller.
+ */
+@RestControllerAdvice
+@Slf4j
+public class DuplicatePayrollExceptionHandler {
+
+    @ExceptionHandler(DuplicatePayrollException.class)
+    public ResponseEntity<Map<String, Object>> handleDuplicatePayrollException(DuplicatePayrollException ex) {
+        log.warn("Rejected duplicate payroll: {}", ex.getMessage());
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", ex.getMessage());
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+}
@@ -0,0 +1,189 @@
+package com.company.payroll.replica;
+
+import com.company.events.employee.EmployeeEvent;
+import com.company.payroll.client.EmployeeLookupBatcher;
+import com.company.payroll.client.HrServiceClient;
+import com.company.payroll.config.EmployeeReplicaProperties;
+import com.company.payroll.dto.EmployeeDTO;
+import com.company.payroll.repository.EmployeeReplicaJdbcRepository;
+import com.company.payroll.repository.EmployeeReplicaJdbcRepository.VersionedEmployee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Employee data for payroll, read from the local {@code employee_replica} table
+ * instead of the HR service.
+ *
+ * Single lookups fall back to the HR service when the replica does not hold the
+ * employee yet, and keep the result. Payroll runs scan the replica only once a
+ * full resync has completed, since a scan cannot tell which employees are
+ * missing; until then they page through the HR service as before.
+ */
+@Component
+@Slf4j
+public class EmployeeReplica {
+
+    private final EmployeeReplicaJdbcRepository replicaRepository;
+    private final EmployeeLookupBatcher employeeLookup;
+    private final HrServiceClient hrServiceClient;
+    private final EmployeeReplicaProperties properties;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile boolean complete;
+
+    public EmployeeReplica(EmployeeReplicaJdbcRepository replicaRepository,
+                           EmployeeLookupBatcher employeeLookup,
+                           HrServiceClient hrServiceClient,
+                           EmployeeReplicaProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.replicaRepository = replicaRepository;
+        this.employeeLookup = employeeLookup;
+        this.hrServiceClient = hrServiceClient;
+        this.properties = properties;
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * Returns the employee with the given ID.
+     *
+     * @throws RuntimeException if the employee is neither in the replica nor in the
+     *                          HR service, or the HR service call fails
+     */
+    public EmployeeDTO getEmployee(Long id) {
+        if (!properties.isEnabled()) {
+            return employeeLookup.getEmployee(id);
+        }
+        Optional<EmployeeDTO> local = replicaRepository.findById(id);
+        if (local.isPresent()) {
+            hits.increment();
+            return local.get();
+        }
+        misses.increment();
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        EmployeeDTO employee = employeeLookup.getEmployee(id);
+        replicaRepository.insertIfAbsent(employee, fetchedAt);
+        return employee;
+    }
+
+    /**
+     * Up to {@code limit} employees with an ID greater than {@code afterId}, in ID order.
+     */
+    public List<EmployeeDTO> scanEmployees(Long afterId, Long departmentId, String status, int limit) {
+        if (properties.isEnabled() && isComplete()) {
+            return replicaRepository.scan(afterId, departmentId, status, limit);
+        }
+        List<EmployeeDTO> employees = hrServiceClient.scanEmployees(afterId, departmentId, status, limit).getData();
+        return employees != null ? employees : List.of();
+    }
+
+    /**
+     * Applies a batch of employee events, in order. Each employee's events are
+     * folded into one write; creations become complete rows and updates patch the
+     * attributes they changed. Updates for employees the replica has never seen
+     * cannot be patched, so those employees are loaded from the HR service.
+     */
+    public void apply(List<EmployeeEvent> events) {
+        Map<Long, ReplicaChange> changes = new LinkedHashMap<>();
+        for (EmployeeEvent event : events) {
+            changes.computeIfAbsent(event.employeeId(), ReplicaChange::new).add(event);
+        }
+
+        List<VersionedEmployee> rows = new ArrayList<>();
+        List<VersionedEmployee> patches = new ArrayList<>();
+        Map<Long, Long> deletions = new HashMap<>();
+        for (ReplicaChange change : changes.values()) {
+            if (change.deleted()) {
+                deletions.put(change.employeeId(), change.version());
+            } else if (change.complete()) {
+                rows.add(new VersionedEmployee(change.values(), change.version(), change.fields()));
+            } else if (!change.fields().isEmpty()) {
+                patches.add(new VersionedEmployee(change.values(), change.version(), change.fields()));
+            }
+        }
+
+        LocalDateTime appliedAt = LocalDateTime.now();
+        replicaRepository.upsertAtVersion(rows, appliedAt);
+        List<Long> unknown = replicaRepository.patchAtVersion(patches, appliedAt);
+        replicaRepository.markDeletedAtVersion(deletions, appliedAt);
+        if (!unknown.isEmpty()) {
+            refresh(unknown, List.of());
+        }
+        log.debug("Applied {} employee events: {} created, {} patched, {} deleted, {} loaded from HR",
+                events.size(), rows.size(), patches.size() - unknown.size(), deletions.size(), unknown.size());
+    }
+
+    /**
+     * Brings the given employees up to date with the HR service, in one batch call
+     * per 500 employees. Employees the HR service no longer has are removed.
+     */
+    public void refresh(Collection<Long> changedIds, Collection<Long> deletedIds) {
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        Map<Long, EmployeeDTO> current = changedIds.isEmpty() ? Map.of() : employeeLookup.getEmployees(changedIds);
+        List<Long> removed = new ArrayList<>(deletedIds);
+        for (Long id : changedIds) {
+            if (!current.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+        replicaRepository.upsertAll(current.values(), fetchedAt);
+        replicaRepository.markDeleted(removed, fetchedAt);
+        log.debug("Refreshed {} and removed {} replicated employees", current.size(), removed.size());
+    }
+
+    /**
+     * Reloads every employee from the HR service, page by page, then removes the
+     * employees it no longer returned. Changes applied from events meanwhile are
+     * kept, as they were read later than the page that would overwrite them.
+     *
+     * @return the number of employees loaded
+     */
+    public long resync() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long loaded = 0;
+        Long afterId = 0L;
+        while (true) {
+            LocalDateTime fetchedAt = LocalDateTime.now();
+            List<EmployeeDTO> page = hrServiceClient.scanEmployees(afterId, null, null,
+                    properties.getResyncPageSize()).getData();
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            replicaRepository.upsertAll(page, fetchedAt);
+            loaded += page.size();
+            afterId = page.get(page.size() - 1).getId();
+        }
+        int removed = replicaRepository.markDeletedIfNotSyncedSince(startedAt, LocalDateTime.now());
+        replicaRepository.recordFullSync(LocalDateTime.now());
+        complete = true;
+        log.info("Resynced employee replica: {} employees loaded, {} removed", loaded, removed);
+        return loaded;
+    }
+
+    public boolean isComplete() {
+        if (!complete) {
+            complete = replicaRepository.findLastFullSync().isPresent();
+        }
+        return complete;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.replica.lookups")
+                .description("Single employee lookups served by the local replica")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
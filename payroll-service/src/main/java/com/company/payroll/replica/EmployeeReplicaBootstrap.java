@@ -0,0 +1,67 @@
+package com.company.payroll.replica;
+
+import com.company.payroll.config.EmployeeReplicaProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads the employee replica from the HR service on startup, according to
+ * {@code app.employee-replica.bootstrap}. The resync runs in the background;
+ * lookups fall back to the HR service and runs keep scanning it until it ends.
+ */
+@Component
+@Slf4j
+public class EmployeeReplicaBootstrap implements DisposableBean {
+
+    private final EmployeeReplica replica;
+    private final EmployeeReplicaProperties properties;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("employee-replica-sync-"));
+
+    public EmployeeReplicaBootstrap(EmployeeReplica replica, EmployeeReplicaProperties properties) {
+        this.replica = replica;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrapOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        switch (properties.getBootstrap()) {
+            case NEVER -> {
+                return;
+            }
+            case IF_NEVER_SYNCED -> {
+                if (replica.isComplete()) {
+                    return;
+                }
+            }
+            case ALWAYS -> {
+            }
+        }
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                long loaded = replica.resync();
+                log.info("Employee replica bootstrap loaded {} employees in {} ms",
+                        loaded, (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                // Lookups still fall back to the HR service; the next startup tries again
+                log.error("Employee replica bootstrap failed", e);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
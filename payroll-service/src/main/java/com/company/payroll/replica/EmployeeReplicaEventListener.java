@@ -0,0 +1,61 @@
+package com.company.payroll.replica;
+
+import com.company.events.employee.EmployeeEvent;
+import com.company.events.employee.EmployeeEventCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps {@link EmployeeReplica} current from employee-events.
+ *
+ * Records arrive in batches, one consumer per partition; events are keyed by
+ * employee, so each employee's events are seen in the order they were written.
+ * Events carry the attributes that changed and the employee's version, so they
+ * are applied without calling the HR service, and redelivered events are
+ * ignored. Offsets are committed once the whole batch is applied.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.employee-replica", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EmployeeReplicaEventListener {
+
+    private final EmployeeReplica replica;
+    private final Counter events;
+
+    public EmployeeReplicaEventListener(EmployeeReplica replica, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.events = Counter.builder("employee.replica.events")
+                .description("Employee events applied to the local replica")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "employee-events",
+            groupId = "payroll-employee-replica",
+            containerFactory = "employeeReplicaListenerContainerFactory",
+            batch = "true",
+            concurrency = "${app.employee-replica.consumers:3}")
+    public void onEmployeeEvents(List<ConsumerRecord<String, byte[]>> records) {
+        List<EmployeeEvent> decoded = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                decoded.add(EmployeeEventCodec.decode(record.value()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring unreadable employee event at {}-{}@{}: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage());
+            }
+        }
+        if (decoded.isEmpty()) {
+            return;
+        }
+        replica.apply(decoded);
+        events.increment(decoded.size());
+    }
+}
@@ -0,0 +1,92 @@
+package com.company.payroll.replica;
+
+import com.company.events.employee.EmployeeEvent;
+import com.company.events.employee.EmployeeField;
+import com.company.events.employee.FieldChange;
+import com.company.payroll.dto.EmployeeDTO;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The net effect of one employee's events within a batch, folded in order:
+ * either a complete row (the batch saw the employee's creation), a patch of
+ * the replicated attributes that changed, or a deletion.
+ */
+final class ReplicaChange {
+
+    private final long employeeId;
+    private long version;
+    private boolean deleted;
+    private boolean complete;
+    private EmployeeDTO values;
+    private final Set<EmployeeField> fields = EnumSet.noneOf(EmployeeField.class);
+
+    ReplicaChange(long employeeId) {
+        this.employeeId = employeeId;
+        this.values = EmployeeDTO.builder().id(employeeId).build();
+    }
+
+    void add(EmployeeEvent event) {
+        version = event.version();
+        switch (event.type()) {
+            case CREATED -> {
+                deleted = false;
+                complete = true;
+                values = EmployeeDTO.builder().id(employeeId).employeeId(event.employeeNumber()).build();
+                fields.clear();
+                event.changes().forEach(this::apply);
+            }
+            case UPDATED -> event.changes().forEach(this::apply);
+            case DELETED -> {
+                deleted = true;
+                complete = false;
+                fields.clear();
+            }
+        }
+    }
+
+    private void apply(FieldChange change) {
+        Object value = change.after();
+        switch (change.field()) {
+            case EMPLOYEE_NUMBER -> values.setEmployeeId((String) value);
+            case FIRST_NAME -> values.setFirstName((String) value);
+            case LAST_NAME -> values.setLastName((String) value);
+            case SALARY -> values.setSalary((BigDecimal) value);
+            case DEPARTMENT_ID -> values.setDepartmentId((Long) value);
+            case STATUS -> values.setStatus((String) value);
+            default -> {
+                return;
+            }
+        }
+        fields.add(change.field());
+    }
+
+    long employeeId() {
+        return employeeId;
+    }
+
+    long version() {
+        return version;
+    }
+
+    boolean deleted() {
+        return deleted;
+    }
+
+    boolean complete() {
+        return complete;
+    }
+
+    EmployeeDTO values() {
+        return values;
+    }
+
+    /**
+     * Replicated attributes set by the folded events; empty if none of them changed.
+     */
+    Set<EmployeeField> fields() {
+        return fields;
+    }
+}
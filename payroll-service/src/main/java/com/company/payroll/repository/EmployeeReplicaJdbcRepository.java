@@ -0,0 +1,289 @@
+package com.company.payroll.repository;
+
+import com.company.events.employee.EmployeeField;
+import com.company.payroll.dto.EmployeeDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Plain JDBC access to {@code employee_replica}.
+ *
+ * Data read from the HR service carries the time it was read and only replaces
+ * a row written earlier, so a slow resync page cannot overwrite a newer change.
+ * Changes from events carry the employee's version instead and only replace an
+ * older version; they are stamped with the time they were applied. Every write
+ * is idempotent.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeReplicaJdbcRepository {
+
+    private static final String COLUMNS = "id, employee_number, first_name, last_name, salary, department_id, status";
+
+    private static final String UPSERT =
+            "INSERT INTO employee_replica (" + COLUMNS + ", deleted, synced_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET employee_number = EXCLUDED.employee_number, " +
+            "first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name, salary = EXCLUDED.salary, " +
+            "department_id = EXCLUDED.department_id, status = EXCLUDED.status, deleted = FALSE, " +
+            "synced_at = EXCLUDED.synced_at " +
+            "WHERE employee_replica.synced_at <= EXCLUDED.synced_at";
+
+    private static final String INSERT_IF_ABSENT =
+            "INSERT INTO employee_replica (" + COLUMNS + ", deleted, synced_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String MARK_DELETED =
+            "INSERT INTO employee_replica (id, deleted, synced_at) VALUES (?, TRUE, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET deleted = TRUE, synced_at = EXCLUDED.synced_at " +
+            "WHERE employee_replica.synced_at <= EXCLUDED.synced_at";
+
+    private static final String UPSERT_AT_VERSION =
+            "INSERT INTO employee_replica (" + COLUMNS + ", deleted, version, synced_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET employee_number = EXCLUDED.employee_number, " +
+            "first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name, salary = EXCLUDED.salary, " +
+            "department_id = EXCLUDED.department_id, status = EXCLUDED.status, deleted = FALSE, " +
+            "version = EXCLUDED.version, synced_at = EXCLUDED.synced_at " +
+            "WHERE COALESCE(employee_replica.version, -1) < EXCLUDED.version";
+
+    // One statement shape for every patch, so patches go in a single JDBC batch
+    private static final String PATCH_AT_VERSION =
+            "UPDATE employee_replica SET " +
+            "employee_number = CASE WHEN ? THEN ? ELSE employee_number END, " +
+            "first_name = CASE WHEN ? THEN ? ELSE first_name END, " +
+            "last_name = CASE WHEN ? THEN ? ELSE last_name END, " +
+            "salary = CASE WHEN ? THEN ? ELSE salary END, " +
+            "department_id = CASE WHEN ? THEN ? ELSE department_id END, " +
+            "status = CASE WHEN ? THEN ? ELSE status END, " +
+            "version = ?, synced_at = ? " +
+            "WHERE id = ? AND NOT deleted AND COALESCE(version, -1) < ?";
+
+    private static final String MARK_DELETED_AT_VERSION =
+            "INSERT INTO employee_replica (id, deleted, version, synced_at) VALUES (?, TRUE, ?, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET deleted = TRUE, version = EXCLUDED.version, " +
+            "synced_at = EXCLUDED.synced_at " +
+            "WHERE COALESCE(employee_replica.version, -1) <= EXCLUDED.version";
+
+    private static final RowMapper<EmployeeDTO> EMPLOYEE = (rs, rowNum) -> EmployeeDTO.builder()
+            .id(rs.getLong("id"))
+            .employeeId(rs.getString("employee_number"))
+            .firstName(rs.getString("first_name"))
+            .lastName(rs.getString("last_name"))
+            .salary(rs.getBigDecimal("salary"))
+            .departmentId(rs.getObject("department_id", Long.class))
+            .status(rs.getString("status"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<EmployeeDTO> findById(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM employee_replica WHERE id = ? AND NOT deleted",
+                EMPLOYEE, id).stream().findFirst();
+    }
+
+    /**
+     * Up to {@code limit} employees with an ID greater than {@code afterId}, in ID
+     * order, with the same filters as the HR service's scan endpoint.
+     */
+    public List<EmployeeDTO> scan(Long afterId, Long departmentId, String status, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM employee_replica WHERE id > ? AND NOT deleted");
+        List<Object> args = new ArrayList<>(4);
+        args.add(afterId != null ? afterId : 0L);
+        if (departmentId != null) {
+            sql.append(" AND department_id = ?");
+            args.add(departmentId);
+        }
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status);
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), EMPLOYEE, args.toArray());
+    }
+
+    /**
+     * Stores the employees as read from the HR service at {@code syncedAt}, in one JDBC batch.
+     */
+    public void upsertAll(Collection<EmployeeDTO> employees, LocalDateTime syncedAt) {
+        write(UPSERT, employees, syncedAt);
+    }
+
+    /**
+     * Stores the employee unless the replica already holds it, for lookups that
+     * missed the replica.
+     */
+    public void insertIfAbsent(EmployeeDTO employee, LocalDateTime syncedAt) {
+        write(INSERT_IF_ABSENT, List.of(employee), syncedAt);
+    }
+
+    /**
+     * Stores complete employees from creation events, unless a newer version is held.
+     */
+    public void upsertAtVersion(Collection<VersionedEmployee> employees, LocalDateTime appliedAt) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(appliedAt);
+        jdbcTemplate.batchUpdate(UPSERT_AT_VERSION, employees, employees.size(),
+                (PreparedStatement ps, VersionedEmployee versioned) -> {
+                    setEmployee(ps, versioned.employee());
+                    ps.setLong(8, versioned.version());
+                    ps.setTimestamp(9, timestamp);
+                });
+    }
+
+    /**
+     * Overwrites only the given attributes of each employee, unless a newer version
+     * is held or the employee is deleted.
+     *
+     * @return the IDs of employees the replica does not hold at all, which a
+     * patch cannot be applied to
+     */
+    public List<Long> patchAtVersion(List<VersionedEmployee> patches, LocalDateTime appliedAt) {
+        if (patches.isEmpty()) {
+            return List.of();
+        }
+        Timestamp timestamp = Timestamp.valueOf(appliedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(PATCH_AT_VERSION, patches, patches.size(),
+                (PreparedStatement ps, VersionedEmployee patch) -> {
+                    EmployeeDTO employee = patch.employee();
+                    Set<EmployeeField> fields = patch.fields();
+                    ps.setBoolean(1, fields.contains(EmployeeField.EMPLOYEE_NUMBER));
+                    ps.setString(2, employee.getEmployeeId());
+                    ps.setBoolean(3, fields.contains(EmployeeField.FIRST_NAME));
+                    ps.setString(4, employee.getFirstName());
+                    ps.setBoolean(5, fields.contains(EmployeeField.LAST_NAME));
+                    ps.setString(6, employee.getLastName());
+                    ps.setBoolean(7, fields.contains(EmployeeField.SALARY));
+                    ps.setBigDecimal(8, employee.getSalary());
+                    ps.setBoolean(9, fields.contains(EmployeeField.DEPARTMENT_ID));
+                    setNullableLong(ps, 10, employee.getDepartmentId());
+                    ps.setBoolean(11, fields.contains(EmployeeField.STATUS));
+                    ps.setString(12, employee.getStatus());
+                    ps.setLong(13, patch.version());
+                    ps.setTimestamp(14, timestamp);
+                    ps.setLong(15, employee.getId());
+                    ps.setLong(16, patch.version());
+                });
+
+        List<Long> unapplied = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    unapplied.add(patches.get(index).employee().getId());
+                }
+                index++;
+            }
+        }
+        if (unapplied.isEmpty()) {
+            return List.of();
+        }
+        // Older versions and deleted employees were skipped on purpose; only rows
+        // that do not exist are reported
+        List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT id FROM employee_replica WHERE id = ANY(?)", Long.class, (Object) unapplied.toArray(Long[]::new));
+        unapplied.removeAll(existing);
+        return unapplied;
+    }
+
+    /**
+     * Marks employees deleted as of the given versions, keyed by employee ID.
+     */
+    public void markDeletedAtVersion(Map<Long, Long> versions, LocalDateTime appliedAt) {
+        if (versions.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(appliedAt);
+        jdbcTemplate.batchUpdate(MARK_DELETED_AT_VERSION, versions.entrySet(), versions.size(),
+                (PreparedStatement ps, Map.Entry<Long, Long> deleted) -> {
+                    ps.setLong(1, deleted.getKey());
+                    ps.setLong(2, deleted.getValue());
+                    ps.setTimestamp(3, timestamp);
+                });
+    }
+
+    public void markDeleted(Collection<Long> ids, LocalDateTime syncedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(syncedAt);
+        jdbcTemplate.batchUpdate(MARK_DELETED, ids, ids.size(), (PreparedStatement ps, Long id) -> {
+            ps.setLong(1, id);
+            ps.setTimestamp(2, timestamp);
+        });
+    }
+
+    /**
+     * Marks every employee not written since {@code before} as deleted; used at the
+     * end of a full resync for employees the HR service no longer returned.
+     *
+     * @return the number of employees removed
+     */
+    public int markDeletedIfNotSyncedSince(LocalDateTime before, LocalDateTime syncedAt) {
+        return jdbcTemplate.update("UPDATE employee_replica SET deleted = TRUE, synced_at = ? " +
+                "WHERE synced_at < ? AND NOT deleted", Timestamp.valueOf(syncedAt), Timestamp.valueOf(before));
+    }
+
+    public Optional<LocalDateTime> findLastFullSync() {
+        return jdbcTemplate.query("SELECT completed_at FROM employee_replica_sync WHERE id = 1",
+                (rs, rowNum) -> rs.getTimestamp("completed_at").toLocalDateTime()).stream().findFirst();
+    }
+
+    public void recordFullSync(LocalDateTime completedAt) {
+        jdbcTemplate.update("INSERT INTO employee_replica_sync (id, completed_at) VALUES (1, ?) " +
+                "ON CONFLICT (id) DO UPDATE SET completed_at = EXCLUDED.completed_at", Timestamp.valueOf(completedAt));
+    }
+
+    private void write(String sql, Collection<EmployeeDTO> employees, LocalDateTime syncedAt) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(syncedAt);
+        jdbcTemplate.batchUpdate(sql, employees, employees.size(), (PreparedStatement ps, EmployeeDTO employee) -> {
+            setEmployee(ps, employee);
+            ps.setTimestamp(8, timestamp);
+        });
+    }
+
+    private static void setEmployee(PreparedStatement ps, EmployeeDTO employee) throws SQLException {
+        ps.setLong(1, employee.getId());
+        ps.setString(2, employee.getEmployeeId());
+        ps.setString(3, employee.getFirstName());
+        ps.setString(4, employee.getLastName());
+        ps.setBigDecimal(5, employee.getSalary());
+        setNullableLong(ps, 6, employee.getDepartmentId());
+        ps.setString(7, employee.getStatus());
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    /**
+     * Replicated attributes of one employee at a version. For patches, only
+     * {@code fields} are taken from {@code employee}.
+     */
+    public record VersionedEmployee(EmployeeDTO employee, long version, Set<EmployeeField> fields) {
+    }
+}
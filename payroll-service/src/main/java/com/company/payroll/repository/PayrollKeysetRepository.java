@@ -0,0 +1,27 @@
+package com.company.payroll.repository;
+
+import com.company.common.repository.KeysetCursor;
+import com.company.payroll.entity.Payroll;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Keyset (seek) paging over payrolls, for listings too deep for offset paging.
+ */
+public interface PayrollKeysetRepository {
+
+    /**
+     * Returns up to {@code limit} payrolls positioned after {@code after} in
+     * ({@code sortKey}, ID) order.
+     *
+     * @param after the cursor of the previous page, or null for the first page
+     */
+    List<Payroll> findPage(PayrollSortKey sortKey, Sort.Direction direction, KeysetCursor after, int limit);
+
+    /**
+     * Planner's row estimate for the payrolls table, or -1 if the table has not
+     * been analyzed yet.
+     */
+    long estimateCount();
+}
@@ -0,0 +1,43 @@
+package com.company.payroll.repository;
+
+import com.company.common.repository.KeysetCursor;
+import com.company.common.repository.KeysetQueries;
+import com.company.payroll.entity.Payroll;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+class PayrollKeysetRepositoryImpl implements PayrollKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Payroll> findPage(PayrollSortKey sortKey, Sort.Direction direction, KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Payroll> query = cb.createQuery(Payroll.class);
+        Root<Payroll> payroll = query.from(Payroll.class);
+
+        if (after != null) {
+            query.where(KeysetQueries.after(cb, payroll, sortKey, direction, after));
+        }
+        query.orderBy(KeysetQueries.orderBy(cb, payroll, sortKey, direction));
+
+        return entityManager.createQuery(query.select(payroll))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long estimateCount() {
+        Object estimate = entityManager
+                .createNativeQuery("SELECT reltuples::bigint FROM pg_class WHERE oid = 'payrolls'::regclass")
+                .getSingleResult();
+        return ((Number) estimate).longValue();
+    }
+}
@@ -1,10 +1,13 @@
 package com.company.payroll.repository;
 
 import com.company.payroll.entity.Payroll;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,9 +15,15 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface PayrollRepository extends JpaRepository<Payroll, Long> {
+public interface PayrollRepository extends JpaRepository<Payroll, Long>, PayrollKeysetRepository {
+
+    /**
+     * Rows fetched per database round trip when streaming an export.
+     */
+    int EXPORT_FETCH_SIZE = 500;
 
     List<Payroll> findByEmployeeId(Long employeeId);
 
@@ -32,6 +41,22 @@ public interface PayrollRepository extends JpaRepository<Payroll, Long> {
     List<Payroll> findByPayPeriodRange(@Param("startDate") LocalDate startDate,
                                         @Param("endDate") LocalDate endDate);
 
+    /**
+     * Streams payrolls in ID order from a database cursor, with the same period
+     * filter as {@link #findByPayPeriodRange}; either bound may be null. Must be
+     * consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Payroll p WHERE " +
+           "(:startDate IS NULL OR p.payPeriodStart >= :startDate) AND " +
+           "(:endDate IS NULL OR p.payPeriodEnd <= :endDate) " +
+           "ORDER BY p.id")
+    Stream<Payroll> streamForExport(@Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+
     @Query("SELECT SUM(p.netSalary) FROM Payroll p WHERE p.status = 'PAID' AND " +
            "YEAR(p.paymentDate) = :year AND MONTH(p.paymentDate) = :month")
     BigDecimal getTotalPayrollForMonth(@Param("year") int year, @Param("month") int month);
@@ -0,0 +1,44 @@
+package com.company.payroll.repository;
+
+import com.company.payroll.entity.PayrollRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+    Page<PayrollRun> findAllByOrderByIdDesc(Pageable pageable);
+
+    List<PayrollRun> findByStatus(PayrollRun.RunStatus status);
+
+    /**
+     * Moves the checkpoint past a fully processed page and adds its counts.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PayrollRun r SET r.lastEmployeeId = :lastEmployeeId, " +
+           "r.processedCount = r.processedCount + :processed, " +
+           "r.createdCount = r.createdCount + :created, " +
+           "r.skippedCount = r.skippedCount + :skipped, " +
+           "r.failedCount = r.failedCount + :failed, " +
+           "r.elapsedMillis = r.elapsedMillis + :elapsedMillis, " +
+           "r.updatedAt = :now, r.version = r.version + 1 " +
+           "WHERE r.id = :id")
+    int recordProgress(@Param("id") Long id,
+                       @Param("lastEmployeeId") Long lastEmployeeId,
+                       @Param("processed") long processed,
+                       @Param("created") long created,
+                       @Param("skipped") long skipped,
+                       @Param("failed") long failed,
+                       @Param("elapsedMillis") long elapsedMillis,
+                       @Param("now") LocalDateTime now);
+}
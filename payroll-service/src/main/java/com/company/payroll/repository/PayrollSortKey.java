@@ -0,0 +1,42 @@
+package com.company.payroll.repository;
+
+import com.company.common.repository.KeysetSortKey;
+import com.company.payroll.entity.Payroll;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Columns payrolls can be keyset-paged by. Each is non-null and, together with
+ * the ID as tie-breaker, backed by an index.
+ */
+public enum PayrollSortKey implements KeysetSortKey<Payroll> {
+    ID("id", Payroll::getId, Long::valueOf),
+    PAY_PERIOD_START("payPeriodStart", Payroll::getPayPeriodStart, LocalDate::parse),
+    EMPLOYEE_ID("employeeId", Payroll::getEmployeeId, Long::valueOf);
+
+    private final String property;
+    private final Function<Payroll, Comparable<?>> reader;
+    private final Function<String, Comparable<?>> parser;
+
+    PayrollSortKey(String property, Function<Payroll, Comparable<?>> reader, Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.reader = reader;
+        this.parser = parser;
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String valueOf(Payroll payroll) {
+        return reader.apply(payroll).toString();
+    }
+
+    @Override
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
@@ -0,0 +1,72 @@
+package com.company.payroll.service;
+
+import com.company.payroll.entity.Payroll;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Derives gross and net salary from a payroll's components. Shared by single
+ * payroll creation and bulk payroll runs so both produce identical figures.
+ */
+@Component
+public class PayrollCalculator {
+
+    public void calculateSalary(Payroll payroll) {
+        // Gross Salary = Basic Salary + Allowances + Bonuses + Overtime Pay
+        BigDecimal grossSalary = payroll.getBasicSalary()
+                .add(payroll.getAllowances())
+                .add(payroll.getBonuses())
+                .add(payroll.getOvertimePay());
+        payroll.setGrossSalary(grossSalary);
+
+        // Net Salary = Gross Salary - Deductions - Tax
+        BigDecimal netSalary = grossSalary
+                .subtract(payroll.getDeductions())
+                .subtract(payroll.getTax());
+        payroll.setNetSalary(netSalary);
+    }
+
+    /**
+     * Same as {@link #calculateSalary} for each payroll, computed in cents by
+     * {@link SalaryKernel}. Payrolls with amounts finer than a cent, or whose
+     * totals would overflow, are calculated with {@code BigDecimal} instead.
+     */
+    public void calculateSalaries(List<Payroll> payrolls) {
+        SalaryBatch batch = new SalaryBatch(payrolls.size());
+        int[] slots = new int[payrolls.size()];
+        for (int i = 0; i < slots.length; i++) {
+            Payroll payroll = payrolls.get(i);
+            try {
+                slots[i] = batch.add(
+                        SalaryKernel.toCents(payroll.getBasicSalary()),
+                        SalaryKernel.toCents(payroll.getAllowances()),
+                        SalaryKernel.toCents(payroll.getBonuses()),
+                        SalaryKernel.toCents(payroll.getOvertimePay()),
+                        SalaryKernel.toCents(payroll.getDeductions()),
+                        SalaryKernel.toCents(payroll.getTax()));
+            } catch (ArithmeticException e) {
+                slots[i] = -1;
+            }
+        }
+
+        try {
+            SalaryKernel.calculate(batch);
+        } catch (ArithmeticException e) {
+            payrolls.forEach(this::calculateSalary);
+            return;
+        }
+
+        for (int i = 0; i < slots.length; i++) {
+            Payroll payroll = payrolls.get(i);
+            int slot = slots[i];
+            if (slot < 0) {
+                calculateSalary(payroll);
+            } else {
+                payroll.setGrossSalary(SalaryKernel.fromCents(batch.grossCents(slot)));
+                payroll.setNetSalary(SalaryKernel.fromCents(batch.netCents(slot)));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.company.payroll.service;
+
+import com.company.common.export.CsvColumn;
+import com.company.common.export.ExportFormat;
+import com.company.common.export.RowWriter;
+import com.company.payroll.dto.PayrollDTO;
+import com.company.payroll.entity.Payroll;
+import com.company.payroll.repository.PayrollRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams payrolls to an export file. Rows are read from a forward-only
+ * database cursor and written as they arrive; the persistence context is
+ * cleared and the output flushed after every fetch, so heap use does not grow
+ * with the number of payrolls.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PayrollExportService {
+
+    private static final List<CsvColumn<PayrollDTO>> CSV_COLUMNS = List.of(
+            new CsvColumn<>("id", PayrollDTO::getId),
+            new CsvColumn<>("employeeId", PayrollDTO::getEmployeeId),
+            new CsvColumn<>("employeeName", PayrollDTO::getEmployeeName),
+            new CsvColumn<>("payPeriodStart", PayrollDTO::getPayPeriodStart),
+            new CsvColumn<>("payPeriodEnd", PayrollDTO::getPayPeriodEnd),
+            new CsvColumn<>("basicSalary", PayrollDTO::getBasicSalary),
+            new CsvColumn<>("allowances", PayrollDTO::getAllowances),
+            new CsvColumn<>("bonuses", PayrollDTO::getBonuses),
+            new CsvColumn<>("overtimePay", PayrollDTO::getOvertimePay),
+            new CsvColumn<>("deductions", PayrollDTO::getDeductions),
+            new CsvColumn<>("tax", PayrollDTO::getTax),
+            new CsvColumn<>("grossSalary", PayrollDTO::getGrossSalary),
+            new CsvColumn<>("netSalary", PayrollDTO::getNetSalary),
+            new CsvColumn<>("status", PayrollDTO::getStatus),
+            new CsvColumn<>("paymentDate", PayrollDTO::getPaymentDate),
+            new CsvColumn<>("notes", PayrollDTO::getNotes),
+            new CsvColumn<>("createdAt", PayrollDTO::getCreatedAt),
+            new CsvColumn<>("updatedAt", PayrollDTO::getUpdatedAt));
+
+    private final PayrollRepository payrollRepository;
+    private final PayrollService payrollService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Writes every payroll whose period lies within the given bounds, in ID order.
+     *
+     * @return the number of payrolls written
+     */
+    @Transactional(readOnly = true)
+    public long exportPayrolls(LocalDate startDate, LocalDate endDate, ExportFormat format, OutputStream out)
+            throws IOException {
+        log.info("Exporting payrolls as {} ({} - {})", format, startDate, endDate);
+        long count = 0;
+        try (Stream<Payroll> payrolls = payrollRepository.streamForExport(startDate, endDate);
+             RowWriter<PayrollDTO> writer = RowWriter.open(format, out, objectMapper, PayrollDTO.class, CSV_COLUMNS)) {
+            Iterator<Payroll> rows = payrolls.iterator();
+            while (rows.hasNext()) {
+                writer.write(payrollService.mapToDTO(rows.next()));
+                if (++count % PayrollRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        log.info("Exported {} payrolls", count);
+        return count;
+    }
+}
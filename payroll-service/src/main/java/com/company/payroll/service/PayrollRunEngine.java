@@ -0,0 +1,292 @@
+package com.company.payroll.service;
+
+import com.company.payroll.config.PayrollRunProperties;
+import com.company.payroll.dto.EmployeeDTO;
+import com.company.payroll.entity.Payroll;
+import com.company.payroll.entity.PayrollRun;
+import com.company.payroll.replica.EmployeeReplica;
+import com.company.payroll.repository.PayrollJdbcRepository;
+import com.company.payroll.repository.PayrollRunRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes payroll runs.
+ *
+ * A run pages through the eligible employees in ID order. Each page is split
+ * into chunks that are calculated and batch-inserted in parallel on a bounded
+ * worker pool, while the next page is fetched from the employee replica (or the
+ * HR service, until the replica has been fully synced). Once every
+ * chunk of a page has committed, the page's last employee ID is stored as the
+ * run's checkpoint. At most two pages are held in memory regardless of run size.
+ *
+ * Inserts skip employees that already have a payroll for the period, so the
+ * page being processed when a run was interrupted is safe to process again.
+ */
+@Component
+@Slf4j
+public class PayrollRunEngine implements DisposableBean {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmployeeReplica employeeReplica;
+    private final PayrollRunRepository runRepository;
+    private final PayrollJdbcRepository payrollJdbcRepository;
+    private final PayrollCalculator payrollCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final PayrollRunProperties properties;
+    private final ThreadPoolExecutor runExecutor;
+    private final ThreadPoolExecutor workerExecutor;
+    private final Set<Long> activeRuns = ConcurrentHashMap.newKeySet();
+
+    private final Counter createdCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Timer chunkTimer;
+
+    public PayrollRunEngine(EmployeeReplica employeeReplica,
+                            PayrollRunRepository runRepository,
+                            PayrollJdbcRepository payrollJdbcRepository,
+                            PayrollCalculator payrollCalculator,
+                            PlatformTransactionManager transactionManager,
+                            PayrollRunProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.employeeReplica = employeeReplica;
+        this.runRepository = runRepository;
+        this.payrollJdbcRepository = payrollJdbcRepository;
+        this.payrollCalculator = payrollCalculator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.runExecutor = new ThreadPoolExecutor(properties.getMaxConcurrentRuns(), properties.getMaxConcurrentRuns(),
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("payroll-run-"));
+        this.workerExecutor = new ThreadPoolExecutor(properties.getWorkerThreads(), properties.getWorkerThreads(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getWorkerThreads() * 4),
+                new CustomizableThreadFactory("payroll-run-worker-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.runExecutor.allowCoreThreadTimeOut(true);
+        this.workerExecutor.allowCoreThreadTimeOut(true);
+
+        this.createdCounter = employeeCounter(meterRegistry, "created");
+        this.skippedCounter = employeeCounter(meterRegistry, "skipped");
+        this.failedCounter = employeeCounter(meterRegistry, "failed");
+        this.chunkTimer = Timer.builder("payroll.run.chunk")
+                .description("Time to calculate and insert one chunk of a payroll run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the run for execution from its checkpoint.
+     *
+     * @return false if the run is already queued or executing on this instance
+     */
+    public boolean submit(Long runId) {
+        if (!activeRuns.add(runId)) {
+            return false;
+        }
+        runExecutor.execute(() -> {
+            try {
+                execute(runId);
+            } finally {
+                activeRuns.remove(runId);
+            }
+        });
+        return true;
+    }
+
+    public boolean isActive(Long runId) {
+        return activeRuns.contains(runId);
+    }
+
+    @Override
+    public void destroy() {
+        runExecutor.shutdownNow();
+        workerExecutor.shutdownNow();
+    }
+
+    private void execute(Long runId) {
+        PayrollRun run = runRepository.findById(runId).orElse(null);
+        if (run == null) {
+            log.warn("Payroll run {} no longer exists", runId);
+            return;
+        }
+
+        run.setStatus(PayrollRun.RunStatus.RUNNING);
+        run.setErrorMessage(null);
+        if (run.getStartedAt() == null) {
+            run.setStartedAt(LocalDateTime.now());
+        }
+        run = runRepository.save(run);
+        log.info("Starting payroll run {} for {} - {} from employee ID {}",
+                runId, run.getPayPeriodStart(), run.getPayPeriodEnd(), run.getLastEmployeeId());
+
+        try {
+            processFromCheckpoint(run);
+            run = runRepository.findById(runId).orElseThrow();
+            run.setStatus(PayrollRun.RunStatus.COMPLETED);
+            run.setCompletedAt(LocalDateTime.now());
+            run = runRepository.save(run);
+            log.info("Payroll run {} completed: {} processed, {} created, {} skipped, {} failed in {} ms",
+                    runId, run.getProcessedCount(), run.getCreatedCount(), run.getSkippedCount(),
+                    run.getFailedCount(), run.getElapsedMillis());
+        } catch (RuntimeException e) {
+            log.error("Payroll run {} failed; it can be resumed from its checkpoint", runId, e);
+            PayrollRun failed = runRepository.findById(runId).orElseThrow();
+            failed.setStatus(PayrollRun.RunStatus.FAILED);
+            failed.setErrorMessage(truncate(String.valueOf(e.getMessage())));
+            runRepository.save(failed);
+        }
+    }
+
+    private void processFromCheckpoint(PayrollRun run) {
+        long pageStartedAt = System.nanoTime();
+        List<EmployeeDTO> page = fetchPage(run, run.getLastEmployeeId());
+
+        while (!page.isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Payroll run interrupted");
+            }
+            List<Future<ChunkResult>> chunks = submitChunks(run, page);
+            Long pageLastId = page.get(page.size() - 1).getId();
+
+            // Fetch the next page while the workers process this one. Only an empty
+            // page ends the run: the HR service may cap a page below the page size.
+            List<EmployeeDTO> next = List.of();
+            RuntimeException fetchFailure = null;
+            try {
+                next = fetchPage(run, pageLastId);
+            } catch (RuntimeException e) {
+                fetchFailure = e;
+            }
+
+            ChunkResult result = await(chunks);
+            long now = System.nanoTime();
+            runRepository.recordProgress(run.getId(), pageLastId, page.size(),
+                    result.created(), result.skipped(), result.failed(),
+                    TimeUnit.NANOSECONDS.toMillis(now - pageStartedAt), LocalDateTime.now());
+            log.debug("Payroll run {} checkpoint at employee ID {}", run.getId(), pageLastId);
+
+            if (fetchFailure != null) {
+                throw fetchFailure;
+            }
+            pageStartedAt = now;
+            page = next;
+        }
+    }
+
+    private List<EmployeeDTO> fetchPage(PayrollRun run, Long afterId) {
+        return employeeReplica.scanEmployees(afterId, run.getDepartmentId(),
+                run.getEmployeeStatus(), properties.getPageSize());
+    }
+
+    private List<Future<ChunkResult>> submitChunks(PayrollRun run, List<EmployeeDTO> page) {
+        int chunkSize = properties.getChunkSize();
+        List<Future<ChunkResult>> chunks = new ArrayList<>((page.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < page.size(); from += chunkSize) {
+            List<EmployeeDTO> chunk = page.subList(from, Math.min(from + chunkSize, page.size()));
+            chunks.add(workerExecutor.submit(() -> chunkTimer.recordCallable(() -> processChunk(run, chunk))));
+        }
+        return chunks;
+    }
+
+    private ChunkResult processChunk(PayrollRun run, List<EmployeeDTO> employees) {
+        List<Payroll> payrolls = new ArrayList<>(employees.size());
+        int failed = 0;
+        for (EmployeeDTO employee : employees) {
+            if (employee.getSalary() == null) {
+                log.warn("Payroll run {} skipping employee {}: no salary on record", run.getId(), employee.getId());
+                failed++;
+                continue;
+            }
+            Payroll payroll = Payroll.builder()
+                    .employeeId(employee.getId())
+                    .employeeName(employee.getFirstName() + " " + employee.getLastName())
+                    .payPeriodStart(run.getPayPeriodStart())
+                    .payPeriodEnd(run.getPayPeriodEnd())
+                    .basicSalary(employee.getSalary())
+                    .allowances(BigDecimal.ZERO)
+                    .bonuses(BigDecimal.ZERO)
+                    .overtimePay(BigDecimal.ZERO)
+                    .deductions(BigDecimal.ZERO)
+                    .tax(BigDecimal.ZERO)
+                    .status(Payroll.PayrollStatus.DRAFT)
+                    .notes("Payroll run #" + run.getId())
+                    .build();
+            payrolls.add(payroll);
+        }
+        payrollCalculator.calculateSalaries(payrolls);
+
+        Integer created = transactionTemplate.execute(status -> payrollJdbcRepository.insertIfAbsent(payrolls));
+        int inserted = created != null ? created : 0;
+        int skipped = payrolls.size() - inserted;
+
+        createdCounter.increment(inserted);
+        skippedCounter.increment(skipped);
+        failedCounter.increment(failed);
+        return new ChunkResult(inserted, skipped, failed);
+    }
+
+    private ChunkResult await(List<Future<ChunkResult>> chunks) {
+        long created = 0;
+        long skipped = 0;
+        long failed = 0;
+        RuntimeException failure = null;
+        // Wait for every chunk, even after a failure, so no worker is still writing
+        // when the checkpoint is stored or the run is marked failed
+        for (Future<ChunkResult> chunk : chunks) {
+            try {
+                ChunkResult result = chunk.get();
+                created += result.created();
+                skipped += result.skipped();
+                failed += result.failed();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                chunks.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("Payroll run interrupted", e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause
+                            ? cause : new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return new ChunkResult(created, skipped, failed);
+    }
+
+    private static Counter employeeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("payroll.run.employees")
+                .description("Employees handled by payroll runs")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record ChunkResult(long created, long skipped, long failed) {
+    }
+}
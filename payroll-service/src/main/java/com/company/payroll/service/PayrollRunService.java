@@ -0,0 +1,109 @@
+package com.company.payroll.service;
+
+import com.company.payroll.dto.PayrollRunDTO;
+import com.company.payroll.dto.PayrollRunRequest;
+import com.company.payroll.entity.PayrollRun;
+import com.company.payroll.repository.PayrollRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PayrollRunService {
+
+    private final PayrollRunRepository runRepository;
+    private final PayrollRunEngine runEngine;
+
+    @Transactional
+    public PayrollRunDTO startRun(PayrollRunRequest request) {
+        if (request.getPayPeriodEnd().isBefore(request.getPayPeriodStart())) {
+            throw new RuntimeException("Pay period end must not be before pay period start");
+        }
+        log.info("Starting payroll run for {} - {} (department {}, status {})",
+                request.getPayPeriodStart(), request.getPayPeriodEnd(),
+                request.getDepartmentId(), request.getEmployeeStatus());
+
+        PayrollRun run = runRepository.save(PayrollRun.builder()
+                .payPeriodStart(request.getPayPeriodStart())
+                .payPeriodEnd(request.getPayPeriodEnd())
+                .departmentId(request.getDepartmentId())
+                .employeeStatus(request.getEmployeeStatus())
+                .status(PayrollRun.RunStatus.PENDING)
+                .build());
+
+        submitAfterCommit(run.getId());
+        return mapToDTO(run);
+    }
+
+    @Transactional
+    public PayrollRunDTO resumeRun(Long id) {
+        log.info("Resuming payroll run with ID: {}", id);
+        PayrollRun run = runRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Payroll run not found with id: " + id));
+
+        if (run.getStatus() == PayrollRun.RunStatus.COMPLETED) {
+            throw new RuntimeException("Payroll run " + id + " is already completed");
+        }
+        if (runEngine.isActive(id)) {
+            throw new RuntimeException("Payroll run " + id + " is already in progress");
+        }
+
+        // A RUNNING run that is not active here was interrupted by a restart
+        run.setStatus(PayrollRun.RunStatus.PENDING);
+        submitAfterCommit(id);
+        return mapToDTO(runRepository.save(run));
+    }
+
+    public PayrollRunDTO getRun(Long id) {
+        PayrollRun run = runRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Payroll run not found with id: " + id));
+        return mapToDTO(run);
+    }
+
+    public Page<PayrollRunDTO> getAllRuns(Pageable pageable) {
+        return runRepository.findAllByOrderByIdDesc(pageable).map(this::mapToDTO);
+    }
+
+    private void submitAfterCommit(Long runId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runEngine.submit(runId);
+            }
+        });
+    }
+
+    private PayrollRunDTO mapToDTO(PayrollRun run) {
+        Double employeesPerSecond = run.getElapsedMillis() > 0
+                ? run.getProcessedCount() * 1000.0 / run.getElapsedMillis()
+                : null;
+        return PayrollRunDTO.builder()
+                .id(run.getId())
+                .payPeriodStart(run.getPayPeriodStart())
+                .payPeriodEnd(run.getPayPeriodEnd())
+                .departmentId(run.getDepartmentId())
+                .employeeStatus(run.getEmployeeStatus())
+                .status(run.getStatus())
+                .lastEmployeeId(run.getLastEmployeeId())
+                .processedCount(run.getProcessedCount())
+                .createdCount(run.getCreatedCount())
+                .skippedCount(run.getSkippedCount())
+                .failedCount(run.getFailedCount())
+                .elapsedMillis(run.getElapsedMillis())
+                .employeesPerSecond(employeesPerSecond)
+                .errorMessage(run.getErrorMessage())
+                .startedAt(run.getStartedAt())
+                .completedAt(run.getCompletedAt())
+                .createdAt(run.getCreatedAt())
+                .updatedAt(run.getUpdatedAt())
+                .build();
+    }
+}
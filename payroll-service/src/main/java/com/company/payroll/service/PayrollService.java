@@ -1,17 +1,24 @@
 package com.company.payroll.service;
 
-import com.company.payroll.client.HrServiceClient;
+import com.company.common.dto.CursorPage;
+import com.company.common.repository.KeysetCursor;
 import com.company.payroll.dto.EmployeeDTO;
 import com.company.payroll.dto.PayrollDTO;
 import com.company.payroll.entity.Payroll;
+import com.company.payroll.exception.DuplicatePayrollException;
+import com.company.payroll.replica.EmployeeReplica;
 import com.company.payroll.repository.PayrollRepository;
+import com.company.payroll.repository.PayrollSortKey;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,8 +33,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PayrollService {
 
+    /**
+     * Unique index allowing one payroll per employee and pay period.
+     */
+    private static final String PAY_PERIOD_CONSTRAINT = "idx_employee_pay_period";
+
     private final PayrollRepository payrollRepository;
-    private final HrServiceClient hrServiceClient;
+    private final EmployeeReplica employeeReplica;
+    private final PayrollCalculator payrollCalculator;
 
     @Transactional
     @CacheEvict(value = "payrolls", allEntries = true)
@@ -35,8 +48,13 @@ public class PayrollService {
     public PayrollDTO createPayroll(PayrollDTO payrollDTO) {
         log.info("Creating payroll for employee ID: {}", payrollDTO.getEmployeeId());
 
-        // Fetch employee details from HR Service
-        EmployeeDTO employee = hrServiceClient.getEmployeeById(payrollDTO.getEmployeeId()).getData();
+        if (payrollRepository.findByEmployeeIdAndPayPeriod(payrollDTO.getEmployeeId(),
+                payrollDTO.getPayPeriodStart(), payrollDTO.getPayPeriodEnd()).isPresent()) {
+            throw duplicatePayroll(payrollDTO);
+        }
+
+        // Employee details from the local replica, or from HR Service if it does not hold them yet
+        EmployeeDTO employee = employeeReplica.getEmployee(payrollDTO.getEmployeeId());
 
         Payroll payroll = Payroll.builder()
                 .employeeId(payrollDTO.getEmployeeId())
@@ -54,30 +72,26 @@ public class PayrollService {
                 .build();
 
         // Calculate gross and net salary
-        calculateSalary(payroll);
-
-        Payroll savedPayroll = payrollRepository.save(payroll);
+        payrollCalculator.calculateSalary(payroll);
+
+        // Flushed here so that a payroll inserted concurrently for the same period fails
+        // in this method, where it is reported as a conflict, rather than at commit
+        Payroll savedPayroll;
+        try {
+            savedPayroll = payrollRepository.saveAndFlush(payroll);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && PAY_PERIOD_CONSTRAINT.equals(violation.getConstraintName())) {
+                throw duplicatePayroll(payrollDTO);
+            }
+            throw e;
+        }
         log.info("Payroll created successfully with ID: {}", savedPayroll.getId());
 
         return mapToDTO(savedPayroll);
     }
 
-    private void calculateSalary(Payroll payroll) {
-        // Gross Salary = Basic Salary + Allowances + Bonuses + Overtime Pay
-        BigDecimal grossSalary = payroll.getBasicSalary()
-                .add(payroll.getAllowances())
-                .add(payroll.getBonuses())
-                .add(payroll.getOvertimePay());
-        payroll.setGrossSalary(grossSalary);
-
-        // Net Salary = Gross Salary - Deductions - Tax
-        BigDecimal netSalary = grossSalary
-                .subtract(payroll.getDeductions())
-                .subtract(payroll.getTax());
-        payroll.setNetSalary(netSalary);
-    }
-
-    @Cacheable(value = "payrolls", key = "#id")
+    @Cacheable(value = "payrolls", key = "#id", sync = true)
     public PayrollDTO getPayrollById(Long id) {
         log.info("Fetching payroll with ID: {}", id);
         Payroll payroll = payrollRepository.findById(id)
@@ -90,6 +104,51 @@ public class PayrollService {
         return payrollRepository.findAll(pageable).map(this::mapToDTO);
     }
 
+    /**
+     * Keyset-paged listing. Each page costs the same regardless of depth.
+     *
+     * @param cursor the previous page's {@code nextCursor}, or null for the first page
+     */
+    public CursorPage<PayrollDTO> getPayrollsPage(String cursor, PayrollSortKey sortKey, Sort.Direction direction,
+                                                  int size, CursorPage.TotalMode total) {
+        log.info("Fetching payrolls by {} {} after cursor", sortKey, direction);
+        KeysetCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = KeysetCursor.decode(cursor, sortKey, direction);
+        }
+
+        // One extra row tells whether another page follows without counting
+        List<Payroll> rows = payrollRepository.findPage(sortKey, direction, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Payroll> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Payroll last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(sortKey.name(), direction, last.getId(), sortKey.valueOf(last)).encode();
+        }
+
+        CursorPage<PayrollDTO> result = CursorPage.<PayrollDTO>builder()
+                .content(page.stream().map(this::mapToDTO).collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+
+        if (total == CursorPage.TotalMode.ESTIMATE) {
+            long estimate = payrollRepository.estimateCount();
+            if (estimate >= 0) {
+                result.setTotalElements(estimate);
+                result.setTotalEstimated(true);
+                return result;
+            }
+        }
+        if (total != CursorPage.TotalMode.NONE) {
+            result.setTotalElements(payrollRepository.count());
+        }
+        return result;
+    }
+
     public List<PayrollDTO> getPayrollsByEmployeeId(Long employeeId) {
         log.info("Fetching payrolls for employee ID: {}", employeeId);
         return payrollRepository.findByEmployeeId(employeeId)
@@ -129,7 +188,7 @@ public class PayrollService {
         return mapToDTO(updatedPayroll);
     }
 
-    private PayrollDTO mapToDTO(Payroll payroll) {
+    PayrollDTO mapToDTO(Payroll payroll) {
         return PayrollDTO.builder()
                 .id(payroll.getId())
                 .employeeId(payroll.getEmployeeId())
@@ -152,9 +211,19 @@ public class PayrollService {
                 .build();
     }
 
+    private static DuplicatePayrollException duplicatePayroll(PayrollDTO payrollDTO) {
+        return new DuplicatePayrollException("Payroll already exists for employee " + payrollDTO.getEmployeeId()
+                + " and pay period " + payrollDTO.getPayPeriodStart() + " to " + payrollDTO.getPayPeriodEnd());
+    }
+
     // Fallback method for Circuit Breaker
     public PayrollDTO createPayrollFallback(PayrollDTO payrollDTO, Exception ex) {
         log.error("HR Service is unavailable. Using fallback method.", ex);
         throw new RuntimeException("HR Service is currently unavailable. Please try again later.");
     }
+
+    // A duplicate is the caller's error, not an HR Service failure, so it is passed through
+    public PayrollDTO createPayrollFallback(PayrollDTO payrollDTO, DuplicatePayrollException ex) {
+        throw ex;
+    }
 }
@@ -0,0 +1,104 @@
+package com.company.payroll.service;
+
+import java.util.Arrays;
+
+/**
+ * Salary components of many payrolls held as parallel arrays of cents, so a
+ * batch can be calculated by {@link SalaryKernel} without creating objects per
+ * record. A batch is not thread-safe; use one per worker task.
+ */
+public final class SalaryBatch {
+
+    // Package-private so SalaryKernel can loop over the arrays directly
+    long[] basic;
+    long[] allowances;
+    long[] bonuses;
+    long[] overtime;
+    long[] deductions;
+    long[] tax;
+
+    long[] gross;
+    long[] withholding;
+    long[] net;
+
+    private int size;
+
+    public SalaryBatch(int capacity) {
+        int initial = Math.max(capacity, 1);
+        basic = new long[initial];
+        allowances = new long[initial];
+        bonuses = new long[initial];
+        overtime = new long[initial];
+        deductions = new long[initial];
+        tax = new long[initial];
+        gross = new long[initial];
+        withholding = new long[initial];
+        net = new long[initial];
+    }
+
+    /**
+     * Appends one payroll's components, all in cents.
+     *
+     * @return the index of the record in this batch
+     */
+    public int add(long basicCents, long allowancesCents, long bonusesCents,
+                   long overtimeCents, long deductionsCents, long taxCents) {
+        if (size == basic.length) {
+            grow();
+        }
+        int index = size++;
+        basic[index] = basicCents;
+        allowances[index] = allowancesCents;
+        bonuses[index] = bonusesCents;
+        overtime[index] = overtimeCents;
+        deductions[index] = deductionsCents;
+        tax[index] = taxCents;
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Empties the batch, keeping its arrays for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public long grossCents(int index) {
+        return gross[checkIndex(index)];
+    }
+
+    /**
+     * Deductions plus tax.
+     */
+    public long withholdingCents(int index) {
+        return withholding[checkIndex(index)];
+    }
+
+    public long netCents(int index) {
+        return net[checkIndex(index)];
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for batch of " + size);
+        }
+        return index;
+    }
+
+    private void grow() {
+        int capacity = basic.length * 2;
+        basic = Arrays.copyOf(basic, capacity);
+        allowances = Arrays.copyOf(allowances, capacity);
+        bonuses = Arrays.copyOf(bonuses, capacity);
+        overtime = Arrays.copyOf(overtime, capacity);
+        deductions = Arrays.copyOf(deductions, capacity);
+        tax = Arrays.copyOf(tax, capacity);
+        gross = Arrays.copyOf(gross, capacity);
+        withholding = Arrays.copyOf(withholding, capacity);
+        net = Arrays.copyOf(net, capacity);
+    }
+}
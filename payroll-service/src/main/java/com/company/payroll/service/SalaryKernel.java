@@ -0,0 +1,83 @@
+package com.company.payroll.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Salary arithmetic on amounts held as {@code long} cents.
+ *
+ * Adding and subtracting {@link BigDecimal}s never rounds, so for amounts with
+ * at most two decimal places the results here are numerically identical to the
+ * {@code BigDecimal} formulas in {@link PayrollCalculator}. Amounts with finer
+ * precision are rejected by {@link #toCents} rather than rounded, and every
+ * operation fails with {@link ArithmeticException} instead of overflowing.
+ */
+public final class SalaryKernel {
+
+    /**
+     * Scale of the payroll amount columns.
+     */
+    public static final int CENTS_SCALE = 2;
+
+    private SalaryKernel() {
+    }
+
+    /**
+     * Converts an amount to cents without rounding.
+     *
+     * @throws ArithmeticException if the amount has a non-zero digit beyond the
+     *                             cents or does not fit in a {@code long}
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount.signum() == 0) {
+            return 0L;
+        }
+        if (amount.scale() == 0) {
+            return Math.multiplyExact(amount.longValueExact(), 100L);
+        }
+        return amount.movePointRight(CENTS_SCALE).longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    /**
+     * Basic salary + allowances + bonuses + overtime pay.
+     */
+    public static long gross(long basic, long allowances, long bonuses, long overtime) {
+        return Math.addExact(Math.addExact(Math.addExact(basic, allowances), bonuses), overtime);
+    }
+
+    /**
+     * Gross salary - deductions - tax.
+     */
+    public static long net(long gross, long deductions, long tax) {
+        return Math.subtractExact(Math.subtractExact(gross, deductions), tax);
+    }
+
+    /**
+     * Calculates gross, withholding (deductions + tax) and net salary for every
+     * record in the batch.
+     *
+     * @throws ArithmeticException if any result overflows; the batch's results
+     *                             are then incomplete
+     */
+    public static void calculate(SalaryBatch batch) {
+        long[] basic = batch.basic;
+        long[] allowances = batch.allowances;
+        long[] bonuses = batch.bonuses;
+        long[] overtime = batch.overtime;
+        long[] deductions = batch.deductions;
+        long[] tax = batch.tax;
+        long[] gross = batch.gross;
+        long[] withholding = batch.withholding;
+        long[] net = batch.net;
+
+        for (int i = 0, size = batch.size(); i < size; i++) {
+            long g = gross(basic[i], allowances[i], bonuses[i], overtime[i]);
+            gross[i] = g;
+            withholding[i] = Math.addExact(deductions[i], tax[i]);
+            net[i] = net(g, deductions[i], tax[i]);
+        }
+    }
+}
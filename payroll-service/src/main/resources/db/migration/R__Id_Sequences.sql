@@ -0,0 +1,15 @@
+-- R__Id_Sequences.sql
+
+-- Payroll IDs come from the BIGSERIAL sequence through Hibernate's pooled optimizer:
+-- each nextval hands out the block (value - increment, value], so a batch of inserts
+-- needs one sequence call per block instead of one IDENTITY round trip per row.
+-- The increment is spring.flyway.placeholders.id-allocation-size, and this script runs
+-- again whenever it changes. Change it only with every instance stopped: instances
+-- still using the old block size would hand out overlapping IDs.
+--
+-- setval leaves the sequence at or above the highest existing ID, and marks it as
+-- called, so the next block starts above every row already inserted.
+
+ALTER SEQUENCE payrolls_id_seq INCREMENT BY ${id-allocation-size};
+SELECT setval('payrolls_id_seq', GREATEST((SELECT last_value FROM payrolls_id_seq),
+                                          (SELECT COALESCE(MAX(id), 0) FROM payrolls), 1));
@@ -0,0 +1,28 @@
+-- V2__Payroll_Runs.sql
+
+-- Bulk payroll runs; last_employee_id is the checkpoint a run resumes from
+CREATE TABLE payroll_runs (
+    id BIGSERIAL PRIMARY KEY,
+    pay_period_start DATE NOT NULL,
+    pay_period_end DATE NOT NULL,
+    department_id BIGINT,
+    employee_status VARCHAR(20),
+    status VARCHAR(20) NOT NULL,
+    last_employee_id BIGINT NOT NULL DEFAULT 0,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    skipped_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    elapsed_millis BIGINT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT
+);
+
+CREATE INDEX idx_payroll_run_status ON payroll_runs(status);
+
+-- Lets a run skip employees that already have a payroll for the period
+CREATE INDEX idx_employee_pay_period ON payrolls(employee_id, pay_period_start, pay_period_end);
@@ -0,0 +1,5 @@
+-- V3__Keyset_Indexes.sql
+
+-- Seek indexes for keyset-paged payroll listings: sort key, then ID as tie-breaker
+CREATE INDEX idx_payroll_pay_period_start_id ON payrolls(pay_period_start, id);
+CREATE INDEX idx_payroll_employee_id_id ON payrolls(employee_id, id);
@@ -0,0 +1,26 @@
+-- V4__Employee_Replica.sql
+
+-- Local copy of the HR employee fields payroll needs, kept current from
+-- employee-events. Deleted employees stay as tombstones so that an older copy
+-- arriving late cannot bring them back; synced_at orders competing writes.
+CREATE TABLE employee_replica (
+    id BIGINT PRIMARY KEY,
+    employee_number VARCHAR(20),
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    salary DECIMAL(12, 2),
+    department_id BIGINT,
+    status VARCHAR(20),
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    synced_at TIMESTAMP NOT NULL
+);
+
+-- Payroll runs limited to one department, in ID order
+CREATE INDEX idx_employee_replica_department_id ON employee_replica(department_id, id) WHERE NOT deleted;
+
+-- When the replica last finished a full resync from the HR service; runs only
+-- read the replica once it has
+CREATE TABLE employee_replica_sync (
+    id INT PRIMARY KEY CHECK (id = 1),
+    completed_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,5 @@
+-- V5__Employee_Replica_Version.sql
+
+-- Employee version of the last event applied to a row, so redelivered or older
+-- events are ignored. Null for rows loaded from the HR service, which any event replaces.
+ALTER TABLE employee_replica ADD COLUMN version BIGINT;
@@ -0,0 +1,24 @@
+-- V6__Unique_Employee_Pay_Period.sql
+
+-- One payroll per employee and pay period, so concurrent runs cannot both insert
+-- one. Duplicates written before the constraint are not removed here: they may
+-- already be approved or paid, so they are resolved by a reviewed data fix and
+-- this migration refuses to run until none are left.
+DO $$
+DECLARE
+    duplicate_periods BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO duplicate_periods
+    FROM (SELECT 1
+          FROM payrolls
+          GROUP BY employee_id, pay_period_start, pay_period_end
+          HAVING COUNT(*) > 1) duplicates;
+
+    IF duplicate_periods > 0 THEN
+        RAISE EXCEPTION 'V6: % employee pay period(s) have more than one payroll; resolve them before adding the unique index', duplicate_periods
+            USING HINT = 'SELECT employee_id, pay_period_start, pay_period_end, array_agg(id ORDER BY id) FROM payrolls GROUP BY 1, 2, 3 HAVING COUNT(*) > 1';
+    END IF;
+END $$;
+
+DROP INDEX idx_employee_pay_period;
+CREATE UNIQUE INDEX idx_employee_pay_period ON payrolls(employee_id, pay_period_start, pay_period_end);
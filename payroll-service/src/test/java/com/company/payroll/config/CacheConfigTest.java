@@ -0,0 +1,37 @@
+package com.company.payroll.config;
+
+import com.company.common.cache.CachedValue;
+import com.company.payroll.dto.PayrollDTO;
+import com.company.payroll.entity.Payroll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheConfigTest {
+
+    private final RedisSerializer<Object> serializer = new CacheConfig().redisJsonSerializer();
+
+    @Test
+    void cachedValueRoundTripsWithItsTypes() {
+        PayrollDTO payroll = PayrollDTO.builder()
+                .id(7L)
+                .employeeId(42L)
+                .employeeName("Ada Lovelace")
+                .payPeriodStart(LocalDate.of(2024, 1, 1))
+                .payPeriodEnd(LocalDate.of(2024, 1, 31))
+                .basicSalary(new BigDecimal("7083.33"))
+                .netSalary(new BigDecimal("5312.50"))
+                .status(Payroll.PayrollStatus.DRAFT)
+                .build();
+        CachedValue written = new CachedValue(payroll, 1_700_000_000_000L);
+
+        Object read = serializer.deserialize(serializer.serialize(written));
+
+        assertThat(read).isInstanceOf(CachedValue.class).isEqualTo(written);
+        assertThat(((CachedValue) read).getValue()).isInstanceOf(PayrollDTO.class);
+    }
+}
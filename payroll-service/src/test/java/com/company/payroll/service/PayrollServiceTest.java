@@ -0,0 +1,84 @@
+package com.company.payroll.service;
+
+import com.company.payroll.dto.EmployeeDTO;
+import com.company.payroll.dto.PayrollDTO;
+import com.company.payroll.entity.Payroll;
+import com.company.payroll.exception.DuplicatePayrollException;
+import com.company.payroll.replica.EmployeeReplica;
+import com.company.payroll.repository.PayrollRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PayrollServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+
+    private final PayrollRepository payrollRepository = mock(PayrollRepository.class);
+    private final EmployeeReplica employeeReplica = mock(EmployeeReplica.class);
+    private final PayrollService payrollService =
+            new PayrollService(payrollRepository, employeeReplica, new PayrollCalculator());
+
+    @Test
+    void existingPayrollForThePeriodIsRejectedBeforeLookingUpTheEmployee() {
+        when(payrollRepository.findByEmployeeIdAndPayPeriod(42L, START, END))
+                .thenReturn(Optional.of(new Payroll()));
+
+        assertThatThrownBy(() -> payrollService.createPayroll(request()))
+                .isInstanceOf(DuplicatePayrollException.class);
+        verifyNoInteractions(employeeReplica);
+    }
+
+    @Test
+    void concurrentInsertForThePeriodIsReportedAsDuplicate() {
+        givenNoExistingPayroll();
+        when(payrollRepository.saveAndFlush(any())).thenThrow(violationOf("idx_employee_pay_period"));
+
+        assertThatThrownBy(() -> payrollService.createPayroll(request()))
+                .isInstanceOf(DuplicatePayrollException.class);
+    }
+
+    @Test
+    void otherConstraintViolationsPropagate() {
+        givenNoExistingPayroll();
+        when(payrollRepository.saveAndFlush(any())).thenThrow(violationOf("payrolls_employee_id_not_null"));
+
+        assertThatThrownBy(() -> payrollService.createPayroll(request()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void givenNoExistingPayroll() {
+        when(payrollRepository.findByEmployeeIdAndPayPeriod(42L, START, END)).thenReturn(Optional.empty());
+        when(employeeReplica.getEmployee(42L)).thenReturn(EmployeeDTO.builder()
+                .id(42L)
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .salary(new BigDecimal("7083.33"))
+                .build());
+    }
+
+    private static DataIntegrityViolationException violationOf(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+
+    private static PayrollDTO request() {
+        return PayrollDTO.builder()
+                .employeeId(42L)
+                .payPeriodStart(START)
+                .payPeriodEnd(END)
+                .build();
+    }
+}
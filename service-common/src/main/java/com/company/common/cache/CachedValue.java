@@ -0,0 +1,26 @@
+package com.company.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Envelope stored in the cache so that any replica can tell when an entry is
+ * due for a background refresh, independently of the Redis TTL.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue {
+
+    private Object value;
+
+    /**
+     * Epoch millis after which a read should trigger a background reload.
+     */
+    private long refreshAt;
+
+    public boolean isRefreshDue(long now) {
+        return now >= refreshAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.common.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adds a random extension of up to {@code jitter * ttl} to every entry so that
+ * entries written in the same burst do not all expire in the same instant.
+ */
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final long ttlMillis;
+    private final long maxJitterMillis;
+
+    public JitteredTtlFunction(Duration ttl, double jitter) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxJitterMillis = (long) (ttlMillis * Math.max(jitter, 0));
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        if (maxJitterMillis == 0) {
+            return Duration.ofMillis(ttlMillis);
+        }
+        return Duration.ofMillis(ttlMillis + ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+    }
+}
@@ -0,0 +1,195 @@
+package com.company.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Decorator that protects a cache against stampedes.
+ *
+ * For {@code @Cacheable(sync = true)} lookups only one caller per key on this
+ * instance runs the loader; concurrent callers wait for its result. Entries are
+ * stored as {@link CachedValue} envelopes, and once an entry passes its refresh
+ * point the next read returns it unchanged and reloads it on the refresh
+ * executor, so the hard TTL is rarely reached by hot keys.
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration refreshAfter;
+    private final Executor refreshExecutor;
+    private final Counter coalescedLoads;
+    private final Counter refreshes;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public RefreshAheadCache(Cache delegate,
+                             Duration refreshAfter,
+                             Executor refreshExecutor,
+                             Counter coalescedLoads,
+                             Counter refreshes) {
+        this.delegate = delegate;
+        this.refreshAfter = refreshAfter;
+        this.refreshExecutor = refreshExecutor;
+        this.coalescedLoads = coalescedLoads;
+        this.refreshes = refreshes;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    public Cache getTargetCache() {
+        return delegate;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        return wrapper != null ? new SimpleValueWrapper(unwrap(wrapper.get())) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            Object stored = wrapper.get();
+            if (stored instanceof CachedValue cachedValue && cachedValue.isRefreshDue(System.currentTimeMillis())) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) unwrap(stored);
+        }
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, wrap(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, wrap(value));
+        return existing != null ? new SimpleValueWrapper(unwrap(existing.get())) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(String.valueOf(key), future);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return await(key, valueLoader, existing);
+        }
+
+        try {
+            Object value = valueLoader.call();
+            delegate.put(key, wrap(value));
+            future.complete(value);
+            return value;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(String.valueOf(key), future);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String flightKey = String.valueOf(key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(flightKey, future) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = valueLoader.call();
+                    delegate.put(key, wrap(value));
+                    future.complete(value);
+                    refreshes.increment();
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                    log.warn("Background refresh of cache {} key {} failed", getName(), key, e);
+                } finally {
+                    inFlight.remove(flightKey, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Refresh queue is full; keep serving the current value until its TTL
+            inFlight.remove(flightKey, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private Object wrap(Object value) {
+        if (refreshAfter == null) {
+            return value;
+        }
+        return new CachedValue(value, System.currentTimeMillis() + refreshAfter.toMillis());
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored instanceof CachedValue cachedValue ? cachedValue.getValue() : stored;
+    }
+}
@@ -0,0 +1,87 @@
+package com.company.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps every cache of the delegate manager in a {@link RefreshAheadCache} and
+ * owns the bounded executor used for background refreshes.
+ */
+@Slf4j
+public class RefreshAheadCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheManager delegate;
+    private final Duration refreshAfter;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, RefreshAheadCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param refreshAfter age after which a read triggers a background reload, or
+     *                     {@code null} to only coalesce concurrent loads
+     */
+    public RefreshAheadCacheManager(CacheManager delegate,
+                                    Duration refreshAfter,
+                                    int refreshThreads,
+                                    int refreshQueueCapacity,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.refreshAfter = refreshAfter;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(refreshQueueCapacity),
+                new CustomizableThreadFactory("cache-refresh-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        RefreshAheadCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private RefreshAheadCache createCache(String name, Cache target) {
+        Counter coalescedLoads = Counter.builder("cache.loads.coalesced")
+                .description("Cache misses that waited for another caller's load of the same key")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Counter refreshes = Counter.builder("cache.refreshes")
+                .description("Entries reloaded in the background before expiry")
+                .tag("cache", name)
+                .register(meterRegistry);
+        log.info("Created refresh-ahead cache '{}' (refresh after {})", name, refreshAfter);
+        return new RefreshAheadCache(target, refreshAfter, refreshExecutor, coalescedLoads, refreshes);
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.common.cache.codec;
+
+/**
+ * Hand-written binary layout for one cached type.
+ *
+ * @param <T> the type handled by this codec
+ */
+public interface BinaryCodec<T> {
+
+    Class<T> getType();
+
+    /**
+     * Stable identifier written in front of every value. Never reuse an id for a
+     * different type.
+     */
+    int getTypeId();
+
+    /**
+     * Version of the field layout produced by {@link #write}. Bump it whenever
+     * fields are added, removed or reordered.
+     */
+    int getSchemaVersion();
+
+    void write(BinaryWriter out, T value);
+
+    /**
+     * Reads a value written with the given schema version.
+     *
+     * @return the value, or {@code null} if that version can no longer be read,
+     * in which case the entry is treated as a cache miss
+     */
+    T read(BinaryReader in, int schemaVersion);
+}
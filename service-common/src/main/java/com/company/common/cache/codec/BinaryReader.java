@@ -0,0 +1,105 @@
+package com.company.common.cache.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Reads the fields written by {@link BinaryWriter}. Reading past the end of the
+ * input throws {@link IllegalArgumentException}.
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    int position() {
+        return position;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readVarLong() {
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public Long readLong() {
+        return readBoolean() ? readVarLong() : null;
+    }
+
+    public String readString() {
+        if (!readBoolean()) {
+            return null;
+        }
+        int length = (int) readVarLong();
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        String name = readString();
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    public BigDecimal readDecimal() {
+        if (!readBoolean()) {
+            return null;
+        }
+        int scale = (int) readVarLong();
+        if (readBoolean()) {
+            return BigDecimal.valueOf(readVarLong(), scale);
+        }
+        int length = (int) readVarLong();
+        require(length);
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    public LocalDate readDate() {
+        return readBoolean() ? LocalDate.ofEpochDay(readVarLong()) : null;
+    }
+
+    public LocalDateTime readDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+        long epochSecond = readVarLong();
+        int nano = (int) readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > limit) {
+            throw new IllegalArgumentException("Truncated binary cache value");
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.company.common.cache.codec;
+
+import com.company.common.cache.CachedValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link RedisSerializer} that writes registered DTOs with their {@link BinaryCodec}
+ * instead of polymorphic JSON.
+ *
+ * Layout: {@code magic, format version, flags, type id, schema version, payload}.
+ * When the encoded value reaches the compression threshold, everything after the
+ * flags is deflated and prefixed with its uncompressed length. Values without a
+ * codec, and JSON written before the switch, are handed to the fallback
+ * serializer, so both formats can coexist in Redis.
+ */
+public class CompactBinaryRedisSerializer implements RedisSerializer<Object> {
+
+    static final int MAGIC = 0xCB;
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_DEFLATED = 0x01;
+
+    /**
+     * Reserved type id for the {@link CachedValue} envelope.
+     */
+    static final int CACHED_VALUE_TYPE_ID = 1;
+
+    private final Map<Class<?>, BinaryCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, BinaryCodec<?>> codecsById = new HashMap<>();
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold encoded size in bytes from which values are
+     *                             deflated; {@code 0} disables compression
+     */
+    public CompactBinaryRedisSerializer(Collection<BinaryCodec<?>> codecs,
+                                        RedisSerializer<Object> fallback,
+                                        int compressionThreshold) {
+        for (BinaryCodec<?> codec : codecs) {
+            if (codec.getTypeId() == CACHED_VALUE_TYPE_ID || codecsById.containsKey(codec.getTypeId())) {
+                throw new IllegalArgumentException("Duplicate cache codec type id " + codec.getTypeId());
+            }
+            codecsByType.put(codec.getType(), codec);
+            codecsById.put(codec.getTypeId(), codec);
+        }
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!supports(value)) {
+            return fallback.serialize(value);
+        }
+
+        BinaryWriter body = new BinaryWriter(256);
+        writeValue(body, value);
+
+        if (compressionThreshold <= 0 || body.size() < compressionThreshold) {
+            BinaryWriter result = new BinaryWriter(body.size() + 3);
+            writeHeader(result, 0);
+            result.writeBytes(body.buffer(), 0, body.size());
+            return result.toByteArray();
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body.buffer(), 0, body.size());
+            deflater.finish();
+            BinaryWriter result = new BinaryWriter(body.size() / 2 + 16);
+            writeHeader(result, FLAG_DEFLATED);
+            result.writeVarLong(body.size());
+            byte[] chunk = new byte[512];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                result.writeBytes(chunk, 0, length);
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != FORMAT_VERSION) {
+            // Written by a newer release; treat as a miss so it gets reloaded
+            return null;
+        }
+
+        try {
+            BinaryReader reader = new BinaryReader(bytes, 3, bytes.length - 3);
+            if ((bytes[2] & FLAG_DEFLATED) != 0) {
+                reader = inflate(bytes, reader);
+            }
+            return readValue(reader);
+        } catch (IllegalArgumentException | DataFormatException e) {
+            throw new SerializationException("Could not read binary cache value", e);
+        }
+    }
+
+    private boolean supports(Object value) {
+        if (value instanceof CachedValue cachedValue) {
+            return cachedValue.getValue() != null && codecsByType.containsKey(cachedValue.getValue().getClass());
+        }
+        return value != null && codecsByType.containsKey(value.getClass());
+    }
+
+    private static void writeHeader(BinaryWriter out, int flags) {
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(flags);
+    }
+
+    private static BinaryReader inflate(byte[] bytes, BinaryReader header) throws DataFormatException {
+        int rawLength = (int) header.readVarLong();
+        int offset = header.position();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int length = inflater.inflate(raw, read, rawLength - read);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += length;
+            }
+            return new BinaryReader(raw, 0, read);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(BinaryWriter out, Object value) {
+        if (value instanceof CachedValue cachedValue) {
+            out.writeByte(CACHED_VALUE_TYPE_ID);
+            out.writeVarLong(cachedValue.getRefreshAt());
+            writeValue(out, cachedValue.getValue());
+            return;
+        }
+
+        BinaryCodec<Object> codec = (BinaryCodec<Object>) codecsByType.get(value.getClass());
+        out.writeByte(codec.getTypeId());
+        out.writeByte(codec.getSchemaVersion());
+        codec.write(out, value);
+    }
+
+    private Object readValue(BinaryReader in) {
+        int typeId = in.readByte();
+        if (typeId == CACHED_VALUE_TYPE_ID) {
+            long refreshAt = in.readVarLong();
+            Object value = readValue(in);
+            return value != null ? new CachedValue(value, refreshAt) : null;
+        }
+
+        BinaryCodec<?> codec = codecsById.get(typeId);
+        if (codec == null) {
+            return null;
+        }
+        return codec.read(in, in.readByte());
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.common.config;
+
+import com.company.common.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registered as auto-configuration, so every service that depends on this module
+ * can turn the limiter on with {@code app.connection-limiter.enabled}.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "app.connection-limiter", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ConnectionLimiterProperties.class)
+public class ConnectionLimiterConfig {
+
+    /**
+     * Wraps the Hikari pool, allowing as many connections as the pool's maximum size.
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimiterPostProcessor(ObjectProvider<ConnectionLimiterProperties> properties,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new ConnectionLimitingDataSource(dataSource, dataSource.getMaximumPoolSize(),
+                            properties.getObject(), meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.company.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.connection-limiter")
+public class ConnectionLimiterProperties {
+
+    /**
+     * Whether connections are handed out through the limiter. Meant for virtual
+     * threads, which remove the cap on concurrent requests that the container's
+     * thread pool used to provide.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Callers allowed to wait for a connection once all of the pool's connections
+     * are in use; further callers are refused at once.
+     */
+    private int maxWaiting = 100;
+
+    /**
+     * How long a waiting caller may wait before it is refused. Keep this below
+     * {@code spring.datasource.hikari.connection-timeout}.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
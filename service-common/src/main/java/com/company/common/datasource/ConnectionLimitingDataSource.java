@@ -0,0 +1,130 @@
+package com.company.common.datasource;
+
+import com.company.common.config.ConnectionLimiterProperties;
+import com.company.common.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out at most {@code maxConnections} connections at a time, with at most
+ * {@code max-waiting} callers queued for one.
+ *
+ * With virtual threads nothing caps concurrent requests any more, so under load
+ * every request would park inside the pool until its connection timeout. Here a
+ * caller that finds the queue full is refused at once, and a queued one gives up
+ * after {@code acquire-timeout}, both with {@link DatabaseBusyException}. A
+ * connection's permit is returned when the connection is closed.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public ConnectionLimitingDataSource(DataSource dataSource, int maxConnections,
+                                        ConnectionLimiterProperties properties, MeterRegistry meterRegistry) {
+        super(dataSource);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxWaiting = properties.getMaxWaiting();
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+        Gauge.builder("db.connection.limiter.waiting", waiting, AtomicInteger::get)
+                .description("Callers waiting for a database connection")
+                .register(meterRegistry);
+        this.queueFull = rejected(meterRegistry, "queue-full");
+        this.timedOut = rejected(meterRegistry, "timeout");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            queueFull.increment();
+            throw new DatabaseBusyException("All database connections are in use and " + maxWaiting
+                    + " callers are already waiting");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                timedOut.increment();
+                throw new DatabaseBusyException("No database connection became available within "
+                        + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("db.connection.limiter.rejected")
+                .description("Requests for a database connection refused by the limiter")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.company.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paged listing. Pass {@code nextCursor} back to get the
+ * following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Null unless a total was requested.
+     */
+    private Long totalElements;
+    private boolean totalEstimated;
+
+    /**
+     * How the total of a keyset-paged listing is reported.
+     */
+    public enum TotalMode {
+        /** No total; the cheapest option. */
+        NONE,
+        /** Exact {@code COUNT(*)} on every page. */
+        EXACT,
+        /** Planner statistics where the listing can use them, exact count otherwise. */
+        ESTIMATE
+    }
+}
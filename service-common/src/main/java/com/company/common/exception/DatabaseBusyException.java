@@ -0,0 +1,13 @@
+package com.company.common.exception;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * No database connection could be handed out in time. A {@link java.sql.SQLException}
+ * so that JDBC and JPA callers translate it as they do a pool timeout.
+ */
+public class DatabaseBusyException extends SQLTransientConnectionException {
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.company.common.export;
+
+import java.util.function.Function;
+
+/**
+ * One CSV column: its header and how to read the cell from a row.
+ */
+public record CsvColumn<T>(String header, Function<T, Object> value) {
+}
@@ -0,0 +1,44 @@
+package com.company.common.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One JSON document per line.
+ */
+class NdjsonRowWriter<T> implements RowWriter<T> {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper, Class<T> type) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines are terminated explicitly below, not separated by Jackson
+        this.generator.setRootValueSeparator(null);
+        this.writer = objectMapper.writerFor(type)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        writer.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
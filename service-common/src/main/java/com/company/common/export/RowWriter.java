@@ -0,0 +1,32 @@
+package com.company.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes export rows to a stream one at a time, buffering only what has not
+ * been flushed yet. Closing the writer does not close the stream.
+ */
+public interface RowWriter<T> extends AutoCloseable {
+
+    void write(T row) throws IOException;
+
+    /**
+     * Pushes buffered rows to the client.
+     */
+    void flush() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    static <T> RowWriter<T> open(ExportFormat format, OutputStream out, ObjectMapper objectMapper,
+                                 Class<T> type, List<CsvColumn<T>> columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonRowWriter<>(out, objectMapper, type);
+            case CSV -> new CsvRowWriter<>(out, columns);
+        };
+    }
+}
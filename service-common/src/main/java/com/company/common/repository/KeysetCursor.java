@@ -0,0 +1,69 @@
+package com.company.common.repository;
+
+import com.company.common.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a keyset page: the sort key and direction the
+ * page was read with, and that row's sort value and ID. Clients only see the
+ * {@link #encode() encoded} form and pass it back unchanged.
+ */
+public record KeysetCursor(String sortKey, Sort.Direction direction, long id, String value) {
+
+    private static final String VERSION = "1";
+
+    public String encode() {
+        String raw = String.join("|", VERSION, sortKey, direction.name(), Long.toString(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor a client passed back for a page sorted by {@code sortKey}
+     * in {@code direction}, checking that it was issued for that sort and that
+     * its value is of the sort key's type.
+     *
+     * @throws InvalidCursorException if the token is malformed or belongs to another sort
+     */
+    public static KeysetCursor decode(String token, KeysetSortKey<?> sortKey, Sort.Direction direction) {
+        KeysetCursor cursor = decode(token);
+        if (!cursor.sortKey().equals(sortKey.name()) || cursor.direction() != direction) {
+            throw new InvalidCursorException("Cursor was issued for sort " + cursor.sortKey() + " "
+                    + cursor.direction() + ", not " + sortKey.name() + " " + direction);
+        }
+        cursor.sortValue(sortKey);
+        return cursor;
+    }
+
+    /**
+     * @throws InvalidCursorException if the token was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last so it may itself contain the separator
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[1], Sort.Direction.valueOf(parts[2]), Long.parseLong(parts[3]), parts[4]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    /**
+     * The last row's sort value, read with the sort key's type.
+     *
+     * @throws InvalidCursorException if the value is not of that type
+     */
+    public Comparable<?> sortValue(KeysetSortKey<?> sortKey) {
+        try {
+            return sortKey.parse(value);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
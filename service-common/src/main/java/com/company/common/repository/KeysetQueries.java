@@ -0,0 +1,64 @@
+package com.company.common.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Criteria building blocks for keyset pages ordered by a {@link KeysetSortKey}
+ * with the ID as tie-breaker.
+ */
+public final class KeysetQueries {
+
+    private static final String ID = "id";
+
+    private KeysetQueries() {
+    }
+
+    /**
+     * (key, id) after the cursor's (value, id). The redundant bound on the key
+     * alone lets the database start an index range scan at the cursor.
+     *
+     * @throws com.company.common.exception.InvalidCursorException if the cursor's value does not parse
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Predicate after(CriteriaBuilder cb, Root<T> root, KeysetSortKey<T> sortKey,
+                                      Sort.Direction direction, KeysetCursor cursor) {
+        boolean ascending = direction.isAscending();
+        Path<Long> id = root.get(ID);
+        long lastId = cursor.id();
+        if (ID.equals(sortKey.property())) {
+            return ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        }
+
+        Path<Comparable<Object>> key = root.get(sortKey.property());
+        Comparable<Object> value = (Comparable<Object>) cursor.sortValue(sortKey);
+        if (ascending) {
+            return cb.and(
+                    cb.greaterThanOrEqualTo(key, value),
+                    cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, lastId))));
+        }
+        return cb.and(
+                cb.lessThanOrEqualTo(key, value),
+                cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, lastId))));
+    }
+
+    /**
+     * Orders by the sort key, then by ID, both in the given direction.
+     */
+    public static <T> List<Order> orderBy(CriteriaBuilder cb, Root<T> root, KeysetSortKey<T> sortKey,
+                                          Sort.Direction direction) {
+        boolean ascending = direction.isAscending();
+        Path<Object> id = root.get(ID);
+        if (ID.equals(sortKey.property())) {
+            return List.of(ascending ? cb.asc(id) : cb.desc(id));
+        }
+        Path<Object> key = root.get(sortKey.property());
+        return ascending ? List.of(cb.asc(key), cb.asc(id)) : List.of(cb.desc(key), cb.desc(id));
+    }
+}
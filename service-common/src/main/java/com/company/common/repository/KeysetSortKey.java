@@ -0,0 +1,31 @@
+package com.company.common.repository;
+
+/**
+ * A column rows of {@code T} can be keyset-paged by. Implemented by each
+ * entity's sort key enum; the column must be non-null and, together with the
+ * ID as tie-breaker, backed by an index.
+ */
+public interface KeysetSortKey<T> {
+
+    /**
+     * Sort key name carried in the cursor.
+     */
+    String name();
+
+    /**
+     * Entity attribute the column is mapped to; {@code "id"} pages by ID alone.
+     */
+    String property();
+
+    /**
+     * The row's value of the column, as stored in a cursor.
+     */
+    String valueOf(T row);
+
+    /**
+     * Reads a value written by {@link #valueOf}.
+     *
+     * @throws RuntimeException if the value is not of the column's type
+     */
+    Comparable<?> parse(String value);
+}
@@ -0,0 +1,42 @@
+package com.company.common.config;
+
+import com.company.common.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionLimiterConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectionLimiterConfig.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(DataSource.class, HikariDataSource::new);
+
+    @Test
+    void isRegisteredAsAutoConfiguration() {
+        assertThat(ImportCandidates.load(AutoConfiguration.class, getClass().getClassLoader()))
+                .contains(ConnectionLimiterConfig.class.getName());
+    }
+
+    @Test
+    void wrapsThePoolWhenEnabled() {
+        contextRunner.withPropertyValues("app.connection-limiter.enabled=true")
+                .run(context -> assertThat(context.getBean(DataSource.class))
+                        .isInstanceOf(ConnectionLimitingDataSource.class));
+    }
+
+    @Test
+    void leavesThePoolAloneByDefault() {
+        contextRunner.run(context -> assertThat(context.getBean(DataSource.class))
+                .isInstanceOf(HikariDataSource.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.common.repository;
+
+import com.company.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    enum TestSortKey implements KeysetSortKey<LocalDate> {
+        DAY(LocalDate::parse),
+        YEAR(Long::valueOf);
+
+        private final Function<String, Comparable<?>> parser;
+
+        TestSortKey(Function<String, Comparable<?>> parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public String property() {
+            return name().toLowerCase();
+        }
+
+        @Override
+        public String valueOf(LocalDate row) {
+            return this == DAY ? row.toString() : Integer.toString(row.getYear());
+        }
+
+        @Override
+        public Comparable<?> parse(String value) {
+            return parser.apply(value);
+        }
+    }
+
+    @Test
+    void decodesACursorIssuedForTheSameSort() {
+        String token = new KeysetCursor("DAY", Sort.Direction.ASC, 7L, "2024-01-31").encode();
+
+        KeysetCursor cursor = KeysetCursor.decode(token, TestSortKey.DAY, Sort.Direction.ASC);
+
+        assertThat(cursor.id()).isEqualTo(7L);
+        assertThat(cursor.sortValue(TestSortKey.DAY)).isEqualTo(LocalDate.of(2024, 1, 31));
+    }
+
+    @Test
+    void rejectsACursorIssuedForAnotherSort() {
+        String token = new KeysetCursor("DAY", Sort.Direction.ASC, 7L, "2024-01-31").encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token, TestSortKey.DAY, Sort.Direction.DESC))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(token, TestSortKey.YEAR, Sort.Direction.ASC))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsAWellFormedCursorWithAValueOfTheWrongType() {
+        String badDate = new KeysetCursor("DAY", Sort.Direction.ASC, 7L, "not-a-date").encode();
+        String badNumber = new KeysetCursor("YEAR", Sort.Direction.ASC, 7L, "MMXXIV").encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(badDate, TestSortKey.DAY, Sort.Direction.ASC))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(badNumber, TestSortKey.YEAR, Sort.Direction.ASC))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsATokenThatIsNotACursor() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor", TestSortKey.DAY, Sort.Direction.ASC))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}